@@ -26,6 +26,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // Database
     runtimeOnly("org.postgresql:postgresql")
@@ -62,3 +63,19 @@ tasks.withType<Test> {
         showStandardStreams = true
     }
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// Benchmarks de leitura (ReadProjectionBenchmarkTest): ./gradlew benchmark
+tasks.register<Test>("benchmark") {
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+}
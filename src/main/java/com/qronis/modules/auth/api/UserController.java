@@ -5,11 +5,14 @@ import com.qronis.modules.auth.application.UserService;
 import com.qronis.modules.identity.domain.entity.TenantUser;
 import com.qronis.modules.identity.application.repositories.TenantUserRepository;
 import com.qronis.shared.security.AuthenticatedUser;
+import com.qronis.shared.web.ETags;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -26,13 +29,19 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<UserResponseDTO> me(@AuthenticationPrincipal Jwt jwt) {
+    public ResponseEntity<UserResponseDTO> me(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal Jwt jwt) {
         UUID userId = UUID.fromString(jwt.getSubject());
 
         TenantUser tenantUser = tenantUserRepository.findByUserIdWithUserAndTenant(userId)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
 
-        return ResponseEntity.ok(new UserResponseDTO(
+        // Uma linha por PK: uma query de versão custaria o mesmo que a leitura, então o ETag
+        // sai dos updatedAt já carregados e o 304 economiza apenas serialização e tráfego.
+        String etag = ETags.of(tenantUser.getUpdatedAt(), tenantUser.getUser().getUpdatedAt(),
+                tenantUser.getTenant().getUpdatedAt());
+        return ETags.conditional(ifNoneMatch, etag, () -> new UserResponseDTO(
                 tenantUser.getUser().getId(),
                 tenantUser.getUser().getName(),
                 tenantUser.getUser().getEmail(),
@@ -3,6 +3,8 @@ package com.qronis.modules.identity.application.repositories;
 import com.qronis.modules.identity.domain.entity.User;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -12,4 +14,7 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.timezone FROM User u WHERE u.id = :id")
+    Optional<String> findTimezoneById(@Param("id") UUID id);
 }
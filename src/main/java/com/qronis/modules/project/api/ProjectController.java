@@ -1,20 +1,25 @@
 package com.qronis.modules.project.api;
 
+import com.qronis.modules.project.api.dto.ProjectDeletionResponseDTO;
 import com.qronis.modules.project.api.dto.ProjectRequestDTO;
 import com.qronis.modules.project.api.dto.ProjectResponseDTO;
+import com.qronis.modules.project.api.dto.ProjectSuggestionDTO;
 import com.qronis.modules.project.api.dto.ProjectSummaryResponseDTO;
+import com.qronis.modules.project.application.ProjectDeletionService;
 import com.qronis.modules.project.application.ProjectMapper;
 import com.qronis.modules.project.application.ProjectService;
 import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.project.domain.exception.ProjectNotFoundException;
 import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
-import com.qronis.modules.tracker.application.TimeEntryMapper;
 import com.qronis.modules.tracker.application.TimeEntryService;
-import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.shared.web.ETags;
+import com.qronis.shared.web.ScopeVersion;
 
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -31,32 +36,51 @@ public class ProjectController {
     private final ProjectService projectService;
     private final ProjectMapper projectMapper;
     private final TimeEntryService timeEntryService;
-    private final TimeEntryMapper timeEntryMapper;
+    private final ProjectDeletionService projectDeletionService;
 
     public ProjectController(ProjectService projectService, ProjectMapper projectMapper,
-            TimeEntryService timeEntryService, TimeEntryMapper timeEntryMapper) {
+            TimeEntryService timeEntryService, ProjectDeletionService projectDeletionService) {
         this.projectService = projectService;
         this.projectMapper = projectMapper;
         this.timeEntryService = timeEntryService;
-        this.timeEntryMapper = timeEntryMapper;
+        this.projectDeletionService = projectDeletionService;
     }
 
     @GetMapping
     public ResponseEntity<Page<ProjectResponseDTO>> list(
             @RequestParam(name = "name", required = false) String name,
             @PageableDefault(size = 20, sort = "createdAt") Pageable pageable,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal Jwt jwt) {
         UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
-        Page<Project> projects = projectService.findByTenantId(tenantId, name, pageable);
-        return ResponseEntity.ok(projects.map(projectMapper::toResponse));
+        ScopeVersion version = projectService.getProjectsVersion(tenantId);
+        String etag = ETags.of(version.count(), version.lastUpdatedAt(), name, pageable);
+        return ETags.conditional(ifNoneMatch, etag, () -> projectService.findByTenantId(tenantId, name, pageable));
+    }
+
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<ProjectSuggestionDTO>> typeahead(
+            @RequestParam(name = "q", required = false) String query,
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        return ResponseEntity.ok(projectService.suggest(tenantId, query, limit));
+    }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<List<ProjectSummaryResponseDTO>> listSummaries(
+            @RequestParam(name = "ids", required = false) List<UUID> ids,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(projectService.getProjectSummaries(tenantId, userId, ids));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ProjectResponseDTO> getById(@PathVariable UUID id,
             @AuthenticationPrincipal Jwt jwt) {
         UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
-        Project project = projectService.findByIdAndTenantId(id, tenantId);
-        return ResponseEntity.ok(projectMapper.toResponse(project));
+        return ResponseEntity.ok(projectService.findResponseByIdAndTenantId(id, tenantId));
     }
 
     @PostMapping
@@ -78,19 +102,26 @@ public class ProjectController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable UUID id,
+    public ResponseEntity<ProjectDeletionResponseDTO> delete(@PathVariable UUID id,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        ProjectDeletionResponseDTO deletion = projectService.delete(id, tenantId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(deletion);
+    }
+
+    @GetMapping("/{id}/deletion")
+    public ResponseEntity<ProjectDeletionResponseDTO> getDeletion(@PathVariable UUID id,
             @AuthenticationPrincipal Jwt jwt) {
         UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
-        projectService.delete(id, tenantId);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.ok(projectDeletionService.findStatus(id, tenantId)
+                .orElseThrow(() -> new ProjectNotFoundException(id.toString())));
     }
 
     @GetMapping("/{id}/time-entries")
     public ResponseEntity<List<TimeEntryResponseDTO>> listTimeEntries(@PathVariable UUID id,
             @AuthenticationPrincipal Jwt jwt) {
         UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
-        List<TimeEntry> entries = timeEntryService.findByProjectId(id, tenantId);
-        return ResponseEntity.ok(timeEntryMapper.toResponseList(entries));
+        return ResponseEntity.ok(timeEntryService.findByProjectId(id, tenantId));
     }
 
     @GetMapping("/{id}/summary")
@@ -0,0 +1,15 @@
+package com.qronis.modules.project.api.dto;
+
+import com.qronis.modules.project.domain.enums.ProjectDeletionStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ProjectDeletionResponseDTO(
+        UUID projectId,
+        ProjectDeletionStatus status,
+        long totalEntries,
+        long deletedEntries,
+        Instant requestedAt,
+        Instant finishedAt) {
+}
@@ -0,0 +1,8 @@
+package com.qronis.modules.project.api.dto;
+
+import java.util.UUID;
+
+public record ProjectSuggestionDTO(
+        UUID id,
+        String name) {
+}
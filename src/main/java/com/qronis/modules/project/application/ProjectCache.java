@@ -0,0 +1,231 @@
+package com.qronis.modules.project.application;
+
+import com.qronis.modules.identity.domain.entity.Tenant;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.shared.cache.BoundedCache;
+import com.qronis.shared.transaction.AfterCommit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache de projetos particionado por tenant: projetos por id e a lista completa do tenant.
+ *
+ * Guarda cópias imutáveis (id, nome, tenant, criador e datas) e devolve uma entidade nova a cada
+ * leitura, desanexada da sessão: serve como referência de {@code TimeEntry.project} e pode ser
+ * alterada pelo chamador sem afetar o cache. Quem precisa da entidade gerenciada (update, delete)
+ * vai direto ao repository.
+ *
+ * Cada entrada vale {@link #TTL}. Por tenant cabem {@link #MAX_PROJECTS_PER_TENANT} projetos (sai o
+ * de acesso mais antigo) e, acima de {@link #MAX_TENANTS}, sai o tenant de acesso mais antigo.
+ * create/update/delete invalidam o tenant após o commit; uma carga que cruzou uma invalidação não
+ * é publicada.
+ *
+ * Métricas (Micrometer):
+ * - {@code qronis.project.cache.gets}: leituras por {@code result} ({@code hit}/{@code miss})
+ * - {@code qronis.project.cache.evictions}: entradas removidas por {@code cause}
+ *   ({@code size}/{@code expired}/{@code invalidated})
+ * - {@code qronis.project.cache.tenants}: tenants no cache
+ */
+@Component
+public class ProjectCache {
+
+    static final Duration TTL = Duration.ofMinutes(5);
+    static final int MAX_TENANTS = 10_000;
+    static final int MAX_PROJECTS_PER_TENANT = 500;
+
+    private static final String METRIC_GETS = "qronis.project.cache.gets";
+    private static final String METRIC_EVICTIONS = "qronis.project.cache.evictions";
+    private static final String METRIC_TENANTS = "qronis.project.cache.tenants";
+
+    private final BoundedCache<UUID, TenantProjects> projectsByTenant;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidatedEvictions;
+
+    public ProjectCache(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter(METRIC_GETS, "result", "hit");
+        this.misses = meterRegistry.counter(METRIC_GETS, "result", "miss");
+        this.sizeEvictions = meterRegistry.counter(METRIC_EVICTIONS, "cause", "size");
+        this.expiredEvictions = meterRegistry.counter(METRIC_EVICTIONS, "cause", "expired");
+        this.invalidatedEvictions = meterRegistry.counter(METRIC_EVICTIONS, "cause", "invalidated");
+        this.projectsByTenant = BoundedCache.strongValues(MAX_TENANTS,
+                (tenantId, partition) -> sizeEvictions.increment(partition.size()));
+        Gauge.builder(METRIC_TENANTS, projectsByTenant, BoundedCache::size).register(meterRegistry);
+    }
+
+    /** Projeto do tenant, do cache ou de {@code loader}; ausências não são guardadas. */
+    public Optional<Project> find(UUID tenantId, UUID projectId, Supplier<Optional<Project>> loader) {
+        Snapshot cached = partition(tenantId).get(projectId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached.toProject());
+        }
+        misses.increment();
+
+        long generation = invalidations.get();
+        Optional<Project> loaded = loader.get();
+        loaded.ifPresent(project -> partition(tenantId).put(Snapshot.of(project), generation));
+        return loaded.map(project -> Snapshot.of(project).toProject());
+    }
+
+    /** Projetos do tenant entre os ids; os que faltam no cache vêm de uma única chamada a {@code loader}. */
+    public List<Project> findAll(UUID tenantId, Collection<UUID> projectIds,
+            Function<Collection<UUID>, List<Project>> loader) {
+        TenantProjects partition = partition(tenantId);
+        List<Project> found = new ArrayList<>(projectIds.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID projectId : projectIds) {
+            Snapshot cached = partition.get(projectId);
+            if (cached != null) {
+                hits.increment();
+                found.add(cached.toProject());
+            } else {
+                misses.increment();
+                missing.add(projectId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        long generation = invalidations.get();
+        for (Project project : loader.apply(missing)) {
+            Snapshot snapshot = Snapshot.of(project);
+            partition(tenantId).put(snapshot, generation);
+            found.add(snapshot.toProject());
+        }
+        return found;
+    }
+
+    /** Lista completa do tenant, na ordem de {@code loader}. */
+    public List<Project> findAll(UUID tenantId, Supplier<List<Project>> loader) {
+        List<Snapshot> cached = partition(tenantId).list();
+        if (cached != null) {
+            hits.increment();
+            return cached.stream().map(Snapshot::toProject).toList();
+        }
+        misses.increment();
+
+        long generation = invalidations.get();
+        List<Snapshot> loaded = loader.get().stream().map(Snapshot::of).toList();
+        partition(tenantId).putList(loaded, generation);
+        return loaded.stream().map(Snapshot::toProject).toList();
+    }
+
+    /** Descarta o tenant após o commit da transação corrente (ou na hora, fora de transação). */
+    public void invalidate(UUID tenantId) {
+        AfterCommit.run(() -> {
+            invalidations.incrementAndGet();
+            TenantProjects removed = projectsByTenant.remove(tenantId);
+            if (removed != null) {
+                invalidatedEvictions.increment(removed.size());
+            }
+        });
+    }
+
+    private TenantProjects partition(UUID tenantId) {
+        return projectsByTenant.computeIfAbsent(tenantId, key -> new TenantProjects());
+    }
+
+    private record Snapshot(UUID id, String name, UUID tenantId, UUID createdById, String createdByName,
+            Instant createdAt, Instant updatedAt, long expiresAt) {
+
+        static Snapshot of(Project project) {
+            User createdBy = project.getCreatedBy();
+            return new Snapshot(project.getId(), project.getName(), project.getTenant().getId(),
+                    createdBy.getId(), createdBy.getName(), project.getCreatedAt(), project.getUpdatedAt(),
+                    System.nanoTime() + TTL.toNanos());
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        Project toProject() {
+            Tenant tenant = new Tenant();
+            tenant.setId(tenantId);
+            User createdBy = new User();
+            createdBy.setId(createdById);
+            createdBy.setName(createdByName);
+
+            Project project = new Project(name, tenant, createdBy);
+            project.setId(id);
+            project.setCreatedAt(createdAt);
+            project.setUpdatedAt(updatedAt);
+            return project;
+        }
+    }
+
+    /** Partição de um tenant: LRU de projetos (ordem de acesso do LinkedHashMap) e a lista completa. */
+    private final class TenantProjects {
+
+        private final LinkedHashMap<UUID, Snapshot> byId = new LinkedHashMap<>(16, 0.75f, true);
+        private List<Snapshot> list;
+        private long listExpiresAt;
+
+        synchronized Snapshot get(UUID projectId) {
+            long now = System.nanoTime();
+            Snapshot snapshot = byId.get(projectId);
+            if (snapshot != null && snapshot.isExpired(now)) {
+                byId.remove(projectId);
+                expiredEvictions.increment();
+                return null;
+            }
+            return snapshot;
+        }
+
+        synchronized List<Snapshot> list() {
+            long now = System.nanoTime();
+            if (list != null && now - listExpiresAt >= 0) {
+                list = null;
+                expiredEvictions.increment();
+            }
+            return list;
+        }
+
+        synchronized void put(Snapshot snapshot, long generation) {
+            if (invalidations.get() != generation) {
+                return;
+            }
+            byId.put(snapshot.id(), snapshot);
+            if (byId.size() > MAX_PROJECTS_PER_TENANT) {
+                byId.pollFirstEntry();
+                sizeEvictions.increment();
+            }
+        }
+
+        synchronized void putList(List<Snapshot> snapshots, long generation) {
+            if (invalidations.get() != generation) {
+                return;
+            }
+            list = snapshots;
+            listExpiresAt = System.nanoTime() + TTL.toNanos();
+            // A lista já traz cada projeto: aproveita para aquecer a busca por id
+            snapshots.stream().limit(MAX_PROJECTS_PER_TENANT).forEach(snapshot -> byId.put(snapshot.id(), snapshot));
+        }
+
+        synchronized int size() {
+            return byId.size() + (list != null ? 1 : 0);
+        }
+    }
+}
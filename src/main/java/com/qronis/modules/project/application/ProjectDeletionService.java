@@ -0,0 +1,222 @@
+package com.qronis.modules.project.application;
+
+import com.qronis.modules.project.api.dto.ProjectDeletionResponseDTO;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.project.domain.enums.ProjectDeletionStatus;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.tracker.application.TimerEventRegistry;
+import com.qronis.modules.tracker.application.TimerEventType;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Exclusão de projetos em duas etapas, para não apagar centenas de milhares de entries em um único
+ * {@code DELETE} em cascata na thread da requisição.
+ *
+ * {@link #start} roda na transação do {@code ProjectService.delete}: com o projeto já marcado
+ * ({@code deleting_at}), encerra os timers ativos, descarta o rollup diário do projeto e registra o
+ * progresso em {@code project_deletion}. Daí em diante o projeto não aparece nas consultas.
+ *
+ * O worker ({@link #purge}) apaga as entries em lotes de {@value #BATCH_SIZE}, cada lote na sua
+ * própria transação. O {@code FOR UPDATE SKIP LOCKED} pula linhas travadas por uma escrita
+ * concorrente (e por outra instância rodando o worker) em vez de esperar por elas. Quando não sobra
+ * nada (conferido sem {@code SKIP LOCKED}), o projeto sai da tabela; o que escapou aos lotes ainda
+ * cai na cascata da FK.
+ *
+ * Entries já no arquivo frio ficam nos segmentos: o {@code TimeEntryArchive} só devolve entries
+ * de projetos existentes e não marcados.
+ */
+@Service
+public class ProjectDeletionService {
+
+    static final int BATCH_SIZE = 5_000;
+    static final int MAX_BATCHES_PER_RUN = 20;
+    static final Duration RETENTION = Duration.ofDays(7);
+
+    // Timers ativos saem na hora, como na exclusão síncrona: são no máximo um por membro
+    private static final String STOP_ACTIVE_SQL = """
+            DELETE FROM time_entry te
+            USING time_entry_active a
+            WHERE a.time_entry_id = te.id AND te.project_id = :projectId
+            RETURNING te.id, te.created_by, te.description, te.start_time, te.created_at
+            """;
+
+    // Relatórios, heatmap e resumos leem o rollup: sem as linhas, o projeto sai dos totais na hora
+    private static final String DELETE_ROLLUP_SQL = """
+            DELETE FROM time_entry_daily_rollup WHERE tenant_id = :tenantId AND project_id = :projectId
+            """;
+
+    private static final String COUNT_ENTRIES_SQL = "SELECT count(*) FROM time_entry WHERE project_id = :projectId";
+
+    private static final String INSERT_DELETION_SQL = """
+            INSERT INTO project_deletion (project_id, tenant_id, total_entries, requested_at)
+            VALUES (:projectId, :tenantId, :totalEntries, :requestedAt)
+            ON CONFLICT (project_id) DO NOTHING
+            """;
+
+    private static final String PENDING_SQL = """
+            SELECT project_id FROM project_deletion WHERE finished_at IS NULL ORDER BY requested_at
+            """;
+
+    private static final String DELETE_BATCH_SQL = """
+            DELETE FROM time_entry
+            WHERE (id, start_time) IN (
+                SELECT id, start_time FROM time_entry
+                WHERE project_id = :projectId
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            """;
+
+    private static final String PROGRESS_SQL = """
+            UPDATE project_deletion SET deleted_entries = deleted_entries + :deleted WHERE project_id = :projectId
+            """;
+
+    // Sem SKIP LOCKED: um lote vazio pode ser só linhas travadas por outra transação
+    private static final String HAS_ENTRIES_SQL = """
+            SELECT EXISTS (SELECT 1 FROM time_entry WHERE project_id = :projectId)
+            """;
+
+    private static final String DELETE_PROJECT_SQL = "DELETE FROM project WHERE id = :projectId";
+
+    private static final String FINISH_SQL = """
+            UPDATE project_deletion SET finished_at = :now WHERE project_id = :projectId AND finished_at IS NULL
+            """;
+
+    private static final String CLEANUP_SQL = "DELETE FROM project_deletion WHERE finished_at < :cutoff";
+
+    private static final String STATUS_SQL = """
+            SELECT project_id, total_entries, deleted_entries, requested_at, finished_at
+            FROM project_deletion
+            WHERE project_id = :projectId AND tenant_id = :tenantId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TimerEventRegistry timerEventRegistry;
+
+    public ProjectDeletionService(NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, TimerEventRegistry timerEventRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timerEventRegistry = timerEventRegistry;
+    }
+
+    /** Registra a exclusão do projeto já marcado; roda na transação de quem marcou. */
+    public ProjectDeletionResponseDTO start(Project project) {
+        UUID tenantId = project.getTenant().getId();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", project.getId())
+                .addValue("tenantId", tenantId)
+                .addValue("requestedAt", project.getDeletingAt().atOffset(ZoneOffset.UTC));
+        // Os donos dos timers podem ser outros membros: o stream SSE deles recebe o DELETED após o commit
+        jdbcTemplate.query(STOP_ACTIVE_SQL, params, (rs, rowNum) -> stoppedTimer(rs, project))
+                .forEach(entry -> timerEventRegistry.publish(entry.getCreatedBy().getId(), TimerEventType.DELETED,
+                        entry));
+        jdbcTemplate.update(DELETE_ROLLUP_SQL, params);
+        long total = jdbcTemplate.queryForObject(COUNT_ENTRIES_SQL, params, Long.class);
+        jdbcTemplate.update(INSERT_DELETION_SQL, params.addValue("totalEntries", total));
+        return new ProjectDeletionResponseDTO(project.getId(), ProjectDeletionStatus.IN_PROGRESS, total, 0,
+                project.getDeletingAt(), null);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ProjectDeletionResponseDTO> findStatus(UUID projectId, UUID tenantId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("tenantId", tenantId);
+        return jdbcTemplate.query(STATUS_SQL, params, (rs, rowNum) -> {
+            OffsetDateTime finishedAt = rs.getObject("finished_at", OffsetDateTime.class);
+            return new ProjectDeletionResponseDTO(
+                    rs.getObject("project_id", UUID.class),
+                    finishedAt != null ? ProjectDeletionStatus.DONE : ProjectDeletionStatus.IN_PROGRESS,
+                    rs.getLong("total_entries"),
+                    rs.getLong("deleted_entries"),
+                    rs.getObject("requested_at", OffsetDateTime.class).toInstant(),
+                    finishedAt != null ? finishedAt.toInstant() : null);
+        }).stream().findFirst();
+    }
+
+    @Scheduled(fixedDelayString = "PT5S")
+    public void purgeScheduled() {
+        purge(Instant.now());
+    }
+
+    /**
+     * Apaga até {@value #MAX_BATCHES_PER_RUN} lotes das exclusões pendentes, da mais antiga para a
+     * mais nova, e devolve quantas entries saíram. O limite por rodada deixa o agendador livre para
+     * as outras tarefas; o que sobrar fica para a próxima.
+     */
+    public long purge(Instant now) {
+        MapSqlParameterSource cleanup = new MapSqlParameterSource()
+                .addValue("cutoff", now.minus(RETENTION).atOffset(ZoneOffset.UTC));
+        jdbcTemplate.update(CLEANUP_SQL, cleanup);
+
+        List<UUID> pending = jdbcTemplate.queryForList(PENDING_SQL, new MapSqlParameterSource(), UUID.class);
+        long purged = 0;
+        int batches = 0;
+        for (UUID projectId : pending) {
+            while (batches < MAX_BATCHES_PER_RUN) {
+                batches++;
+                int deleted = transactionTemplate.execute(status -> deleteBatch(projectId, now));
+                purged += deleted;
+                if (deleted == 0) {
+                    break;
+                }
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * Um lote do projeto; sem linhas a apagar, remove o projeto e encerra a exclusão. Se o lote
+     * voltou vazio só porque as linhas restantes estão travadas, o projeto fica para a próxima
+     * rodada: apagá-lo agora levaria a cascata da FK a esperar por esses locks.
+     */
+    private int deleteBatch(UUID projectId, Instant now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("limit", BATCH_SIZE)
+                .addValue("now", now.atOffset(ZoneOffset.UTC));
+        int deleted = jdbcTemplate.update(DELETE_BATCH_SQL, params);
+        if (deleted > 0) {
+            jdbcTemplate.update(PROGRESS_SQL, params.addValue("deleted", deleted));
+            return deleted;
+        }
+        if (jdbcTemplate.queryForObject(HAS_ENTRIES_SQL, params, Boolean.class)) {
+            return 0;
+        }
+        jdbcTemplate.update(DELETE_PROJECT_SQL, params);
+        jdbcTemplate.update(FINISH_SQL, params);
+        return 0;
+    }
+
+    private static TimeEntry stoppedTimer(ResultSet rs, Project project) throws SQLException {
+        User owner = new User();
+        owner.setId(rs.getObject("created_by", UUID.class));
+        TimeEntry entry = new TimeEntry();
+        entry.setId(rs.getObject("id", UUID.class));
+        entry.setProject(project);
+        entry.setCreatedBy(owner);
+        entry.setDescription(rs.getString("description"));
+        entry.setStartTime(rs.getObject("start_time", OffsetDateTime.class).toInstant());
+        entry.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class).toInstant());
+        return entry;
+    }
+}
@@ -0,0 +1,13 @@
+package com.qronis.modules.project.application;
+
+import java.util.UUID;
+
+/**
+ * Projeção do total lançado por projeto, lida do rollup diário em uma única query agrupada.
+ */
+public interface ProjectDurationTotal {
+
+    UUID getProjectId();
+
+    Long getTotalDurationSeconds();
+}
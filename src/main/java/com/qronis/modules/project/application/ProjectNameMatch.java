@@ -0,0 +1,13 @@
+package com.qronis.modules.project.application;
+
+import java.util.UUID;
+
+/**
+ * Projeção do typeahead de projetos: só id e nome, lidos pelo índice de trigramas.
+ */
+public interface ProjectNameMatch {
+
+    UUID getId();
+
+    String getName();
+}
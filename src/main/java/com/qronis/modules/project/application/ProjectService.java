@@ -1,45 +1,126 @@
 package com.qronis.modules.project.application;
 
+import com.qronis.modules.project.api.dto.ProjectDeletionResponseDTO;
+import com.qronis.modules.project.api.dto.ProjectResponseDTO;
+import com.qronis.modules.project.api.dto.ProjectSuggestionDTO;
 import com.qronis.modules.project.api.dto.ProjectSummaryResponseDTO;
 import com.qronis.modules.project.domain.entity.Project;
 import com.qronis.modules.project.domain.exception.ProjectNotFoundException;
 import com.qronis.modules.project.application.repositories.ProjectRepository;
 import com.qronis.modules.identity.domain.entity.Tenant;
 import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.tracker.application.ActiveTimerRegistry;
+import com.qronis.modules.tracker.application.DescriptionSuggestionCache;
+import com.qronis.modules.tracker.application.TimeEntryAnalyticsService;
 import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
+import com.qronis.shared.web.ScopeVersion;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class ProjectService {
 
+    private static final int MAX_SUMMARY_IDS = 100;
+    static final int MAX_SUGGESTIONS = 20;
+    static final int MAX_SUGGESTION_QUERY_LENGTH = 100;
+
     private final ProjectRepository projectRepository;
     private final TimeEntryRepository timeEntryRepository;
+    private final ActiveTimerRegistry activeTimerRegistry;
+    private final DescriptionSuggestionCache suggestionCache;
+    private final TimeEntryAnalyticsService analyticsService;
+    private final ProjectCache projectCache;
+    private final ProjectDeletionService deletionService;
 
-    public ProjectService(ProjectRepository projectRepository, TimeEntryRepository timeEntryRepository) {
+    public ProjectService(ProjectRepository projectRepository, TimeEntryRepository timeEntryRepository,
+            ActiveTimerRegistry activeTimerRegistry, DescriptionSuggestionCache suggestionCache,
+            TimeEntryAnalyticsService analyticsService, ProjectCache projectCache,
+            ProjectDeletionService deletionService) {
         this.projectRepository = projectRepository;
         this.timeEntryRepository = timeEntryRepository;
+        this.activeTimerRegistry = activeTimerRegistry;
+        this.suggestionCache = suggestionCache;
+        this.analyticsService = analyticsService;
+        this.projectCache = projectCache;
+        this.deletionService = deletionService;
+    }
+
+    /** Listagem paginada; com {@code name}, filtra por trecho do nome sem diferenciar maiúsculas. */
+    @Transactional(readOnly = true)
+    public Page<ProjectResponseDTO> findByTenantId(UUID tenantId, String name, Pageable pageable) {
+        if (name == null || name.isBlank()) {
+            return projectRepository.findResponsesByTenantId(tenantId, pageable);
+        }
+        return projectRepository.findResponsesByTenantIdAndNameLike(tenantId, "%" + escapeLike(name) + "%", pageable);
     }
 
-    public Page<Project> findByTenantId(UUID tenantId, String name, Pageable pageable) {
-        return projectRepository.findByTenantIdWithCreator(tenantId, name, pageable);
+    /**
+     * Até {@code limit} projetos para o typeahead: nomes que começam com o termo, depois os que o
+     * contêm ou se parecem com ele (similaridade de trigramas). Não conta o total.
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectSuggestionDTO> suggest(UUID tenantId, String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Informe o texto da busca");
+        }
+        if (query.length() > MAX_SUGGESTION_QUERY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Texto da busca deve ter no máximo " + MAX_SUGGESTION_QUERY_LENGTH + " caracteres");
+        }
+        String term = query.strip();
+        String escaped = escapeLike(term);
+        return projectRepository.findNameMatchesByTenantId(tenantId, term, "%" + escaped + "%", escaped + "%",
+                        Math.clamp(limit, 1, MAX_SUGGESTIONS))
+                .stream()
+                .map(match -> new ProjectSuggestionDTO(match.getId(), match.getName()))
+                .toList();
     }
 
+    /** Projetos do tenant via {@link ProjectCache}: cópias desanexadas, não gravar por elas. */
     public List<Project> findByTenantId(UUID tenantId) {
-        return projectRepository.findByTenantIdWithCreator(tenantId);
+        return projectCache.findAll(tenantId, () -> projectRepository.findByTenantIdWithCreator(tenantId));
     }
 
+    /** Projeto do tenant via {@link ProjectCache}: cópia desanexada, serve como referência. */
     public Project findByIdAndTenantId(UUID id, UUID tenantId) {
-        return projectRepository.findByIdAndTenantIdWithCreator(id, tenantId)
+        return projectCache.find(tenantId, id, () -> projectRepository.findByIdAndTenantIdWithCreator(id, tenantId))
                 .orElseThrow(() -> new ProjectNotFoundException(id.toString()));
     }
 
+    /** Versão da listagem de projetos do tenant, para o ETag. */
+    public ScopeVersion getProjectsVersion(UUID tenantId) {
+        return projectRepository.findVersionByTenantId(tenantId);
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectResponseDTO findResponseByIdAndTenantId(UUID id, UUID tenantId) {
+        return projectRepository.findResponseByIdAndTenantId(id, tenantId)
+                .orElseThrow(() -> new ProjectNotFoundException(id.toString()));
+    }
+
+    /** Garante que o projeto pertence ao tenant sem carregar a entidade. */
+    public void requireInTenant(UUID id, UUID tenantId) {
+        if (!projectRepository.existsByIdAndTenantId(id, tenantId)) {
+            throw new ProjectNotFoundException(id.toString());
+        }
+    }
+
+    /** Projetos do tenant entre os ids informados; ids de outro tenant são omitidos. */
+    public List<Project> findAllByIdsAndTenantId(Collection<UUID> ids, UUID tenantId) {
+        return projectCache.findAll(tenantId, ids,
+                missing -> projectRepository.findAllByIdInAndTenantIdWithCreator(missing, tenantId));
+    }
+
     @Transactional
     public Project create(String name, UUID tenantId, UUID userId) {
         Tenant tenant = new Tenant();
@@ -49,25 +130,75 @@ public class ProjectService {
         user.setId(userId);
 
         Project project = new Project(name, tenant, user);
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        projectCache.invalidate(tenantId);
+        return saved;
     }
 
     @Transactional
     public Project update(UUID id, UUID tenantId, String name) {
-        Project project = findByIdAndTenantId(id, tenantId);
+        Project project = findManagedByIdAndTenantId(id, tenantId);
         project.setName(name);
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        activeTimerRegistry.renameProject(id, name);
+        projectCache.invalidate(tenantId);
+        return saved;
     }
 
+    /**
+     * Marca o projeto para exclusão e o esconde na hora; as entries saem em lotes pelo
+     * {@link ProjectDeletionService}. O progresso fica em {@link ProjectDeletionService#findStatus}.
+     */
     @Transactional
-    public void delete(UUID id, UUID tenantId) {
-        Project project = findByIdAndTenantId(id, tenantId);
-        projectRepository.delete(project);
+    public ProjectDeletionResponseDTO delete(UUID id, UUID tenantId) {
+        Project project = findManagedByIdAndTenantId(id, tenantId);
+        project.setDeletingAt(Instant.now());
+        projectRepository.save(project);
+        ProjectDeletionResponseDTO deletion = deletionService.start(project);
+        activeTimerRegistry.unregisterByProjectId(id);
+        suggestionCache.removeProject(id);
+        analyticsService.removeProject(tenantId, id);
+        projectCache.invalidate(tenantId);
+        return deletion;
     }
 
     public ProjectSummaryResponseDTO getProjectSummary(UUID projectId, UUID tenantId, UUID userId) {
         findByIdAndTenantId(projectId, tenantId);
-        Long totalSeconds = timeEntryRepository.sumDurationSecondsByProjectIdAndUserId(projectId, userId);
+        Long totalSeconds = timeEntryRepository.sumDurationSecondsByTenantIdAndProjectIdAndUserId(
+                tenantId, projectId, userId);
         return new ProjectSummaryResponseDTO(projectId, totalSeconds != null ? totalSeconds : 0L);
     }
+
+    /** Minúsculas, como {@code LOWER(name)}, e curingas do LIKE escapados ({@code ESCAPE '\'} nas queries). */
+    private static String escapeLike(String text) {
+        return text.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    /** Entidade gerenciada, sem passar pelo cache: para quem altera o projeto. */
+    private Project findManagedByIdAndTenantId(UUID id, UUID tenantId) {
+        return projectRepository.findByIdAndTenantIdWithCreator(id, tenantId)
+                .orElseThrow(() -> new ProjectNotFoundException(id.toString()));
+    }
+
+    /**
+     * Totais do usuário para vários projetos (ou todo o tenant, quando {@code ids} é vazio)
+     * em uma única query agrupada sobre o rollup diário. Ids de outro tenant são ignorados.
+     */
+    public List<ProjectSummaryResponseDTO> getProjectSummaries(UUID tenantId, UUID userId, List<UUID> ids) {
+        List<ProjectDurationTotal> totals;
+        if (ids == null || ids.isEmpty()) {
+            totals = projectRepository.sumDurationSecondsByTenantId(tenantId, userId);
+        } else {
+            if (ids.size() > MAX_SUMMARY_IDS) {
+                throw new IllegalArgumentException("Máximo de " + MAX_SUMMARY_IDS + " projetos por consulta");
+            }
+            totals = projectRepository.sumDurationSecondsByTenantIdAndIdIn(tenantId, userId, Set.copyOf(ids));
+        }
+        return totals.stream()
+                .map(total -> new ProjectSummaryResponseDTO(total.getProjectId(), total.getTotalDurationSeconds()))
+                .toList();
+    }
 }
@@ -1,6 +1,10 @@
 package com.qronis.modules.project.application.repositories;
 
+import com.qronis.modules.project.api.dto.ProjectResponseDTO;
+import com.qronis.modules.project.application.ProjectDurationTotal;
+import com.qronis.modules.project.application.ProjectNameMatch;
 import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.shared.web.ScopeVersion;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,26 +13,110 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
+    // Projeções de leitura: tenant só pela FK e apenas o nome do criador (sem hash de senha).
+    // Listagem paginada em duas consultas: sem filtro, nada de LIKE; com filtro, LOWER(name) LIKE :pattern
+    // usa o GIN de trigramas (V10). :pattern chega pronto do service, com curingas e escapes.
+
+    @Query(value = """
+            SELECT new com.qronis.modules.project.api.dto.ProjectResponseDTO(
+                p.id, p.name, p.tenant.id, u.name, p.createdAt)
+            FROM Project p JOIN p.createdBy u
+            WHERE p.tenant.id = :tenantId AND p.deletingAt IS NULL
+            """, countQuery = """
+            SELECT COUNT(p) FROM Project p
+            WHERE p.tenant.id = :tenantId AND p.deletingAt IS NULL
+            """)
+    Page<ProjectResponseDTO> findResponsesByTenantId(@Param("tenantId") UUID tenantId, Pageable pageable);
+
     @Query(value = """
-            SELECT p FROM Project p JOIN FETCH p.createdBy
-            WHERE p.tenant.id = :tenantId
-            AND LOWER(p.name) LIKE LOWER(CONCAT('%', COALESCE(:name, p.name), '%'))
+            SELECT new com.qronis.modules.project.api.dto.ProjectResponseDTO(
+                p.id, p.name, p.tenant.id, u.name, p.createdAt)
+            FROM Project p JOIN p.createdBy u
+            WHERE p.tenant.id = :tenantId AND p.deletingAt IS NULL
+            AND LOWER(p.name) LIKE :pattern ESCAPE '\\'
             """, countQuery = """
             SELECT COUNT(p) FROM Project p
-            WHERE p.tenant.id = :tenantId
-            AND LOWER(p.name) LIKE LOWER(CONCAT('%', COALESCE(:name, p.name), '%'))
+            WHERE p.tenant.id = :tenantId AND p.deletingAt IS NULL
+            AND LOWER(p.name) LIKE :pattern ESCAPE '\\'
+            """)
+    Page<ProjectResponseDTO> findResponsesByTenantIdAndNameLike(@Param("tenantId") UUID tenantId,
+            @Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Typeahead: até {@code limit} projetos cujo nome contém o termo ({@code :pattern}) ou se parece
+     * com ele ({@code <%}, similaridade por palavra do pg_trgm). Prefixos vêm primeiro, depois a
+     * similaridade. Sem contagem: o cliente só quer as primeiras sugestões.
+     */
+    @Query(value = """
+            SELECT p.id AS "id", p.name AS "name"
+            FROM project p
+            WHERE p.tenant_id = CAST(:tenantId AS uuid) AND p.deleting_at IS NULL
+              AND (lower(p.name) LIKE :pattern ESCAPE '\\' OR lower(:term) <% lower(p.name))
+            ORDER BY lower(p.name) LIKE :prefix ESCAPE '\\' DESC,
+                     word_similarity(lower(:term), lower(p.name)) DESC,
+                     p.name
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ProjectNameMatch> findNameMatchesByTenantId(@Param("tenantId") UUID tenantId, @Param("term") String term,
+            @Param("pattern") String pattern, @Param("prefix") String prefix, @Param("limit") int limit);
+
+    @Query("""
+            SELECT new com.qronis.modules.project.api.dto.ProjectResponseDTO(
+                p.id, p.name, p.tenant.id, u.name, p.createdAt)
+            FROM Project p JOIN p.createdBy u
+            WHERE p.id = :id AND p.tenant.id = :tenantId AND p.deletingAt IS NULL
             """)
-    Page<Project> findByTenantIdWithCreator(@Param("tenantId") UUID tenantId, @Param("name") String name,
-            Pageable pageable);
+    Optional<ProjectResponseDTO> findResponseByIdAndTenantId(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
 
-    @Query("SELECT p FROM Project p JOIN FETCH p.createdBy JOIN FETCH p.tenant WHERE p.tenant.id = :tenantId ORDER BY p.createdAt DESC")
+    @Query("SELECT count(p) > 0 FROM Project p WHERE p.id = :id AND p.tenant.id = :tenantId AND p.deletingAt IS NULL")
+    boolean existsByIdAndTenantId(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
+
+    @Query("""
+            SELECT new com.qronis.shared.web.ScopeVersion(count(p), max(greatest(p.updatedAt, u.updatedAt)))
+            FROM Project p JOIN p.createdBy u
+            WHERE p.tenant.id = :tenantId AND p.deletingAt IS NULL
+            """)
+    ScopeVersion findVersionByTenantId(@Param("tenantId") UUID tenantId);
+
+    @Query("SELECT p FROM Project p JOIN FETCH p.createdBy JOIN FETCH p.tenant WHERE p.tenant.id = :tenantId AND p.deletingAt IS NULL ORDER BY p.createdAt DESC")
     List<Project> findByTenantIdWithCreator(@Param("tenantId") UUID tenantId);
 
-    @Query("SELECT p FROM Project p JOIN FETCH p.createdBy JOIN FETCH p.tenant WHERE p.id = :id AND p.tenant.id = :tenantId")
+    @Query("SELECT p FROM Project p JOIN FETCH p.createdBy JOIN FETCH p.tenant WHERE p.id = :id AND p.tenant.id = :tenantId AND p.deletingAt IS NULL")
     Optional<Project> findByIdAndTenantIdWithCreator(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
+
+    @Query("SELECT p FROM Project p JOIN FETCH p.createdBy JOIN FETCH p.tenant WHERE p.id IN :ids AND p.tenant.id = :tenantId AND p.deletingAt IS NULL")
+    List<Project> findAllByIdInAndTenantIdWithCreator(@Param("ids") Collection<UUID> ids, @Param("tenantId") UUID tenantId);
+
+    @Query("SELECT p.id FROM Project p WHERE p.tenant.id = :tenantId AND p.id IN :ids AND p.deletingAt IS NULL")
+    List<UUID> findIdsByTenantIdAndIdIn(@Param("tenantId") UUID tenantId, @Param("ids") Collection<UUID> ids);
+
+    @Query(value = """
+            SELECT p.id AS "projectId",
+                   CAST(COALESCE(SUM(r.duration_millis), 0) AS bigint) / 1000 AS "totalDurationSeconds"
+            FROM project p
+            LEFT JOIN time_entry_daily_rollup r
+                   ON r.tenant_id = p.tenant_id AND r.project_id = p.id AND r.user_id = CAST(:userId AS uuid)
+            WHERE p.tenant_id = CAST(:tenantId AS uuid) AND p.deleting_at IS NULL
+            GROUP BY p.id
+            """, nativeQuery = true)
+    List<ProjectDurationTotal> sumDurationSecondsByTenantId(@Param("tenantId") UUID tenantId,
+            @Param("userId") UUID userId);
+
+    @Query(value = """
+            SELECT p.id AS "projectId",
+                   CAST(COALESCE(SUM(r.duration_millis), 0) AS bigint) / 1000 AS "totalDurationSeconds"
+            FROM project p
+            LEFT JOIN time_entry_daily_rollup r
+                   ON r.tenant_id = p.tenant_id AND r.project_id = p.id AND r.user_id = CAST(:userId AS uuid)
+            WHERE p.tenant_id = CAST(:tenantId AS uuid) AND p.id IN (:ids) AND p.deleting_at IS NULL
+            GROUP BY p.id
+            """, nativeQuery = true)
+    List<ProjectDurationTotal> sumDurationSecondsByTenantIdAndIdIn(@Param("tenantId") UUID tenantId,
+            @Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
 }
@@ -13,6 +13,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
@@ -34,6 +35,9 @@ public class Project extends BaseEntity {
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
 
+    @Column(name = "deleting_at")
+    private Instant deletingAt;
+
     public Project() {}
 
     public Project(String name, Tenant tenant, User createdBy) {
@@ -73,4 +77,12 @@ public class Project extends BaseEntity {
     public void setCreatedBy(User createdBy) {
         this.createdBy = createdBy;
     }
+
+    public Instant getDeletingAt() {
+        return deletingAt;
+    }
+
+    public void setDeletingAt(Instant deletingAt) {
+        this.deletingAt = deletingAt;
+    }
 }
@@ -0,0 +1,6 @@
+package com.qronis.modules.project.domain.enums;
+
+public enum ProjectDeletionStatus {
+    IN_PROGRESS,
+    DONE
+}
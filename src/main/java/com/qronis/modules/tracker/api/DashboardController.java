@@ -0,0 +1,35 @@
+package com.qronis.modules.tracker.api;
+
+import com.qronis.modules.identity.domain.enums.Role;
+import com.qronis.modules.tracker.api.dto.TenantDashboardResponseDTO;
+import com.qronis.modules.tracker.application.TenantDashboardService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final TenantDashboardService tenantDashboardService;
+
+    public DashboardController(TenantDashboardService tenantDashboardService) {
+        this.tenantDashboardService = tenantDashboardService;
+    }
+
+    @GetMapping
+    public ResponseEntity<TenantDashboardResponseDTO> dashboard(@AuthenticationPrincipal Jwt jwt) {
+        if (!Role.OWNER.name().equals(jwt.getClaimAsString("role"))) {
+            throw new AccessDeniedException("Apenas o OWNER pode ver o painel do tenant");
+        }
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        return ResponseEntity.ok(tenantDashboardService.dashboard(tenantId));
+    }
+}
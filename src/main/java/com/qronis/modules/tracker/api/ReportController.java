@@ -0,0 +1,85 @@
+package com.qronis.modules.tracker.api;
+
+import com.qronis.modules.identity.domain.enums.Role;
+import com.qronis.modules.tracker.api.dto.TimeEntryAnalyticsResponseDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryHeatmapResponseDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryReportResponseDTO;
+import com.qronis.modules.tracker.application.AnalyticsDimension;
+import com.qronis.modules.tracker.application.HeatmapScope;
+import com.qronis.modules.tracker.application.ReportGranularity;
+import com.qronis.modules.tracker.application.TimeEntryAnalyticsService;
+import com.qronis.modules.tracker.application.TimeEntryHeatmapService;
+import com.qronis.modules.tracker.application.TimeEntryRange;
+import com.qronis.modules.tracker.application.TimeEntryReportService;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+
+    private final TimeEntryReportService timeEntryReportService;
+    private final TimeEntryHeatmapService timeEntryHeatmapService;
+    private final TimeEntryAnalyticsService timeEntryAnalyticsService;
+
+    public ReportController(TimeEntryReportService timeEntryReportService,
+            TimeEntryHeatmapService timeEntryHeatmapService, TimeEntryAnalyticsService timeEntryAnalyticsService) {
+        this.timeEntryReportService = timeEntryReportService;
+        this.timeEntryHeatmapService = timeEntryHeatmapService;
+        this.timeEntryAnalyticsService = timeEntryAnalyticsService;
+    }
+
+    @GetMapping
+    public ResponseEntity<TimeEntryReportResponseDTO> report(
+            @RequestParam(name = "granularity", defaultValue = "WEEK") ReportGranularity granularity,
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(timeEntryReportService.report(tenantId, userId, granularity, from, to));
+    }
+
+    @GetMapping("/heatmap")
+    public ResponseEntity<TimeEntryHeatmapResponseDTO> heatmap(
+            @RequestParam(name = "scope", defaultValue = "USER") HeatmapScope scope,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal Jwt jwt) {
+        if (scope == HeatmapScope.TENANT && !Role.OWNER.name().equals(jwt.getClaimAsString("role"))) {
+            throw new AccessDeniedException("Apenas o OWNER pode ver o heatmap do tenant");
+        }
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(timeEntryHeatmapService.heatmap(tenantId, userId, scope, to));
+    }
+
+    /** OWNER analisa o tenant inteiro (ou um membro via {@code userId}); MEMBER só os próprios lançamentos. */
+    @GetMapping("/analytics")
+    public ResponseEntity<TimeEntryAnalyticsResponseDTO> analytics(
+            @RequestParam(name = "dimension", defaultValue = "PROJECT") AnalyticsDimension dimension,
+            @RequestParam(name = "from", required = false) Instant from,
+            @RequestParam(name = "to", required = false) Instant to,
+            @RequestParam(name = "projectId", required = false) UUID projectId,
+            @RequestParam(name = "userId", required = false) UUID userId,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        UUID subject = UUID.fromString(jwt.getSubject());
+        if (!Role.OWNER.name().equals(jwt.getClaimAsString("role"))) {
+            if (userId != null && !userId.equals(subject)) {
+                throw new AccessDeniedException("Apenas o OWNER pode analisar lançamentos de outros membros");
+            }
+            userId = subject;
+        }
+        return ResponseEntity.ok(timeEntryAnalyticsService.analyze(
+                tenantId, dimension, TimeEntryRange.of(from, to), projectId, userId));
+    }
+}
@@ -1,36 +1,92 @@
 package com.qronis.modules.tracker.api;
 
+import com.qronis.modules.tracker.api.dto.TimeEntryBatchPatchRequestDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryBatchPatchResultDTO;
 import com.qronis.modules.tracker.api.dto.TimeEntryCreateRequestDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryImportResponseDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryOverlapDTO;
 import com.qronis.modules.tracker.api.dto.TimeEntryPatchRequestDTO;
 import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
 import com.qronis.modules.tracker.api.dto.TimeEntryStartRequestDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntrySuggestionDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntrySwitchResponseDTO;
+import com.qronis.modules.identity.domain.enums.Role;
+import com.qronis.modules.tracker.application.DescriptionSuggestionCache;
+import com.qronis.modules.tracker.application.TimeEntryCursor;
+import com.qronis.modules.tracker.application.TimeEntryExportService;
+import com.qronis.modules.tracker.application.TimeEntryFileFormat;
+import com.qronis.modules.tracker.application.TimeEntryImportService;
 import com.qronis.modules.tracker.application.TimeEntryMapper;
+import com.qronis.modules.tracker.application.TimeEntryOverlapService;
+import com.qronis.modules.tracker.application.TimeEntryPatchResult;
+import com.qronis.modules.tracker.application.TimeEntryRange;
+import com.qronis.modules.tracker.application.TimeEntryRollupService;
+import com.qronis.modules.tracker.application.TimeEntrySearchCursor;
+import com.qronis.modules.tracker.application.TimeEntrySearchService;
 import com.qronis.modules.tracker.application.TimeEntryService;
+import com.qronis.modules.tracker.application.TimeEntrySwitchResult;
+import com.qronis.modules.tracker.application.TimerEventRegistry;
 import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.shared.pagination.CursorPageResponseDTO;
+import com.qronis.shared.web.ETags;
+import com.qronis.shared.web.ScopeVersion;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/time-entries")
 public class TimeEntryController {
 
+    /** Exportações de tenants grandes podem levar minutos. */
+    static final Duration EXPORT_TIMEOUT = Duration.ofMinutes(30);
+
     private final TimeEntryService timeEntryService;
     private final TimeEntryMapper timeEntryMapper;
+    private final TimeEntryImportService timeEntryImportService;
+    private final TimeEntryExportService timeEntryExportService;
+    private final TimeEntryRollupService timeEntryRollupService;
+    private final TimerEventRegistry timerEventRegistry;
+    private final TimeEntryOverlapService timeEntryOverlapService;
+    private final TimeEntrySearchService timeEntrySearchService;
+    private final DescriptionSuggestionCache suggestionCache;
 
-    public TimeEntryController(TimeEntryService timeEntryService, TimeEntryMapper timeEntryMapper) {
+    public TimeEntryController(TimeEntryService timeEntryService, TimeEntryMapper timeEntryMapper,
+            TimeEntryImportService timeEntryImportService, TimeEntryExportService timeEntryExportService,
+            TimeEntryRollupService timeEntryRollupService, TimerEventRegistry timerEventRegistry,
+            TimeEntryOverlapService timeEntryOverlapService, TimeEntrySearchService timeEntrySearchService,
+            DescriptionSuggestionCache suggestionCache) {
         this.timeEntryService = timeEntryService;
         this.timeEntryMapper = timeEntryMapper;
+        this.timeEntryImportService = timeEntryImportService;
+        this.timeEntryExportService = timeEntryExportService;
+        this.timeEntryRollupService = timeEntryRollupService;
+        this.timerEventRegistry = timerEventRegistry;
+        this.timeEntryOverlapService = timeEntryOverlapService;
+        this.timeEntrySearchService = timeEntrySearchService;
+        this.suggestionCache = suggestionCache;
     }
 
     @PostMapping("/start")
@@ -49,22 +105,95 @@ public class TimeEntryController {
         return ResponseEntity.ok(timeEntryMapper.toResponse(entry));
     }
 
+    @PostMapping("/switch")
+    public ResponseEntity<TimeEntrySwitchResponseDTO> switchTo(@Valid @RequestBody TimeEntryStartRequestDTO request,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        UUID userId = UUID.fromString(jwt.getSubject());
+        TimeEntrySwitchResult result = timeEntryService.switchTo(
+                request.projectId(), request.description(), tenantId, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(timeEntryMapper.toResponse(result));
+    }
+
     @GetMapping("/active")
-    public ResponseEntity<TimeEntryResponseDTO> active(@AuthenticationPrincipal Jwt jwt) {
+    public ResponseEntity<TimeEntryResponseDTO> active(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal Jwt jwt) {
         UUID userId = UUID.fromString(jwt.getSubject());
+        // Vem do registro em memória: o ETag sai dos próprios campos do timer
         return timeEntryService.findActive(userId)
-                .map(entry -> ResponseEntity.ok(timeEntryMapper.toResponse(entry)))
+                .map(timer -> ETags.conditional(ifNoneMatch,
+                        ETags.of(timer.id(), timer.projectId(), timer.projectName(), timer.description(),
+                                timer.startTime()),
+                        () -> timeEntryMapper.toResponse(timer)))
                 .orElse(ResponseEntity.noContent().build());
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        TimeEntryResponseDTO active = timeEntryService.findActive(userId)
+                .map(timeEntryMapper::toResponse)
+                .orElse(null);
+        return timerEventRegistry.subscribe(userId, active);
+    }
+
     @GetMapping
     public ResponseEntity<Page<TimeEntryResponseDTO>> history(
             @RequestParam(name = "projectId", required = false) UUID projectId,
+            @RequestParam(name = "from", required = false) Instant from,
+            @RequestParam(name = "to", required = false) Instant to,
             @PageableDefault(size = 20, sort = "startTime", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        TimeEntryRange range = TimeEntryRange.of(from, to);
+        ScopeVersion version = timeEntryService.getHistoryVersion(userId, projectId, range);
+        String etag = ETags.of(version.count(), version.lastUpdatedAt(), projectId, range, pageable);
+        return ETags.conditional(ifNoneMatch, etag, () ->
+                timeEntryService.findByUserIdAndOptionalProjectId(userId, projectId, range, pageable));
+    }
+
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageResponseDTO<TimeEntryResponseDTO>> historyByCursor(
+            @RequestParam(name = "projectId", required = false) UUID projectId,
+            @RequestParam(name = "from", required = false) Instant from,
+            @RequestParam(name = "to", required = false) Instant to,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
             @AuthenticationPrincipal Jwt jwt) {
         UUID userId = UUID.fromString(jwt.getSubject());
-        Page<TimeEntry> entries = timeEntryService.findByUserIdAndOptionalProjectId(userId, projectId, pageable);
-        return ResponseEntity.ok(entries.map(timeEntryMapper::toResponse));
+        // Sem ETag: a versão somaria a janela inteira a cada página, e o cursor já a torna barata
+        Slice<TimeEntryResponseDTO> entries = timeEntryService.findByUserIdAfterCursor(
+                userId, projectId, TimeEntryRange.of(from, to), TimeEntryCursor.decode(cursor), size);
+        String nextCursor = entries.hasNext()
+                ? TimeEntryCursor.after(entries.getContent().getLast()).encode()
+                : null;
+        return ResponseEntity.ok(new CursorPageResponseDTO<>(entries.getContent(), nextCursor));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponseDTO<TimeEntryResponseDTO>> search(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "from", required = false) Instant from,
+            @RequestParam(name = "to", required = false) Instant to,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(timeEntrySearchService.search(tenantId, userId, query,
+                TimeEntryRange.of(from, to), TimeEntrySearchCursor.decode(cursor), size));
+    }
+
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<TimeEntrySuggestionDTO>> suggestions(
+            @RequestParam(name = "q", required = false) String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(suggestionCache.suggest(userId, tenantId, prefix, limit));
     }
 
     @PostMapping
@@ -79,6 +208,82 @@ public class TimeEntryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(timeEntryMapper.toResponse(entry));
     }
 
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<TimeEntryImportResponseDTO> importNdjson(InputStream body,
+            @AuthenticationPrincipal Jwt jwt) {
+        return importEntries(body, TimeEntryFileFormat.NDJSON, jwt);
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<TimeEntryImportResponseDTO> importCsv(InputStream body,
+            @AuthenticationPrincipal Jwt jwt) {
+        return importEntries(body, TimeEntryFileFormat.CSV, jwt);
+    }
+
+    /**
+     * O arquivo é escrito fora da thread da requisição, direto na resposta. O timeout assíncrono
+     * longo vale só aqui: as demais rotas assíncronas seguem com o padrão do container.
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> export(
+            @RequestParam(name = "format", defaultValue = "CSV") TimeEntryFileFormat format,
+            @RequestParam(name = "gzip", defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal Jwt jwt, HttpServletResponse response) {
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        // OWNER exporta o tenant inteiro; MEMBER apenas os próprios lançamentos
+        UUID userId = Role.OWNER.name().equals(jwt.getClaimAsString("role"))
+                ? null
+                : UUID.fromString(jwt.getSubject());
+
+        String filename = "time-entries." + (format == TimeEntryFileFormat.CSV ? "csv" : "ndjson");
+        MediaType contentType = format == TimeEntryFileFormat.CSV
+                ? MediaType.parseMediaType("text/csv")
+                : MediaType.parseMediaType("application/x-ndjson");
+        if (gzip) {
+            filename += ".gz";
+            contentType = MediaType.parseMediaType("application/gzip");
+        }
+
+        response.setContentType(contentType.toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        return new WebAsyncTask<>(EXPORT_TIMEOUT.toMillis(), () -> {
+            timeEntryExportService.export(tenantId, userId, format, gzip, response.getOutputStream());
+            return null;
+        });
+    }
+
+    @PostMapping("/rollup/rebuild")
+    public ResponseEntity<Void> rebuildRollup(@AuthenticationPrincipal Jwt jwt) {
+        if (!Role.OWNER.name().equals(jwt.getClaimAsString("role"))) {
+            throw new AccessDeniedException("Apenas o OWNER pode recalcular o rollup do tenant");
+        }
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        timeEntryRollupService.rebuild(tenantId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/overlaps")
+    public ResponseEntity<List<TimeEntryOverlapDTO>> overlaps(
+            @RequestParam(name = "from") Instant from,
+            @RequestParam(name = "to") Instant to,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(timeEntryOverlapService.findOverlaps(userId, from, to));
+    }
+
+    @PutMapping("/overlap-protection")
+    public ResponseEntity<Void> setOverlapProtection(
+            @RequestParam(name = "enabled") boolean enabled,
+            @AuthenticationPrincipal Jwt jwt) {
+        if (!Role.OWNER.name().equals(jwt.getClaimAsString("role"))) {
+            throw new AccessDeniedException("Apenas o OWNER pode alterar a proteção contra sobreposição");
+        }
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        timeEntryOverlapService.setProtection(tenantId, enabled);
+        return ResponseEntity.noContent().build();
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<TimeEntryResponseDTO> patch(@PathVariable UUID id,
             @RequestBody TimeEntryPatchRequestDTO request,
@@ -89,6 +294,16 @@ public class TimeEntryController {
         return ResponseEntity.ok(timeEntryMapper.toResponse(entry));
     }
 
+    @PatchMapping
+    public ResponseEntity<List<TimeEntryBatchPatchResultDTO>> patchAll(
+            @Valid @RequestBody TimeEntryBatchPatchRequestDTO request,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        UUID userId = UUID.fromString(jwt.getSubject());
+        List<TimeEntryPatchResult> results = timeEntryService.patchAll(request.items(), tenantId, userId);
+        return ResponseEntity.ok(timeEntryMapper.toBatchPatchResponseList(results));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable UUID id,
             @AuthenticationPrincipal Jwt jwt) {
@@ -96,4 +311,11 @@ public class TimeEntryController {
         timeEntryService.delete(id, userId);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<TimeEntryImportResponseDTO> importEntries(InputStream body, TimeEntryFileFormat format,
+            Jwt jwt) {
+        UUID tenantId = UUID.fromString(jwt.getClaimAsString("tenantId"));
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(timeEntryImportService.importEntries(body, format, tenantId, userId));
+    }
 }
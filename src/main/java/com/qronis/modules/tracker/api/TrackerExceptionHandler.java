@@ -1,8 +1,10 @@
 package com.qronis.modules.tracker.api;
 
 import com.qronis.modules.tracker.domain.exception.ActiveTimerConflictException;
+import com.qronis.modules.tracker.domain.exception.InvalidCursorException;
 import com.qronis.modules.tracker.domain.exception.InvalidTimeBoundsException;
 import com.qronis.modules.tracker.domain.exception.TimeEntryNotFoundException;
+import com.qronis.modules.tracker.domain.exception.TimeEntryOverlapException;
 import com.qronis.shared.exception.ErrorResponseDTO;
 
 import org.springframework.http.HttpStatus;
@@ -30,12 +32,24 @@ public class TrackerExceptionHandler {
         return ErrorResponseDTO.of(409, "ACTIVE_TIMER_CONFLICT", ex.getMessage());
     }
 
+    @ExceptionHandler(TimeEntryOverlapException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponseDTO handleOverlap(TimeEntryOverlapException ex) {
+        return ErrorResponseDTO.of(409, "TIME_ENTRY_OVERLAP", ex.getMessage());
+    }
+
     @ExceptionHandler(InvalidTimeBoundsException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponseDTO handleTimeBounds(InvalidTimeBoundsException ex) {
         return ErrorResponseDTO.of(400, "INVALID_TIME_BOUNDS", ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponseDTO handleInvalidCursor(InvalidCursorException ex) {
+        return ErrorResponseDTO.of(400, "INVALID_CURSOR", ex.getMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponseDTO handleValidation(MethodArgumentNotValidException ex) {
@@ -0,0 +1,13 @@
+package com.qronis.modules.tracker.api.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DashboardActiveTimerDTO(
+        UUID userId,
+        UUID timeEntryId,
+        UUID projectId,
+        String projectName,
+        String description,
+        Instant startTime) {
+}
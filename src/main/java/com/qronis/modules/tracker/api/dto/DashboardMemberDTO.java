@@ -0,0 +1,10 @@
+package com.qronis.modules.tracker.api.dto;
+
+import java.util.UUID;
+
+public record DashboardMemberDTO(
+        UUID userId,
+        String name,
+        long todaySeconds,
+        boolean tracking) {
+}
@@ -0,0 +1,9 @@
+package com.qronis.modules.tracker.api.dto;
+
+import java.util.UUID;
+
+public record DashboardProjectDTO(
+        UUID projectId,
+        String name,
+        long totalSeconds) {
+}
@@ -0,0 +1,25 @@
+package com.qronis.modules.tracker.api.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Painel do tenant para o OWNER.
+ *
+ * Campos:
+ * - day:          dia (UTC) dos totais de {@code members}
+ * - generatedAt:  instante da montagem
+ * - members:      membros do tenant com o total de hoje (inclui o timer em andamento)
+ * - activeTimers: timers em andamento no tenant
+ * - topProjects:  projetos com mais horas nos últimos 7 dias (UTC)
+ * - incomplete:   seções que não responderam dentro do prazo e vieram vazias
+ */
+public record TenantDashboardResponseDTO(
+        LocalDate day,
+        Instant generatedAt,
+        List<DashboardMemberDTO> members,
+        List<DashboardActiveTimerDTO> activeTimers,
+        List<DashboardProjectDTO> topProjects,
+        List<String> incomplete) {
+}
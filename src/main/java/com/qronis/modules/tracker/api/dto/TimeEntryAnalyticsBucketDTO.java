@@ -0,0 +1,10 @@
+package com.qronis.modules.tracker.api.dto;
+
+/**
+ * Total de um grupo da análise. {@code key} é o id do projeto ou do membro, o dia da semana
+ * ({@code MONDAY}...) ou a hora UTC ({@code 0}..{@code 23}).
+ */
+public record TimeEntryAnalyticsBucketDTO(
+        String key,
+        long totalSeconds) {
+}
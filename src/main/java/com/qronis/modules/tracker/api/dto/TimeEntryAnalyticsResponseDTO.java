@@ -0,0 +1,23 @@
+package com.qronis.modules.tracker.api.dto;
+
+import com.qronis.modules.tracker.application.AnalyticsDimension;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Análise ad hoc das entries encerradas do tenant.
+ *
+ * Campos:
+ * - dimension:    PROJECT, USER, WEEKDAY ou HOUR
+ * - from/to:      janela aplicada; entries que a cruzam contam só a parte de dentro
+ * - totalSeconds: soma de todos os grupos
+ * - buckets:      PROJECT/USER do maior para o menor total; WEEKDAY/HOUR todos os grupos, em ordem
+ */
+public record TimeEntryAnalyticsResponseDTO(
+        AnalyticsDimension dimension,
+        Instant from,
+        Instant to,
+        long totalSeconds,
+        List<TimeEntryAnalyticsBucketDTO> buckets) {
+}
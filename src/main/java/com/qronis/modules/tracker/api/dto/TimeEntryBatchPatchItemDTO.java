@@ -0,0 +1,10 @@
+package com.qronis.modules.tracker.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record TimeEntryBatchPatchItemDTO(
+        @NotNull(message = "ID da entry é obrigatório") UUID id,
+        @NotNull(message = "Alterações são obrigatórias") TimeEntryPatchRequestDTO changes) {
+}
@@ -0,0 +1,10 @@
+package com.qronis.modules.tracker.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record TimeEntryBatchPatchRequestDTO(
+        @NotEmpty(message = "Informe ao menos uma alteração") List<@Valid TimeEntryBatchPatchItemDTO> items) {
+}
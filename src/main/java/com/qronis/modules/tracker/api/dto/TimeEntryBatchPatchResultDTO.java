@@ -0,0 +1,12 @@
+package com.qronis.modules.tracker.api.dto;
+
+import com.qronis.modules.tracker.application.TimeEntryPatchStatus;
+
+import java.util.UUID;
+
+public record TimeEntryBatchPatchResultDTO(
+        UUID id,
+        TimeEntryPatchStatus status,
+        String error,
+        TimeEntryResponseDTO entry) {
+}
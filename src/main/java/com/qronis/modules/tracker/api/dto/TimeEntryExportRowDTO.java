@@ -0,0 +1,16 @@
+package com.qronis.modules.tracker.api.dto;
+
+import java.time.Instant;
+
+public record TimeEntryExportRowDTO(
+        String id,
+        String userId,
+        String userName,
+        String userEmail,
+        String projectId,
+        String projectName,
+        String description,
+        Instant startTime,
+        Instant endTime,
+        Long durationSeconds) {
+}
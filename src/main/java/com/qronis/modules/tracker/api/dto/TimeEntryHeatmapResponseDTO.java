@@ -0,0 +1,19 @@
+package com.qronis.modules.tracker.api.dto;
+
+import com.qronis.modules.tracker.application.HeatmapScope;
+
+import java.time.LocalDate;
+
+/**
+ * Heatmap de atividade diária.
+ *
+ * Campos:
+ * - scope:   USER ou TENANT
+ * - from:    dia (UTC) da primeira posição de {@code minutes}
+ * - minutes: minutos rastreados por dia, um por posição a partir de {@code from}
+ */
+public record TimeEntryHeatmapResponseDTO(
+        HeatmapScope scope,
+        LocalDate from,
+        int[] minutes) {
+}
@@ -0,0 +1,9 @@
+package com.qronis.modules.tracker.api.dto;
+
+import java.util.List;
+
+public record TimeEntryImportResponseDTO(
+        long imported,
+        long rejected,
+        List<TimeEntryImportErrorDTO> errors) {
+}
@@ -0,0 +1,11 @@
+package com.qronis.modules.tracker.api.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record TimeEntryOverlapDTO(
+        UUID entryId,
+        UUID overlappingEntryId,
+        Instant overlapStart,
+        Instant overlapEnd) {
+}
@@ -0,0 +1,14 @@
+package com.qronis.modules.tracker.api.dto;
+
+import com.qronis.modules.tracker.application.ReportGranularity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record TimeEntryReportResponseDTO(
+        String timezone,
+        ReportGranularity granularity,
+        LocalDate from,
+        LocalDate to,
+        List<TimeEntryReportRowDTO> rows) {
+}
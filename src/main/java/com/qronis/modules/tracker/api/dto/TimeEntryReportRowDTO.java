@@ -0,0 +1,11 @@
+package com.qronis.modules.tracker.api.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record TimeEntryReportRowDTO(
+        LocalDate period,
+        UUID projectId,
+        String projectName,
+        long durationSeconds) {
+}
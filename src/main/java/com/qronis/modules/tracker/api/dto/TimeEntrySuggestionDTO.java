@@ -0,0 +1,8 @@
+package com.qronis.modules.tracker.api.dto;
+
+import java.util.UUID;
+
+public record TimeEntrySuggestionDTO(
+        String description,
+        UUID projectId) {
+}
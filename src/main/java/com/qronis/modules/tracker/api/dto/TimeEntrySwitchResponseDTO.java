@@ -0,0 +1,6 @@
+package com.qronis.modules.tracker.api.dto;
+
+public record TimeEntrySwitchResponseDTO(
+        TimeEntryResponseDTO stopped,
+        TimeEntryResponseDTO started) {
+}
@@ -0,0 +1,8 @@
+package com.qronis.modules.tracker.api.dto;
+
+import com.qronis.modules.tracker.application.TimerEventType;
+
+public record TimerEventDTO(
+        TimerEventType type,
+        TimeEntryResponseDTO entry) {
+}
@@ -0,0 +1,37 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Snapshot imutável de um timer em andamento, mantido em memória pelo {@link ActiveTimerRegistry}.
+ * Carrega apenas o necessário para responder ao {@code TimeEntryResponseDTO} sem tocar no banco.
+ */
+public record ActiveTimer(
+        UUID id,
+        UUID userId,
+        UUID tenantId,
+        UUID projectId,
+        String projectName,
+        String description,
+        Instant startTime,
+        Instant createdAt) {
+
+    public static ActiveTimer from(TimeEntry entry) {
+        return new ActiveTimer(
+                entry.getId(),
+                entry.getCreatedBy().getId(),
+                entry.getProject().getTenant().getId(),
+                entry.getProject().getId(),
+                entry.getProject().getName(),
+                entry.getDescription(),
+                entry.getStartTime(),
+                entry.getCreatedAt());
+    }
+
+    public ActiveTimer withProjectName(String name) {
+        return new ActiveTimer(id, userId, tenantId, projectId, name, description, startTime, createdAt);
+    }
+}
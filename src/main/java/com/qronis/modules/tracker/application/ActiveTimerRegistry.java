@@ -0,0 +1,71 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
+import com.qronis.shared.transaction.AfterCommit;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registro em memória dos timers ativos, indexado por usuário.
+ *
+ * É aquecido na criação do bean, antes de o servidor aceitar requisições, a partir do índice parcial
+ * {@code idx_time_entry_active}, e mantido pelos fluxos de start/stop/patch/delete. Aquecer depois
+ * do startup deixaria um stop confirmado no meio da carga ser sobrescrito pelo snapshot antigo.
+ * Alterações feitas dentro de uma transação só são aplicadas após o commit, para que um rollback
+ * nunca deixe o registro divergente do banco.
+ *
+ * O registro serve apenas leituras (GET /active). A unicidade do timer continua garantida
+ * pelo PostgreSQL (PK de {@code time_entry_active}, mantida por trigger).
+ */
+@Component
+public class ActiveTimerRegistry {
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final ConcurrentMap<UUID, ActiveTimer> timersByUser = new ConcurrentHashMap<>();
+
+    public ActiveTimerRegistry(TimeEntryRepository timeEntryRepository) {
+        this.timeEntryRepository = timeEntryRepository;
+    }
+
+    @PostConstruct
+    public void warmUp() {
+        timeEntryRepository.findAllActive()
+                .forEach(timer -> timersByUser.putIfAbsent(timer.userId(), timer));
+    }
+
+    public Optional<ActiveTimer> find(UUID userId) {
+        return Optional.ofNullable(timersByUser.get(userId));
+    }
+
+    /** Timers em andamento no tenant; varre o registro em memória, sem consulta ao banco. */
+    public List<ActiveTimer> findByTenantId(UUID tenantId) {
+        return timersByUser.values().stream()
+                .filter(timer -> timer.tenantId().equals(tenantId))
+                .toList();
+    }
+
+    public void register(ActiveTimer timer) {
+        AfterCommit.run(() -> timersByUser.put(timer.userId(), timer));
+    }
+
+    public void unregister(UUID userId, UUID entryId) {
+        AfterCommit.run(() -> timersByUser.computeIfPresent(userId,
+                (key, current) -> current.id().equals(entryId) ? null : current));
+    }
+
+    public void unregisterByProjectId(UUID projectId) {
+        AfterCommit.run(() -> timersByUser.values().removeIf(timer -> timer.projectId().equals(projectId)));
+    }
+
+    public void renameProject(UUID projectId, String name) {
+        AfterCommit.run(() -> timersByUser.replaceAll(
+                (userId, timer) -> timer.projectId().equals(projectId) ? timer.withProjectName(name) : timer));
+    }
+}
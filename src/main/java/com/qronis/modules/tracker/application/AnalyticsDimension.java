@@ -0,0 +1,9 @@
+package com.qronis.modules.tracker.application;
+
+/** Agrupamento das análises do tenant: por projeto, por membro, por dia da semana ou por hora do dia (UTC). */
+public enum AnalyticsDimension {
+    PROJECT,
+    USER,
+    WEEKDAY,
+    HOUR
+}
@@ -0,0 +1,18 @@
+package com.qronis.modules.tracker.application;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Lançamento encerrado guardado em um segmento do arquivo frio (ver {@link TimeEntrySegmentCodec}).
+ * Os instantes têm precisão de microssegundos, como o {@code timestamptz}.
+ */
+public record ArchivedTimeEntry(
+        UUID id,
+        UUID userId,
+        UUID projectId,
+        String description,
+        Instant startTime,
+        Instant endTime,
+        Instant createdAt) {
+}
@@ -0,0 +1,158 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.api.dto.TimeEntrySuggestionDTO;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.shared.cache.BoundedCache;
+import com.qronis.shared.transaction.AfterCommit;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cache em memória das descrições recentes de cada usuário, para o autocomplete do tracker.
+ *
+ * Cada usuário tem um LRU limitado de pares distintos (descrição, projeto), aquecido sob demanda
+ * por uma query {@code DISTINCT ON} e mantido pelos fluxos de start/create/patch. Depois do
+ * aquecimento, as buscas por tecla não vão ao PostgreSQL.
+ *
+ * Usuários inteiros saem do cache de duas formas: acima de {@link #MAX_USERS} sai o de acesso
+ * mais antigo, e sob pressão de memória o GC os limpa ({@link BoundedCache#softValues}). Um usuário
+ * removido é recarregado na próxima busca. Como no {@link ActiveTimerRegistry}, as alterações feitas
+ * dentro de uma transação só são aplicadas após o commit.
+ */
+@Component
+public class DescriptionSuggestionCache {
+
+    static final int MAX_USERS = 5_000;
+    static final int MAX_PER_USER = 200;
+    static final int MAX_RESULTS = 20;
+    static final int WARM_UP_DAYS = 180;
+
+    // Um par por (descrição, projeto) com o uso mais recente; a janela de dias poda partições
+    private static final String RECENT_SQL = """
+            SELECT d.description, d.project_id, p.tenant_id
+            FROM (
+                SELECT DISTINCT ON (te.description, te.project_id) te.description, te.project_id, te.start_time
+                FROM time_entry te
+                WHERE te.created_by = :userId AND te.start_time >= now() - make_interval(days => :days)
+                  AND te.description IS NOT NULL AND te.description <> ''
+                ORDER BY te.description, te.project_id, te.start_time DESC
+            ) d
+            JOIN project p ON p.id = d.project_id AND p.deleting_at IS NULL
+            ORDER BY d.start_time DESC
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final BoundedCache<UUID, UserSuggestions> suggestionsByUser = BoundedCache.softValues(MAX_USERS);
+
+    public DescriptionSuggestionCache(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Descrições do tenant que começam com {@code prefix} (ou com uma palavra que começa com ele),
+     * da mais recente para a mais antiga. Prefixo vazio devolve as mais recentes.
+     */
+    public List<TimeEntrySuggestionDTO> suggest(UUID userId, UUID tenantId, String prefix, int limit) {
+        String needle = prefix != null ? prefix.strip().toLowerCase(Locale.ROOT) : "";
+        return load(userId).find(tenantId, needle, Math.clamp(limit, 1, MAX_RESULTS));
+    }
+
+    /** Registra o par da entry como o mais recente do usuário, se ele estiver no cache. */
+    public void record(TimeEntry entry) {
+        String description = entry.getDescription();
+        if (description == null || description.isBlank()) {
+            return;
+        }
+        UUID userId = entry.getCreatedBy().getId();
+        Suggestion suggestion = new Suggestion(
+                entry.getProject().getTenant().getId(), entry.getProject().getId(), description);
+        // Usuário fora do cache: o próximo aquecimento já lê a entry do banco
+        AfterCommit.run(() -> {
+            UserSuggestions cached = suggestionsByUser.get(userId);
+            if (cached != null) {
+                cached.touch(suggestion);
+            }
+        });
+    }
+
+    public void removeProject(UUID projectId) {
+        AfterCommit.run(() -> suggestionsByUser.forEachValue(cached -> cached.removeProject(projectId)));
+    }
+
+    private UserSuggestions load(UUID userId) {
+        UserSuggestions cached = suggestionsByUser.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Fora de computeIfAbsent para não segurar o lock do bucket durante a query
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("days", WARM_UP_DAYS)
+                .addValue("limit", MAX_PER_USER);
+        List<Suggestion> recent = jdbcTemplate.query(RECENT_SQL, params, (rs, rowNum) -> new Suggestion(
+                rs.getObject("tenant_id", UUID.class),
+                rs.getObject("project_id", UUID.class),
+                rs.getString("description")));
+
+        // Outra requisição aqueceu o mesmo usuário antes: fica a versão dela, que pode já ter registros
+        return suggestionsByUser.putIfAbsent(userId, new UserSuggestions(recent.reversed()), current -> false);
+    }
+
+    private record Suggestion(UUID tenantId, UUID projectId, String description) {
+    }
+
+    /** LRU de um usuário: a ordem de inserção do LinkedHashMap é a ordem de uso (mais recente no fim). */
+    private static final class UserSuggestions {
+
+        private final LinkedHashMap<Suggestion, String> byRecency = new LinkedHashMap<>();
+
+        UserSuggestions(List<Suggestion> oldestFirst) {
+            oldestFirst.forEach(suggestion -> byRecency.put(suggestion, normalize(suggestion.description())));
+        }
+
+        synchronized List<TimeEntrySuggestionDTO> find(UUID tenantId, String needle, int limit) {
+            List<TimeEntrySuggestionDTO> result = new ArrayList<>(limit);
+            for (Map.Entry<Suggestion, String> entry : byRecency.sequencedEntrySet().reversed()) {
+                Suggestion suggestion = entry.getKey();
+                if (suggestion.tenantId().equals(tenantId) && matches(entry.getValue(), needle)) {
+                    result.add(new TimeEntrySuggestionDTO(suggestion.description(), suggestion.projectId()));
+                    if (result.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        }
+
+        synchronized void touch(Suggestion suggestion) {
+            byRecency.remove(suggestion);
+            byRecency.put(suggestion, normalize(suggestion.description()));
+            if (byRecency.size() > MAX_PER_USER) {
+                byRecency.pollFirstEntry();
+            }
+        }
+
+        synchronized void removeProject(UUID projectId) {
+            byRecency.keySet().removeIf(suggestion -> suggestion.projectId().equals(projectId));
+        }
+
+        private static String normalize(String description) {
+            return description.toLowerCase(Locale.ROOT);
+        }
+
+        private static boolean matches(String normalized, String needle) {
+            return needle.isEmpty() || normalized.startsWith(needle) || normalized.contains(" " + needle);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.qronis.modules.tracker.application;
+
+/** Abrangência do heatmap: só o usuário autenticado ou o tenant inteiro (apenas OWNER). */
+public enum HeatmapScope {
+    USER,
+    TENANT
+}
@@ -0,0 +1,30 @@
+package com.qronis.modules.tracker.application;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/** Tamanho do período dos relatórios; o valor SQL é a unidade do {@code date_trunc} (semana ISO). */
+public enum ReportGranularity {
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private final String sqlUnit;
+
+    ReportGranularity(String sqlUnit) {
+        this.sqlUnit = sqlUnit;
+    }
+
+    public String sqlUnit() {
+        return sqlUnit;
+    }
+
+    /** Início do período que contém {@code day}, como o {@code date_trunc} do SQL. */
+    public LocalDate truncate(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(DayOfWeek.MONDAY);
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,238 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.api.dto.DashboardActiveTimerDTO;
+import com.qronis.modules.tracker.api.dto.DashboardMemberDTO;
+import com.qronis.modules.tracker.api.dto.DashboardProjectDTO;
+import com.qronis.modules.tracker.api.dto.TenantDashboardResponseDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Painel do tenant para o OWNER: total de hoje por membro, quem está com timer ativo e os
+ * projetos com mais horas na semana.
+ *
+ * As duas consultas ao banco são independentes e rodam em paralelo, cada uma em uma virtual
+ * thread; a latência do painel é a da mais lenta, não a soma. Os timers ativos vêm do
+ * {@link ActiveTimerRegistry}, em memória. A requisição tem prazo de {@link #DEADLINE}: uma seção
+ * que não responde a tempo vem vazia e é listada em {@code incomplete}.
+ *
+ * Cada consulta roda em uma transação só leitura com {@code SET LOCAL statement_timeout}, um pouco
+ * acima do prazo: a seção descartada não segue ocupando o PostgreSQL, e a conexão volta ao pool
+ * inteira, sem interromper a thread no meio da leitura do socket.
+ *
+ * Métricas (Micrometer):
+ * - {@code qronis.dashboard.section}: tempo de cada seção, por {@code section} e {@code outcome}
+ * - {@code qronis.dashboard.timeouts}: seções descartadas pelo prazo, por {@code section}
+ * - {@code qronis.dashboard}: tempo total da montagem
+ */
+@Service
+public class TenantDashboardService {
+
+    static final Duration DEADLINE = Duration.ofSeconds(2);
+    static final Duration STATEMENT_GRACE = Duration.ofMillis(500);
+    static final int TOP_PROJECTS = 5;
+    static final int TOP_PROJECTS_DAYS = 7;
+
+    static final String SECTION_MEMBERS = "members";
+    static final String SECTION_TOP_PROJECTS = "topProjects";
+    static final String SECTION_ACTIVE_TIMERS = "activeTimers";
+
+    private static final String METRIC_DASHBOARD = "qronis.dashboard";
+    private static final String METRIC_SECTION = "qronis.dashboard.section";
+    private static final String METRIC_TIMEOUTS = "qronis.dashboard.timeouts";
+
+    private static final String STATEMENT_TIMEOUT_SQL =
+            "SET LOCAL statement_timeout = " + DEADLINE.plus(STATEMENT_GRACE).toMillis();
+
+    // Rollup diário (UTC, entries encerradas) pelo índice (tenant_id, day, user_id) da V8
+    private static final String MEMBERS_SQL = """
+            SELECT u.id, u.name, CAST(COALESCE(SUM(r.duration_millis), 0) / 1000 AS bigint) AS seconds
+            FROM tenant_user tu
+            JOIN users u ON u.id = tu.user_id
+            LEFT JOIN time_entry_daily_rollup r
+                   ON r.tenant_id = tu.tenant_id AND r.day = :day AND r.user_id = tu.user_id
+            WHERE tu.tenant_id = :tenantId
+            GROUP BY u.id, u.name
+            ORDER BY u.name
+            """;
+
+    private static final String TOP_PROJECTS_SQL = """
+            SELECT p.id, p.name, CAST(SUM(r.duration_millis) / 1000 AS bigint) AS seconds
+            FROM time_entry_daily_rollup r
+            JOIN project p ON p.id = r.project_id AND p.deleting_at IS NULL
+            WHERE r.tenant_id = :tenantId AND r.day >= :from AND r.day <= :day
+            GROUP BY p.id, p.name
+            ORDER BY seconds DESC, p.name
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActiveTimerRegistry activeTimerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TenantDashboardService(NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, ActiveTimerRegistry activeTimerRegistry,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.activeTimerRegistry = activeTimerRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public TenantDashboardResponseDTO dashboard(UUID tenantId) {
+        Timer.Sample total = Timer.start(meterRegistry);
+        long deadline = System.nanoTime() + DEADLINE.toNanos();
+        Instant now = Instant.now();
+        LocalDate today = LocalDate.ofInstant(now, ZoneOffset.UTC);
+
+        Future<List<DashboardMemberDTO>> members = submit(SECTION_MEMBERS, () -> findMembers(tenantId, today));
+        Future<List<DashboardProjectDTO>> topProjects = submit(SECTION_TOP_PROJECTS,
+                () -> findTopProjects(tenantId, today));
+        List<ActiveTimer> activeTimers = timed(SECTION_ACTIVE_TIMERS,
+                () -> activeTimerRegistry.findByTenantId(tenantId));
+
+        List<String> incomplete = new ArrayList<>();
+        List<DashboardMemberDTO> memberTotals = await(SECTION_MEMBERS, members, deadline, incomplete);
+        List<DashboardProjectDTO> projects = await(SECTION_TOP_PROJECTS, topProjects, deadline, incomplete);
+
+        TenantDashboardResponseDTO dashboard = new TenantDashboardResponseDTO(
+                today,
+                now,
+                withRunningTime(memberTotals, activeTimers, today, now),
+                activeTimers.stream()
+                        .map(timer -> new DashboardActiveTimerDTO(timer.userId(), timer.id(), timer.projectId(),
+                                timer.projectName(), timer.description(), timer.startTime()))
+                        .toList(),
+                projects,
+                incomplete);
+        total.stop(meterRegistry.timer(METRIC_DASHBOARD));
+        return dashboard;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<DashboardMemberDTO> findMembers(UUID tenantId, LocalDate today) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("day", today);
+        return withStatementTimeout(() -> jdbcTemplate.query(MEMBERS_SQL, params, (rs, rowNum) ->
+                new DashboardMemberDTO(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("name"),
+                        rs.getLong("seconds"),
+                        false)));
+    }
+
+    private List<DashboardProjectDTO> findTopProjects(UUID tenantId, LocalDate today) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("from", today.minusDays(TOP_PROJECTS_DAYS - 1))
+                .addValue("day", today)
+                .addValue("limit", TOP_PROJECTS);
+        return withStatementTimeout(() -> jdbcTemplate.query(TOP_PROJECTS_SQL, params, (rs, rowNum) ->
+                new DashboardProjectDTO(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("name"),
+                        rs.getLong("seconds"))));
+    }
+
+    private <T> T withStatementTimeout(Supplier<T> query) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.update(STATEMENT_TIMEOUT_SQL, new MapSqlParameterSource());
+            return query.get();
+        });
+    }
+
+    /** O rollup só tem entries encerradas: soma a parte de hoje dos timers em andamento. */
+    private static List<DashboardMemberDTO> withRunningTime(List<DashboardMemberDTO> members,
+            List<ActiveTimer> activeTimers, LocalDate today, Instant now) {
+        Instant startOfDay = today.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Map<UUID, ActiveTimer> timersByUser = activeTimers.stream()
+                .collect(Collectors.toMap(ActiveTimer::userId, Function.identity()));
+
+        return members.stream()
+                .map(member -> {
+                    ActiveTimer timer = timersByUser.get(member.userId());
+                    if (timer == null) {
+                        return member;
+                    }
+                    Instant from = timer.startTime().isAfter(startOfDay) ? timer.startTime() : startOfDay;
+                    long running = Math.max(0, Duration.between(from, now).toSeconds());
+                    return new DashboardMemberDTO(member.userId(), member.name(),
+                            member.todaySeconds() + running, true);
+                })
+                .toList();
+    }
+
+    private <T> Future<T> submit(String section, Supplier<T> query) {
+        return executor.submit(() -> timed(section, query));
+    }
+
+    private <T> T timed(String section, Supplier<T> query) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = query.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer(METRIC_SECTION, "section", section, "outcome", outcome));
+        }
+    }
+
+    /**
+     * Espera a seção até o prazo da requisição; vencido o prazo, devolve vazio. O cancelamento não
+     * interrompe a thread: quem encerra a query é o {@code statement_timeout}.
+     */
+    private <T> List<T> await(String section, Future<List<T>> future, long deadline, List<String> incomplete) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(false);
+            meterRegistry.counter(METRIC_TIMEOUTS, "section", section).increment();
+            incomplete.add(section);
+            return List.of();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            incomplete.add(section);
+            return List.of();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
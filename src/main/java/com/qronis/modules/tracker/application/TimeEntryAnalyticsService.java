@@ -0,0 +1,260 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.api.dto.TimeEntryAnalyticsBucketDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryAnalyticsResponseDTO;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.shared.cache.BoundedCache;
+import com.qronis.shared.transaction.AfterCommit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Análises ad hoc das entries encerradas de um tenant (totais por projeto, membro, dia da semana
+ * e hora) respondidas em memória, sem ida ao banco por pergunta.
+ *
+ * Na primeira consulta, as entries encerradas do tenant ({@code time_entry} e arquivo frio) são
+ * carregadas em um {@link TimeEntryColumns}. Depois, os fluxos de escrita do {@link TimeEntryService}
+ * mantêm os arrays atualizados após o commit, como no {@link ActiveTimerRegistry}; a exclusão de
+ * projeto retira só as linhas dele. Importação em massa descarta o tenant, que é recarregado na
+ * próxima consulta. O arquivamento não muda nada: as entries só trocam de camada.
+ *
+ * Uma escrita que confirma durante a carga invalida o resultado dela: a carga seguinte já lê a
+ * entry do banco. O contador dessas escritas só existe enquanto há carga do tenant em curso, então
+ * não sobra nada por tenant além dos arrays. Acima de {@link #MAX_TENANTS} sai o tenant de acesso
+ * mais antigo, e sob pressão de memória o GC pode limpar as cargas ({@link BoundedCache#softValues}).
+ *
+ * Escritas que não passam por esta instância (outra réplica, SQL direto) não chegam aos arrays:
+ * cada carga vale {@link #TTL} e depois é refeita do banco, o que limita quanto tempo ficam fora.
+ */
+@Service
+public class TimeEntryAnalyticsService {
+
+    static final int MAX_TENANTS = 64;
+    static final Duration TTL = Duration.ofMinutes(10);
+
+    private static final String LOAD_SQL = """
+            SELECT te.id, te.project_id, te.created_by, te.start_time, te.end_time
+            FROM time_entry te
+            JOIN project p ON p.id = te.project_id
+            WHERE p.tenant_id = :tenantId AND p.deleting_at IS NULL AND te.end_time IS NOT NULL
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TimeEntryArchive archive;
+    private final BoundedCache<UUID, TenantColumns> columnsByTenant = BoundedCache.softValues(MAX_TENANTS);
+    /** Cargas em curso por tenant; sai do mapa quando a última termina. */
+    private final ConcurrentMap<UUID, PendingLoad> loadsByTenant = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public TimeEntryAnalyticsService(NamedParameterJdbcTemplate jdbcTemplate, TimeEntryArchive archive) {
+        this(jdbcTemplate, archive, System::nanoTime);
+    }
+
+    public TimeEntryAnalyticsService(NamedParameterJdbcTemplate jdbcTemplate, TimeEntryArchive archive,
+            LongSupplier nanoClock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archive = archive;
+        this.nanoClock = nanoClock;
+    }
+
+    public TimeEntryAnalyticsResponseDTO analyze(UUID tenantId, AnalyticsDimension dimension, TimeEntryRange range,
+            UUID projectId, UUID userId) {
+        boolean byId = dimension == AnalyticsDimension.PROJECT || dimension == AnalyticsDimension.USER;
+        TenantColumns tenant = load(tenantId);
+        long[] totals;
+        List<UUID> ids = new ArrayList<>();
+        tenant.lock.readLock().lock();
+        try {
+            totals = tenant.columns.sum(dimension, range.from().toEpochMilli(), range.to().toEpochMilli(),
+                    projectId, userId);
+            // Os índices do dicionário só valem sob o lock: resolve os ids aqui dentro
+            for (int i = 0; byId && i < totals.length; i++) {
+                ids.add(dimension == AnalyticsDimension.PROJECT ? tenant.columns.projectId(i) : tenant.columns.userId(i));
+            }
+        } finally {
+            tenant.lock.readLock().unlock();
+        }
+
+        List<TimeEntryAnalyticsBucketDTO> buckets = new ArrayList<>(totals.length);
+        long total = 0;
+        for (int i = 0; i < totals.length; i++) {
+            total += totals[i];
+            if (byId && totals[i] == 0) {
+                continue;
+            }
+            String key = switch (dimension) {
+                case PROJECT, USER -> ids.get(i).toString();
+                case WEEKDAY -> DayOfWeek.of(i + 1).name();
+                case HOUR -> Integer.toString(i);
+            };
+            buckets.add(new TimeEntryAnalyticsBucketDTO(key, totals[i] / 1000));
+        }
+        if (byId) {
+            buckets.sort(Comparator.comparingLong(TimeEntryAnalyticsBucketDTO::totalSeconds).reversed());
+        }
+        return new TimeEntryAnalyticsResponseDTO(dimension, range.from(), range.to(), total / 1000, buckets);
+    }
+
+    /** Registra a entry após o commit: encerrada entra (ou é substituída), ativa sai. */
+    public void record(TimeEntry entry) {
+        UUID tenantId = entry.getProject().getTenant().getId();
+        UUID id = entry.getId();
+        UUID projectId = entry.getProject().getId();
+        UUID userId = entry.getCreatedBy().getId();
+        long start = entry.getStartTime().toEpochMilli();
+        Long end = entry.getEndTime() != null ? entry.getEndTime().toEpochMilli() : null;
+        AfterCommit.run(() -> apply(tenantId, columns -> {
+            if (end == null) {
+                columns.remove(id);
+            } else {
+                columns.put(id, projectId, userId, start, end);
+            }
+        }));
+    }
+
+    public void remove(UUID tenantId, UUID entryId) {
+        AfterCommit.run(() -> apply(tenantId, columns -> columns.remove(entryId)));
+    }
+
+    /** Retira as entries do projeto após o commit da exclusão; o resto do tenant continua carregado. */
+    public void removeProject(UUID tenantId, UUID projectId) {
+        AfterCommit.run(() -> apply(tenantId, columns -> columns.removeProject(projectId)));
+    }
+
+    /** Descarta o tenant após o commit (escritas em massa fora do {@link TimeEntryService}). */
+    public void invalidate(UUID tenantId) {
+        AfterCommit.run(() -> {
+            markWrite(tenantId);
+            columnsByTenant.remove(tenantId);
+        });
+    }
+
+    private TenantColumns load(UUID tenantId) {
+        TenantColumns cached = cached(tenantId);
+        if (cached != null) {
+            return cached;
+        }
+
+        PendingLoad pending = loadsByTenant.compute(tenantId, (key, current) -> {
+            PendingLoad load = current != null ? current : new PendingLoad();
+            load.loads++;
+            return load;
+        });
+        try {
+            return loadColumns(tenantId, pending, pending.writes.get());
+        } finally {
+            loadsByTenant.computeIfPresent(tenantId, (key, current) -> --current.loads == 0 ? null : current);
+        }
+    }
+
+    private TenantColumns loadColumns(UUID tenantId, PendingLoad pending, long writesBefore) {
+        TimeEntryColumns columns = new TimeEntryColumns();
+        jdbcTemplate.query(LOAD_SQL, new MapSqlParameterSource("tenantId", tenantId), rs -> {
+            columns.append(
+                    rs.getObject("id", UUID.class),
+                    rs.getObject("project_id", UUID.class),
+                    rs.getObject("created_by", UUID.class),
+                    rs.getObject("start_time", OffsetDateTime.class).toInstant().toEpochMilli(),
+                    rs.getObject("end_time", OffsetDateTime.class).toInstant().toEpochMilli());
+        });
+        archive.forEachSegment(tenantId, null, segment -> {
+            Map<UUID, String> existing = archive.findProjectNames(
+                    segment.stream().map(ArchivedTimeEntry::projectId).toList());
+            for (ArchivedTimeEntry entry : segment) {
+                if (existing.containsKey(entry.projectId())) {
+                    columns.append(entry.id(), entry.projectId(), entry.userId(),
+                            entry.startTime().toEpochMilli(), entry.endTime().toEpochMilli());
+                }
+            }
+        });
+
+        long now = nanoClock.getAsLong();
+        TenantColumns loaded = new TenantColumns(columns, now);
+        // Escrita confirmada durante a carga: o resultado pode não tê-la, então só serve a esta consulta
+        if (pending.writes.get() != writesBefore) {
+            return loaded;
+        }
+        TenantColumns published = columnsByTenant.putIfAbsent(tenantId, loaded, current -> current.isExpired(now));
+        // Escrita entre a checagem e a publicação: retira o que acabou de entrar
+        if (published == loaded && pending.writes.get() != writesBefore) {
+            columnsByTenant.remove(tenantId, loaded);
+        }
+        return published;
+    }
+
+    private TenantColumns cached(UUID tenantId) {
+        TenantColumns cached = columnsByTenant.get(tenantId);
+        if (cached != null && cached.isExpired(nanoClock.getAsLong())) {
+            columnsByTenant.remove(tenantId, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Avisa as cargas em curso do tenant. Sem carga, não há o que avisar: uma carga que começa
+     * depois já lê a escrita, confirmada antes deste callback.
+     */
+    private void markWrite(UUID tenantId) {
+        PendingLoad pending = loadsByTenant.get(tenantId);
+        if (pending != null) {
+            pending.writes.incrementAndGet();
+        }
+    }
+
+    private void apply(UUID tenantId, Consumer<TimeEntryColumns> change) {
+        markWrite(tenantId);
+        TenantColumns cached = cached(tenantId);
+        if (cached == null) {
+            return;
+        }
+        cached.lock.writeLock().lock();
+        try {
+            change.accept(cached.columns);
+        } finally {
+            cached.lock.writeLock().unlock();
+        }
+    }
+
+    private static final class TenantColumns {
+
+        private final TimeEntryColumns columns;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final long expiresAt;
+
+        TenantColumns(TimeEntryColumns columns, long now) {
+            this.columns = columns;
+            this.expiresAt = now + TTL.toNanos();
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    private static final class PendingLoad {
+
+        private final AtomicLong writes = new AtomicLong();
+        /** Só muda dentro do {@code compute} do mapa, sob o lock do bucket. */
+        private int loads;
+    }
+}
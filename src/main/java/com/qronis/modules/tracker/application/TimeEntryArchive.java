@@ -0,0 +1,311 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Camada de leitura e gravação do arquivo frio: segmentos colunares, um por tenant e mês, guardados
+ * em {@code time_entry_archive_month} e indexados por {@code time_entry_archive_segment}.
+ *
+ * As leituras consultam primeiro o índice (por tenant, mês, usuário e projeto, com o intervalo de
+ * inícios e o fim mais tardio); sem segmento na janela pedida, nenhum segmento é lido. Entries de
+ * projetos excluídos continuam no segmento, mas são omitidas na leitura.
+ */
+@Component
+public class TimeEntryArchive {
+
+    /** Mesma ordem do histórico no banco: {@code start_time DESC, id DESC}, com uuid comparado como bytes sem sinal. */
+    static final Comparator<TimeEntryResponseDTO> NEWEST_FIRST = Comparator
+            .comparing(TimeEntryResponseDTO::startTime)
+            .thenComparing(TimeEntryResponseDTO::id, TimeEntryArchive::compareUuids)
+            .reversed();
+
+    private static final String READ_SEGMENT_SQL = """
+            SELECT data FROM time_entry_archive_month WHERE tenant_id = :tenantId AND month = :month
+            """;
+
+    private static final String UPSERT_SEGMENT_SQL = """
+            INSERT INTO time_entry_archive_month (tenant_id, month, data)
+            VALUES (:tenantId, :month, :data)
+            ON CONFLICT (tenant_id, month) DO UPDATE
+            SET data = EXCLUDED.data,
+                archived_at = NOW()
+            """;
+
+    // Segmentos com inícios na janela; a variante por projeto usa o mesmo índice e filtra a linha
+    private static final String USER_SEGMENTS_SQL = """
+            SELECT DISTINCT tenant_id, month FROM time_entry_archive_segment
+            WHERE user_id = :userId AND min_start < :to AND max_start >= :from
+            """;
+
+    private static final String USER_PROJECT_SEGMENTS_SQL = """
+            SELECT DISTINCT tenant_id, month FROM time_entry_archive_segment
+            WHERE user_id = :userId AND project_id = :projectId AND min_start < :to AND max_start >= :from
+            """;
+
+    private static final String USER_SUMMARY_SQL = """
+            SELECT s.tenant_id, s.month, s.project_id, s.entry_count, s.min_start, s.max_start
+            FROM time_entry_archive_segment s
+            JOIN project p ON p.id = s.project_id AND p.deleting_at IS NULL
+            WHERE s.user_id = :userId AND s.min_start < :to AND s.max_start >= :from
+            """;
+
+    private static final String USER_PROJECT_SUMMARY_SQL = """
+            SELECT s.tenant_id, s.month, s.project_id, s.entry_count, s.min_start, s.max_start
+            FROM time_entry_archive_segment s
+            JOIN project p ON p.id = s.project_id AND p.deleting_at IS NULL
+            WHERE s.user_id = :userId AND s.project_id = :projectId AND s.min_start < :to AND s.max_start >= :from
+            """;
+
+    // Qualquer entry que cruze a janela, e não só as que começam nela: max_end pega as longas
+    private static final String OVERLAPPING_SEGMENTS_SQL = """
+            SELECT DISTINCT tenant_id, month FROM time_entry_archive_segment
+            WHERE tenant_id = :tenantId AND user_id = :userId AND min_start < :to AND max_end > :from
+            """;
+
+    private static final String PROJECT_SEGMENTS_SQL = """
+            SELECT DISTINCT tenant_id, month FROM time_entry_archive_segment WHERE project_id = :projectId
+            """;
+
+    private static final String TENANT_MONTHS_SQL = """
+            SELECT DISTINCT month FROM time_entry_archive_segment
+            WHERE tenant_id = :tenantId
+            ORDER BY month
+            """;
+
+    private static final String USER_MONTHS_SQL = """
+            SELECT DISTINCT month FROM time_entry_archive_segment
+            WHERE tenant_id = :tenantId AND user_id = :userId
+            ORDER BY month
+            """;
+
+    private static final RowMapper<Segment> SEGMENT_MAPPER = (rs, rowNum) -> new Segment(
+            rs.getObject("tenant_id", UUID.class), rs.getObject("month", LocalDate.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TimeEntryArchive(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Entries arquivadas do usuário com {@code start_time} na janela (e do projeto, se informado),
+     * da mais recente para a mais antiga. Só abre os segmentos cujo intervalo de inícios cruza a janela.
+     */
+    public List<TimeEntryResponseDTO> findResponses(UUID userId, UUID projectId, TimeEntryRange range) {
+        return read(findSegments(userId, projectId, range), row -> matches(row, userId, projectId, range));
+    }
+
+    /**
+     * As {@code limit} entries arquivadas mais recentes do usuário na janela. Os meses são abertos do
+     * mais novo para o mais antigo, e a leitura para no primeiro mês que completa o limite.
+     */
+    public List<TimeEntryResponseDTO> findNewest(UUID userId, UUID projectId, TimeEntryRange range, int limit) {
+        Map<LocalDate, List<Segment>> byMonth = new TreeMap<>(Comparator.reverseOrder());
+        findSegments(userId, projectId, range).forEach(segment ->
+                byMonth.computeIfAbsent(segment.month(), month -> new ArrayList<>()).add(segment));
+
+        List<TimeEntryResponseDTO> newest = new ArrayList<>();
+        for (List<Segment> month : byMonth.values()) {
+            newest.addAll(read(month, row -> matches(row, userId, projectId, range)));
+            if (newest.size() >= limit) {
+                break;
+            }
+        }
+        return newest.stream().sorted(NEWEST_FIRST).limit(limit).toList();
+    }
+
+    /**
+     * Quantas entries arquivadas o usuário tem na janela e o início mais recente possível entre elas,
+     * pelo índice. Só os segmentos que passam da borda da janela são abertos, para a contagem exata.
+     */
+    public Summary summarize(UUID userId, UUID projectId, TimeEntryRange range) {
+        MapSqlParameterSource params = windowParams(userId, projectId, range);
+        String sql = projectId != null ? USER_PROJECT_SUMMARY_SQL : USER_SUMMARY_SQL;
+
+        long count = 0;
+        Instant newestStart = null;
+        Map<Segment, Set<UUID>> partial = new HashMap<>();
+        for (SegmentSummary summary : jdbcTemplate.query(sql, params, (rs, rowNum) -> new SegmentSummary(
+                new Segment(rs.getObject("tenant_id", UUID.class), rs.getObject("month", LocalDate.class)),
+                rs.getObject("project_id", UUID.class),
+                rs.getInt("entry_count"),
+                rs.getObject("min_start", OffsetDateTime.class).toInstant(),
+                rs.getObject("max_start", OffsetDateTime.class).toInstant()))) {
+            Instant bound = summary.maxStart().isBefore(range.to()) ? summary.maxStart() : range.to();
+            newestStart = newestStart == null || bound.isAfter(newestStart) ? bound : newestStart;
+            if (!summary.minStart().isBefore(range.from()) && summary.maxStart().isBefore(range.to())) {
+                count += summary.entryCount();
+            } else {
+                partial.computeIfAbsent(summary.segment(), segment -> new HashSet<>()).add(summary.projectId());
+            }
+        }
+        for (Map.Entry<Segment, Set<UUID>> segment : partial.entrySet()) {
+            count += read(List.of(segment.getKey()), row -> segment.getValue().contains(row.projectId())
+                    && matches(row, userId, projectId, range)).size();
+        }
+        return new Summary(count, newestStart);
+    }
+
+    /** Entries arquivadas do usuário no tenant que cruzam {@code [from, to)}, mesmo começando antes. */
+    public List<TimeEntryResponseDTO> findOverlapping(UUID tenantId, UUID userId, Instant from, Instant to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("userId", userId)
+                .addValue("from", from.atOffset(ZoneOffset.UTC))
+                .addValue("to", to.atOffset(ZoneOffset.UTC));
+        List<Segment> segments = jdbcTemplate.query(OVERLAPPING_SEGMENTS_SQL, params, SEGMENT_MAPPER);
+        return read(segments, row -> row.userId().equals(userId)
+                && row.startTime().isBefore(to) && row.endTime().isAfter(from));
+    }
+
+    /** Entries arquivadas do projeto, de todos os membros. */
+    public List<TimeEntryResponseDTO> findByProjectId(UUID projectId) {
+        List<Segment> segments = jdbcTemplate.query(PROJECT_SEGMENTS_SQL,
+                new MapSqlParameterSource("projectId", projectId), SEGMENT_MAPPER);
+        return read(segments, row -> row.projectId().equals(projectId));
+    }
+
+    /** Percorre os segmentos do tenant em ordem de mês; com {@code userId}, só os meses em que ele aparece. */
+    public void forEachSegment(UUID tenantId, UUID userId, Consumer<List<ArchivedTimeEntry>> action) {
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("tenantId", tenantId);
+        String sql = TENANT_MONTHS_SQL;
+        if (userId != null) {
+            params.addValue("userId", userId);
+            sql = USER_MONTHS_SQL;
+        }
+        for (LocalDate month : jdbcTemplate.queryForList(sql, params, LocalDate.class)) {
+            List<ArchivedTimeEntry> rows = readSegment(tenantId, month);
+            action.accept(userId == null ? rows : rows.stream().filter(row -> row.userId().equals(userId)).toList());
+        }
+    }
+
+    /** Nomes dos projetos que ainda existem (e não estão em exclusão) entre os ids informados. */
+    public Map<UUID, String> findProjectNames(Collection<UUID> projectIds) {
+        Map<UUID, String> names = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return names;
+        }
+        jdbcTemplate.query("SELECT id, name FROM project WHERE id IN (:ids) AND deleting_at IS NULL",
+                new MapSqlParameterSource("ids", projectIds.stream().distinct().toList()),
+                rs -> {
+                    names.put(rs.getObject("id", UUID.class), rs.getString("name"));
+                });
+        return names;
+    }
+
+    public List<ArchivedTimeEntry> readSegment(UUID tenantId, LocalDate month) {
+        List<byte[]> data = jdbcTemplate.query(READ_SEGMENT_SQL, segmentParams(tenantId, month),
+                (rs, rowNum) -> rs.getBytes("data"));
+        if (data.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return TimeEntrySegmentCodec.read(new ByteArrayInputStream(data.getFirst()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /** Grava o segmento na transação corrente: ele só aparece junto com a remoção das linhas vivas. */
+    void writeSegment(UUID tenantId, LocalDate month, List<ArchivedTimeEntry> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            TimeEntrySegmentCodec.write(rows, out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        jdbcTemplate.update(UPSERT_SEGMENT_SQL, segmentParams(tenantId, month).addValue("data", out.toByteArray()));
+    }
+
+    private List<Segment> findSegments(UUID userId, UUID projectId, TimeEntryRange range) {
+        return jdbcTemplate.query(projectId != null ? USER_PROJECT_SEGMENTS_SQL : USER_SEGMENTS_SQL,
+                windowParams(userId, projectId, range), SEGMENT_MAPPER);
+    }
+
+    /** Lê os segmentos e devolve, da mais recente para a mais antiga, as entries aceitas de projetos ativos. */
+    private List<TimeEntryResponseDTO> read(Collection<Segment> segments, Predicate<ArchivedTimeEntry> filter) {
+        if (segments.isEmpty()) {
+            return List.of();
+        }
+        List<ArchivedTimeEntry> rows = segments.stream()
+                .flatMap(segment -> readSegment(segment.tenantId(), segment.month()).stream())
+                .filter(filter)
+                .toList();
+        Map<UUID, String> projectNames = findProjectNames(rows.stream().map(ArchivedTimeEntry::projectId).toList());
+
+        return rows.stream()
+                .filter(row -> projectNames.containsKey(row.projectId()))
+                .map(row -> new TimeEntryResponseDTO(row.id(), row.description(), row.startTime(), row.endTime(),
+                        row.projectId(), projectNames.get(row.projectId()), row.createdAt()))
+                .sorted(NEWEST_FIRST)
+                .toList();
+    }
+
+    private static boolean matches(ArchivedTimeEntry row, UUID userId, UUID projectId, TimeEntryRange range) {
+        return row.userId().equals(userId)
+                && (projectId == null || row.projectId().equals(projectId))
+                && !row.startTime().isBefore(range.from()) && row.startTime().isBefore(range.to());
+    }
+
+    private static MapSqlParameterSource windowParams(UUID userId, UUID projectId, TimeEntryRange range) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("projectId", projectId)
+                .addValue("from", range.from().atOffset(ZoneOffset.UTC))
+                .addValue("to", range.to().atOffset(ZoneOffset.UTC));
+    }
+
+    static int compareUuids(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static MapSqlParameterSource segmentParams(UUID tenantId, LocalDate month) {
+        return new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("month", month);
+    }
+
+    /**
+     * Resumo das entries arquivadas em uma janela: {@code newestStart} é um limite superior para o
+     * início da mais recente (nulo sem entries); acima dele, o histórico não precisa do arquivo.
+     */
+    public record Summary(long count, Instant newestStart) {
+
+        public boolean isEmpty() {
+            return count == 0;
+        }
+    }
+
+    private record Segment(UUID tenantId, LocalDate month) {
+    }
+
+    private record SegmentSummary(Segment segment, UUID projectId, int entryCount, Instant minStart, Instant maxStart) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.config.TimeEntryArchiveProperties;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Move lançamentos encerrados de meses antigos de {@code time_entry} para o arquivo frio.
+ *
+ * A unidade é o mês UTC inteiro de um tenant: todo mês que termina antes de {@code now - minAge}
+ * vira (ou completa) um segmento em {@code time_entry_archive_month}. Cada mês roda na sua própria
+ * transação: o segmento é gravado, as linhas saem de {@code time_entry} em blocos de
+ * {@value #DELETE_CHUNK_SIZE} e o índice {@code time_entry_archive_segment} é atualizado por usuário
+ * e projeto. Tudo confirma junto: nenhum leitor vê a entry nos dois lugares, e uma falha no meio
+ * não deixa nada para trás. O rollup diário não muda: os totais dos meses arquivados continuam lá.
+ *
+ * Entries arquivadas são somente leitura (patch e delete respondem 404) e guardam os horários com a
+ * mesma precisão de microssegundos do banco.
+ */
+@Service
+public class TimeEntryArchiveService {
+
+    static final int DELETE_CHUNK_SIZE = 1_000;
+
+    private static final String PENDING_MONTHS_SQL = """
+            SELECT DISTINCT p.tenant_id, CAST(date_trunc('month', te.start_time AT TIME ZONE 'UTC') AS date) AS month
+            FROM time_entry te
+            JOIN project p ON p.id = te.project_id
+            WHERE te.start_time < :cutoff AND te.end_time IS NOT NULL
+            ORDER BY month
+            """;
+
+    // FOR UPDATE: um patch concorrente espera o arquivamento e então não encontra mais a entry; duas
+    // execuções do mesmo mês também se enfileiram aqui, e a segunda lê o segmento já gravado pela primeira
+    private static final String MONTH_ROWS_SQL = """
+            SELECT te.id, te.created_by, te.project_id, te.description, te.start_time, te.end_time, te.created_at
+            FROM time_entry te
+            JOIN project p ON p.id = te.project_id
+            WHERE p.tenant_id = :tenantId AND te.start_time >= :from AND te.start_time < :to
+              AND te.end_time IS NOT NULL
+            FOR UPDATE OF te
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM time_entry
+            WHERE id IN (:ids) AND start_time >= :from AND start_time < :to
+            """;
+
+    private static final String UPSERT_SEGMENT_SQL = """
+            INSERT INTO time_entry_archive_segment
+                (tenant_id, month, user_id, project_id, entry_count, min_start, max_start, max_end)
+            VALUES (:tenantId, :month, :userId, :projectId, :entryCount, :minStart, :maxStart, :maxEnd)
+            ON CONFLICT (tenant_id, month, user_id, project_id) DO UPDATE
+            SET entry_count = EXCLUDED.entry_count,
+                min_start = EXCLUDED.min_start,
+                max_start = EXCLUDED.max_start,
+                max_end = EXCLUDED.max_end,
+                archived_at = NOW()
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TimeEntryArchive archive;
+    private final TimeEntryArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public TimeEntryArchiveService(NamedParameterJdbcTemplate jdbcTemplate, TimeEntryArchive archive,
+            TimeEntryArchiveProperties properties, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archive = archive;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "0 30 3 * * *", zone = "UTC")
+    public void archiveScheduled() {
+        if (properties.isEnabled()) {
+            archive(Instant.now());
+        }
+    }
+
+    /** Arquiva todos os meses pendentes anteriores ao corte; devolve quantas entries saíram de {@code time_entry}. */
+    public int archive(Instant now) {
+        LocalDate cutoff = LocalDate.ofInstant(now.minus(properties.getMinAge()), ZoneOffset.UTC).withDayOfMonth(1);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", cutoff.atStartOfDay().atOffset(ZoneOffset.UTC));
+        List<PendingMonth> pending = jdbcTemplate.query(PENDING_MONTHS_SQL, params, (rs, rowNum) -> new PendingMonth(
+                rs.getObject("tenant_id", UUID.class), rs.getObject("month", LocalDate.class)));
+
+        int archived = 0;
+        for (PendingMonth month : pending) {
+            archived += transactionTemplate.execute(status -> archiveMonth(month.tenantId(), month.month()));
+        }
+        return archived;
+    }
+
+    private int archiveMonth(UUID tenantId, LocalDate month) {
+        OffsetDateTime from = month.atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime to = month.plusMonths(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("from", from)
+                .addValue("to", to);
+        List<ArchivedTimeEntry> rows = jdbcTemplate.query(MONTH_ROWS_SQL, params, (rs, rowNum) -> new ArchivedTimeEntry(
+                rs.getObject("id", UUID.class),
+                rs.getObject("created_by", UUID.class),
+                rs.getObject("project_id", UUID.class),
+                rs.getString("description"),
+                rs.getObject("start_time", OffsetDateTime.class).toInstant(),
+                rs.getObject("end_time", OffsetDateTime.class).toInstant(),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant()));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // Um mês já arquivado pode receber entries criadas depois com data retroativa
+        Map<UUID, ArchivedTimeEntry> merged = new LinkedHashMap<>();
+        archive.readSegment(tenantId, month).forEach(entry -> merged.put(entry.id(), entry));
+        rows.forEach(entry -> merged.put(entry.id(), entry));
+
+        archive.writeSegment(tenantId, month, new ArrayList<>(merged.values()));
+
+        List<UUID> ids = rows.stream().map(ArchivedTimeEntry::id).toList();
+        for (int i = 0; i < ids.size(); i += DELETE_CHUNK_SIZE) {
+            params.addValue("ids", ids.subList(i, Math.min(i + DELETE_CHUNK_SIZE, ids.size())));
+            jdbcTemplate.update(DELETE_SQL, params);
+        }
+
+        Map<SegmentKey, List<ArchivedTimeEntry>> byUserAndProject = merged.values().stream()
+                .collect(Collectors.groupingBy(entry -> new SegmentKey(entry.userId(), entry.projectId())));
+        MapSqlParameterSource[] segments = byUserAndProject.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("tenantId", tenantId)
+                        .addValue("month", month)
+                        .addValue("userId", entry.getKey().userId())
+                        .addValue("projectId", entry.getKey().projectId())
+                        .addValue("entryCount", entry.getValue().size())
+                        .addValue("minStart", entry.getValue().stream().map(ArchivedTimeEntry::startTime)
+                                .min(Instant::compareTo).orElseThrow().atOffset(ZoneOffset.UTC))
+                        .addValue("maxStart", entry.getValue().stream().map(ArchivedTimeEntry::startTime)
+                                .max(Instant::compareTo).orElseThrow().atOffset(ZoneOffset.UTC))
+                        .addValue("maxEnd", entry.getValue().stream().map(ArchivedTimeEntry::endTime)
+                                .max(Instant::compareTo).orElseThrow().atOffset(ZoneOffset.UTC)))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT_SEGMENT_SQL, segments);
+        return rows.size();
+    }
+
+    private record PendingMonth(UUID tenantId, LocalDate month) {
+    }
+
+    private record SegmentKey(UUID userId, UUID projectId) {
+    }
+}
@@ -0,0 +1,289 @@
+package com.qronis.modules.tracker.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Entries encerradas de um tenant em arrays primitivos paralelos (uma posição por entry): início e
+ * fim em epoch millis e índices nos dicionários de projetos e de membros.
+ *
+ * As agregações são laços sobre os arrays, sem alocar nada por linha. Acima de
+ * {@link #PARALLEL_THRESHOLD} linhas, a varredura é dividida em blocos no pool fork-join comum,
+ * cada bloco com seus próprios totais. Remoções movem a última linha para a posição liberada.
+ *
+ * {@code put} e {@code remove} acham a linha por uma tabela hash de endereçamento aberto (sondagem
+ * linear) sobre as próprias colunas de id: um {@code int[]} com a posição de cada entry, sem objeto
+ * por linha. A tabela fica no máximo pela metade e remove com deslocamento para trás, sem lápides.
+ *
+ * Não é thread-safe: quem usa sincroniza (ver {@link TimeEntryAnalyticsService}).
+ */
+public final class TimeEntryColumns {
+
+    static final int PARALLEL_THRESHOLD = 200_000;
+    private static final int CHUNK_SIZE = 65_536;
+    private static final int INITIAL_CAPACITY = 1_024;
+
+    private static final long HOUR_MILLIS = 3_600_000L;
+    private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+
+    private long[] idHigh = new long[INITIAL_CAPACITY];
+    private long[] idLow = new long[INITIAL_CAPACITY];
+    private long[] starts = new long[INITIAL_CAPACITY];
+    private long[] ends = new long[INITIAL_CAPACITY];
+    private int[] projects = new int[INITIAL_CAPACITY];
+    private int[] users = new int[INITIAL_CAPACITY];
+    private int size;
+    /** Posição + 1 de cada entry, pelo hash do id; 0 é casa vazia. Tamanho sempre potência de 2. */
+    private int[] slotsById = new int[INITIAL_CAPACITY * 2];
+
+    private final List<UUID> projectIds = new ArrayList<>();
+    private final Map<UUID, Integer> projectIndexes = new HashMap<>();
+    private final List<UUID> userIds = new ArrayList<>();
+    private final Map<UUID, Integer> userIndexes = new HashMap<>();
+
+    public int size() {
+        return size;
+    }
+
+    /** Acrescenta sem procurar o id: usado na carga, em que cada entry aparece uma vez. */
+    public void append(UUID id, UUID projectId, UUID userId, long startMillis, long endMillis) {
+        if (size == starts.length) {
+            grow();
+        }
+        if ((size + 1) * 2 > slotsById.length) {
+            rehash(slotsById.length * 2);
+        }
+        set(size, id, projectId, userId, startMillis, endMillis);
+        slotsById[freeBucket(idHigh[size], idLow[size])] = size + 1;
+        size++;
+    }
+
+    /** Insere ou substitui a entry de mesmo id. */
+    public void put(UUID id, UUID projectId, UUID userId, long startMillis, long endMillis) {
+        int slot = indexOf(id);
+        if (slot < 0) {
+            append(id, projectId, userId, startMillis, endMillis);
+        } else {
+            set(slot, id, projectId, userId, startMillis, endMillis);
+        }
+    }
+
+    public boolean remove(UUID id) {
+        int slot = indexOf(id);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    public void removeProject(UUID projectId) {
+        Integer project = projectIndexes.get(projectId);
+        if (project == null) {
+            return;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (projects[i] == project) {
+                removeAt(i);
+            }
+        }
+    }
+
+    public UUID projectId(int index) {
+        return projectIds.get(index);
+    }
+
+    public UUID userId(int index) {
+        return userIds.get(index);
+    }
+
+    /**
+     * Milissegundos por grupo dentro de [{@code fromMillis}, {@code toMillis}), com filtro opcional
+     * por projeto e por membro (null = todos). O array tem uma posição por projeto ou membro do
+     * dicionário, 7 por dia da semana (segunda = 0) ou 24 por hora.
+     */
+    public long[] sum(AnalyticsDimension dimension, long fromMillis, long toMillis, UUID projectId, UUID userId) {
+        int width = switch (dimension) {
+            case PROJECT -> projectIds.size();
+            case USER -> userIds.size();
+            case WEEKDAY -> 7;
+            case HOUR -> 24;
+        };
+        // Filtro por id fora do dicionário: nenhuma entry combina
+        int project = projectId == null ? -1 : projectIndexes.getOrDefault(projectId, Integer.MIN_VALUE);
+        int user = userId == null ? -1 : userIndexes.getOrDefault(userId, Integer.MIN_VALUE);
+        if (project == Integer.MIN_VALUE || user == Integer.MIN_VALUE) {
+            return new long[width];
+        }
+
+        if (size < PARALLEL_THRESHOLD) {
+            long[] totals = new long[width];
+            scan(totals, 0, size, dimension, fromMillis, toMillis, project, user);
+            return totals;
+        }
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int rows = size;
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    long[] totals = new long[width];
+                    scan(totals, chunk * CHUNK_SIZE, Math.min(rows, (chunk + 1) * CHUNK_SIZE),
+                            dimension, fromMillis, toMillis, project, user);
+                    return totals;
+                })
+                .reduce(new long[width], TimeEntryColumns::add);
+    }
+
+    private void scan(long[] totals, int from, int to, AnalyticsDimension dimension, long fromMillis, long toMillis,
+            int project, int user) {
+        for (int i = from; i < to; i++) {
+            if ((project >= 0 && projects[i] != project) || (user >= 0 && users[i] != user)) {
+                continue;
+            }
+            long start = Math.max(starts[i], fromMillis);
+            long end = Math.min(ends[i], toMillis);
+            if (end <= start) {
+                continue;
+            }
+            switch (dimension) {
+                case PROJECT -> totals[projects[i]] += end - start;
+                case USER -> totals[users[i]] += end - start;
+                case WEEKDAY -> {
+                    // Epoch day 0 (1970-01-01) foi uma quinta-feira
+                    for (long cursor = start; cursor < end; ) {
+                        long day = Math.floorDiv(cursor, DAY_MILLIS);
+                        long next = Math.min((day + 1) * DAY_MILLIS, end);
+                        totals[(int) Math.floorMod(day + 3, 7L)] += next - cursor;
+                        cursor = next;
+                    }
+                }
+                case HOUR -> {
+                    for (long cursor = start; cursor < end; ) {
+                        long hour = Math.floorDiv(cursor, HOUR_MILLIS);
+                        long next = Math.min((hour + 1) * HOUR_MILLIS, end);
+                        totals[(int) Math.floorMod(hour, 24L)] += next - cursor;
+                        cursor = next;
+                    }
+                }
+            }
+        }
+    }
+
+    private static long[] add(long[] a, long[] b) {
+        long[] sum = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            sum[i] = a[i] + b[i];
+        }
+        return sum;
+    }
+
+    private int indexOf(UUID id) {
+        int bucket = bucketOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        return bucket < 0 ? -1 : slotsById[bucket] - 1;
+    }
+
+    /** Casa da tabela que aponta para o id, ou -1. */
+    private int bucketOf(long high, long low) {
+        int mask = slotsById.length - 1;
+        for (int bucket = hash(high, low) & mask; ; bucket = (bucket + 1) & mask) {
+            int slot = slotsById[bucket] - 1;
+            if (slot < 0) {
+                return -1;
+            }
+            if (idLow[slot] == low && idHigh[slot] == high) {
+                return bucket;
+            }
+        }
+    }
+
+    private int freeBucket(long high, long low) {
+        int mask = slotsById.length - 1;
+        int bucket = hash(high, low) & mask;
+        while (slotsById[bucket] != 0) {
+            bucket = (bucket + 1) & mask;
+        }
+        return bucket;
+    }
+
+    /** Esvazia a casa e puxa para trás as seguintes da sequência que não ficariam mais alcançáveis. */
+    private void clearBucket(int bucket) {
+        int mask = slotsById.length - 1;
+        int hole = bucket;
+        slotsById[hole] = 0;
+        for (int next = (hole + 1) & mask; slotsById[next] != 0; next = (next + 1) & mask) {
+            int slot = slotsById[next] - 1;
+            int home = hash(idHigh[slot], idLow[slot]) & mask;
+            // A entry em next só pode ocupar o buraco se a casa de origem dela não estiver em (hole, next]
+            boolean reachable = hole <= next ? home > hole && home <= next : home > hole || home <= next;
+            if (!reachable) {
+                slotsById[hole] = slotsById[next];
+                slotsById[next] = 0;
+                hole = next;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        slotsById = new int[capacity];
+        for (int slot = 0; slot < size; slot++) {
+            slotsById[freeBucket(idHigh[slot], idLow[slot])] = slot + 1;
+        }
+    }
+
+    private static int hash(long high, long low) {
+        long h = high ^ low;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private void set(int slot, UUID id, UUID projectId, UUID userId, long startMillis, long endMillis) {
+        idHigh[slot] = id.getMostSignificantBits();
+        idLow[slot] = id.getLeastSignificantBits();
+        starts[slot] = startMillis;
+        ends[slot] = endMillis;
+        projects[slot] = index(projectId, projectIds, projectIndexes);
+        users[slot] = index(userId, userIds, userIndexes);
+    }
+
+    private void removeAt(int slot) {
+        int last = size - 1;
+        // A tabela lê as colunas de id: ajusta antes de mover a última linha
+        clearBucket(bucketOf(idHigh[slot], idLow[slot]));
+        if (slot != last) {
+            slotsById[bucketOf(idHigh[last], idLow[last])] = slot + 1;
+        }
+        size = last;
+        idHigh[slot] = idHigh[last];
+        idLow[slot] = idLow[last];
+        starts[slot] = starts[last];
+        ends[slot] = ends[last];
+        projects[slot] = projects[last];
+        users[slot] = users[last];
+    }
+
+    private void grow() {
+        int capacity = starts.length * 2;
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        projects = Arrays.copyOf(projects, capacity);
+        users = Arrays.copyOf(users, capacity);
+    }
+
+    private static int index(UUID id, List<UUID> ids, Map<UUID, Integer> indexes) {
+        Integer index = indexes.get(id);
+        if (index == null) {
+            index = ids.size();
+            ids.add(id);
+            indexes.put(id, index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,52 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.modules.tracker.domain.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição no histórico ordenado por {@code (start_time DESC, id DESC)}.
+ * Serializado como token Base64 opaco para o cliente.
+ */
+public record TimeEntryCursor(Instant startTime, UUID id) {
+
+    /** Sentinela que antecede qualquer entry: usado para a primeira página. */
+    public static final TimeEntryCursor FIRST = new TimeEntryCursor(
+            Instant.parse("9999-12-31T23:59:59Z"),
+            new UUID(-1L, -1L));
+
+    private static final String SEPARATOR = "|";
+
+    public static TimeEntryCursor after(TimeEntry entry) {
+        return new TimeEntryCursor(entry.getStartTime(), entry.getId());
+    }
+
+    public static TimeEntryCursor after(TimeEntryResponseDTO entry) {
+        return new TimeEntryCursor(entry.startTime(), entry.id());
+    }
+
+    public static TimeEntryCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new TimeEntryCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = startTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,220 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.api.dto.TimeEntryExportRowDTO;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exportação do histórico de lançamentos direto do cursor JDBC para o stream de saída.
+ *
+ * Não hidrata entidades nem passa pelo MapStruct: cada linha do {@link ResultSet} vira uma
+ * linha CSV/NDJSON e é descartada. Com o fetch size abaixo, o driver do PostgreSQL usa um
+ * cursor de servidor (exige transação), então a memória fica estável em qualquer volume.
+ *
+ * Entries arquivadas ({@link TimeEntryArchive}) saem primeiro, um segmento mensal por vez: são
+ * sempre mais antigas que as de {@code time_entry}, então a saída continua ordenada por início.
+ */
+@Service
+public class TimeEntryExportService {
+
+    static final int FETCH_SIZE = 5_000;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    static final String CSV_HEADER =
+            "id,userId,userName,userEmail,projectId,projectName,description,startTime,endTime,durationSeconds";
+
+    private static final String TENANT_SQL = """
+            SELECT te.id, te.created_by, u.name AS user_name, u.email AS user_email,
+                   te.project_id, p.name AS project_name, te.description, te.start_time, te.end_time
+            FROM time_entry te
+            JOIN project p ON p.id = te.project_id
+            JOIN users u ON u.id = te.created_by
+            WHERE p.tenant_id = ? AND p.deleting_at IS NULL
+            ORDER BY te.start_time, te.id
+            """;
+
+    private static final String USER_SQL = """
+            SELECT te.id, te.created_by, u.name AS user_name, u.email AS user_email,
+                   te.project_id, p.name AS project_name, te.description, te.start_time, te.end_time
+            FROM time_entry te
+            JOIN project p ON p.id = te.project_id
+            JOIN users u ON u.id = te.created_by
+            WHERE p.tenant_id = ? AND p.deleting_at IS NULL AND te.created_by = ?
+            ORDER BY te.start_time, te.id
+            """;
+
+    private static final String USERS_SQL = "SELECT id, name, email FROM users WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectWriter rowWriter;
+    private final TimeEntryArchive archive;
+
+    public TimeEntryExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, TimeEntryArchive archive) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rowWriter = objectMapper.writerFor(TimeEntryExportRowDTO.class);
+        this.archive = archive;
+    }
+
+    /**
+     * Escreve os lançamentos do tenant (ou apenas do usuário, quando {@code userId} não é nulo).
+     * Deve ser chamado pelo proxy do Spring para abrir a transação que habilita o cursor.
+     */
+    @Transactional(readOnly = true)
+    public void export(UUID tenantId, UUID userId, TimeEntryFileFormat format, boolean gzip, OutputStream target) {
+        try {
+            OutputStream out = gzip ? new GZIPOutputStream(target, WRITE_BUFFER_SIZE) : target;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+            if (format == TimeEntryFileFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            archive.forEachSegment(tenantId, userId, segment -> writeArchived(writer, format, segment));
+
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(userId == null ? TENANT_SQL : USER_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(FETCH_SIZE);
+                ps.setObject(1, tenantId);
+                if (userId != null) {
+                    ps.setObject(2, userId);
+                }
+                return ps;
+            }, rs -> {
+                writeRow(writer, format, toRow(rs));
+            });
+
+            writer.flush();
+            if (out instanceof GZIPOutputStream gzipOut) {
+                gzipOut.finish();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /** Mesmas regras do SQL: entries de projetos excluídos ficam de fora. */
+    private void writeArchived(Writer writer, TimeEntryFileFormat format, List<ArchivedTimeEntry> segment) {
+        Map<UUID, String> projectNames = archive.findProjectNames(
+                segment.stream().map(ArchivedTimeEntry::projectId).toList());
+        Map<UUID, ExportUser> users = findUsers(segment.stream().map(ArchivedTimeEntry::userId).distinct().toList());
+
+        for (ArchivedTimeEntry entry : segment) {
+            String projectName = projectNames.get(entry.projectId());
+            ExportUser user = users.get(entry.userId());
+            if (projectName == null || user == null) {
+                continue;
+            }
+            writeRow(writer, format, new TimeEntryExportRowDTO(
+                    entry.id().toString(),
+                    entry.userId().toString(),
+                    user.name(),
+                    user.email(),
+                    entry.projectId().toString(),
+                    projectName,
+                    entry.description(),
+                    entry.startTime(),
+                    entry.endTime(),
+                    Duration.between(entry.startTime(), entry.endTime()).toSeconds()));
+        }
+    }
+
+    private Map<UUID, ExportUser> findUsers(List<UUID> userIds) {
+        Map<UUID, ExportUser> users = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(USERS_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", userIds.toArray()));
+            return ps;
+        }, rs -> {
+            users.put(rs.getObject("id", UUID.class), new ExportUser(rs.getString("name"), rs.getString("email")));
+        });
+        return users;
+    }
+
+    private TimeEntryExportRowDTO toRow(ResultSet rs) throws SQLException {
+        Instant start = rs.getObject("start_time", OffsetDateTime.class).toInstant();
+        OffsetDateTime endValue = rs.getObject("end_time", OffsetDateTime.class);
+        Instant end = endValue != null ? endValue.toInstant() : null;
+
+        return new TimeEntryExportRowDTO(
+                rs.getString("id"),
+                rs.getString("created_by"),
+                rs.getString("user_name"),
+                rs.getString("user_email"),
+                rs.getString("project_id"),
+                rs.getString("project_name"),
+                rs.getString("description"),
+                start,
+                end,
+                end != null ? Duration.between(start, end).toSeconds() : null);
+    }
+
+    private void writeRow(Writer writer, TimeEntryFileFormat format, TimeEntryExportRowDTO row) {
+        try {
+            if (format == TimeEntryFileFormat.NDJSON) {
+                writer.write(rowWriter.writeValueAsString(row));
+            } else {
+                writer.write(row.id());
+                writer.write(',');
+                writer.write(row.userId());
+                writer.write(',');
+                writer.write(csv(row.userName()));
+                writer.write(',');
+                writer.write(csv(row.userEmail()));
+                writer.write(',');
+                writer.write(row.projectId());
+                writer.write(',');
+                writer.write(csv(row.projectName()));
+                writer.write(',');
+                writer.write(csv(row.description()));
+                writer.write(',');
+                writer.write(row.startTime().toString());
+                writer.write(',');
+                writer.write(row.endTime() != null ? row.endTime().toString() : "");
+                writer.write(',');
+                writer.write(row.durationSeconds() != null ? row.durationSeconds().toString() : "");
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /** Escapa um campo CSV (RFC 4180) apenas quando necessário. */
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private record ExportUser(String name, String email) {
+    }
+}
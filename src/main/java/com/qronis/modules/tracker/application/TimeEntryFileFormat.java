@@ -0,0 +1,6 @@
+package com.qronis.modules.tracker.application;
+
+public enum TimeEntryFileFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,71 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.api.dto.TimeEntryHeatmapResponseDTO;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Heatmap de um ano de atividade (estilo GitHub), por usuário ou por tenant.
+ *
+ * Lê o rollup diário ({@code time_entry_daily_rollup}, dias UTC, só entries encerradas) com uma
+ * query agrupada por dia sobre o índice {@code (tenant_id, day, user_id)}. As linhas vão direto
+ * para um {@code int[]}, sem objeto intermediário por dia.
+ */
+@Service
+public class TimeEntryHeatmapService {
+
+    static final int DAYS = 366;
+
+    // Dois SQLs em vez de ":userId IS NULL": cada escopo tem um plano fixo sobre o índice
+    private static final String USER_SQL = """
+            SELECT r.day, CAST(SUM(r.duration_millis) / 60000 AS int) AS minutes
+            FROM time_entry_daily_rollup r
+            WHERE r.tenant_id = :tenantId AND r.day >= :from AND r.day < :to AND r.user_id = :userId
+            GROUP BY r.day
+            """;
+
+    private static final String TENANT_SQL = """
+            SELECT r.day, CAST(SUM(r.duration_millis) / 60000 AS int) AS minutes
+            FROM time_entry_daily_rollup r
+            WHERE r.tenant_id = :tenantId AND r.day >= :from AND r.day < :to
+            GROUP BY r.day
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TimeEntryHeatmapService(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Os {@value #DAYS} dias terminados em {@code to} (inclusive); sem {@code to}, termina hoje (UTC). */
+    @Transactional(readOnly = true)
+    public TimeEntryHeatmapResponseDTO heatmap(UUID tenantId, UUID userId, HeatmapScope scope, LocalDate to) {
+        LocalDate last = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate from = last.minusDays(DAYS - 1);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("from", from)
+                .addValue("to", last.plusDays(1));
+        String sql = TENANT_SQL;
+        if (scope == HeatmapScope.USER) {
+            params.addValue("userId", userId);
+            sql = USER_SQL;
+        }
+
+        int[] minutes = new int[DAYS];
+        jdbcTemplate.query(sql, params, rs -> {
+            LocalDate day = rs.getObject("day", LocalDate.class);
+            minutes[(int) ChronoUnit.DAYS.between(from, day)] = rs.getInt("minutes");
+        });
+        return new TimeEntryHeatmapResponseDTO(scope, from, minutes);
+    }
+}
@@ -0,0 +1,286 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.project.application.repositories.ProjectRepository;
+import com.qronis.modules.tracker.api.dto.TimeEntryCreateRequestDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryImportErrorDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryImportResponseDTO;
+import com.qronis.modules.tracker.domain.exception.TimeEntryOverlapException;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Importação em massa de lançamentos fechados (NDJSON ou CSV), lida como stream.
+ *
+ * As linhas são validadas com as mesmas regras de {@link TimeEntryService#create} e gravadas
+ * em lotes de {@value #BATCH_SIZE} via JDBC batch, resolvendo os projetos do tenant uma vez por lote.
+ * A memória usada é constante, independente do tamanho do arquivo. Linhas inválidas são
+ * rejeitadas individualmente; qualquer erro de banco desfaz a importação inteira (sobreposição,
+ * nos tenants com a prevenção ligada, responde como {@link TimeEntryOverlapException}).
+ * Como o insert não passa pelo {@link TimeEntryService}, cada lote agrega suas durações por
+ * projeto e dia e atualiza o rollup diário com um upsert por chave.
+ */
+@Service
+public class TimeEntryImportService {
+
+    static final int BATCH_SIZE = 1_000;
+    static final int MAX_REPORTED_ERRORS = 100;
+    static final int MAX_DESCRIPTION_LENGTH = 500;
+
+    private static final String CSV_HEADER = "projectId";
+    private static final String INSERT_SQL = """
+            INSERT INTO time_entry (id, description, start_time, end_time, project_id, created_by)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectRepository projectRepository;
+    private final TimeEntryRollupService rollupService;
+    private final TimeEntryAnalyticsService analyticsService;
+    private final ObjectReader rowReader;
+
+    public TimeEntryImportService(JdbcTemplate jdbcTemplate, ProjectRepository projectRepository,
+            TimeEntryRollupService rollupService, TimeEntryAnalyticsService analyticsService,
+            ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.projectRepository = projectRepository;
+        this.rollupService = rollupService;
+        this.analyticsService = analyticsService;
+        this.rowReader = objectMapper.readerFor(TimeEntryCreateRequestDTO.class);
+    }
+
+    @Transactional
+    public TimeEntryImportResponseDTO importEntries(InputStream input, TimeEntryFileFormat format,
+            UUID tenantId, UUID userId) {
+        ImportBatch batch = new ImportBatch(tenantId, userId);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (format == TimeEntryFileFormat.CSV && lineNumber == 1 && line.startsWith(CSV_HEADER))) {
+                    continue;
+                }
+                TimeEntryCreateRequestDTO row = parse(line, format);
+                if (row == null) {
+                    batch.reject(lineNumber, "Linha malformada");
+                } else {
+                    batch.add(lineNumber, row);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        batch.flush();
+        analyticsService.invalidate(tenantId);
+        return batch.result();
+    }
+
+    private TimeEntryCreateRequestDTO parse(String line, TimeEntryFileFormat format) {
+        try {
+            return switch (format) {
+                case NDJSON -> rowReader.readValue(line);
+                case CSV -> parseCsv(line);
+            };
+        } catch (JacksonException | IllegalArgumentException | DateTimeException ex) {
+            return null;
+        }
+    }
+
+    private TimeEntryCreateRequestDTO parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != 4) {
+            return null;
+        }
+        return new TimeEntryCreateRequestDTO(
+                fields.get(0).isBlank() ? null : UUID.fromString(fields.get(0).trim()),
+                fields.get(1).isEmpty() ? null : fields.get(1),
+                fields.get(2).isBlank() ? null : Instant.parse(fields.get(2).trim()),
+                fields.get(3).isBlank() ? null : Instant.parse(fields.get(3).trim()));
+    }
+
+    /** Divide uma linha CSV (RFC 4180) respeitando campos entre aspas e aspas escapadas. */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private String validate(TimeEntryCreateRequestDTO row) {
+        if (row.projectId() == null) {
+            return "ID do projeto é obrigatório";
+        }
+        if (row.startTime() == null) {
+            return "Horário de início é obrigatório";
+        }
+        if (row.endTime() == null) {
+            return "Horário de término é obrigatório";
+        }
+        if (!row.endTime().isAfter(row.startTime())) {
+            return "Horário de término deve ser posterior ao de início";
+        }
+        if (row.description() != null && row.description().length() > MAX_DESCRIPTION_LENGTH) {
+            return "Descrição excede " + MAX_DESCRIPTION_LENGTH + " caracteres";
+        }
+        return null;
+    }
+
+    /** Estado de uma importação: lote pendente, projetos já resolvidos e contadores. */
+    private final class ImportBatch {
+
+        private final UUID tenantId;
+        private final UUID userId;
+        private final List<TimeEntryCreateRequestDTO> rows = new ArrayList<>(BATCH_SIZE);
+        private final List<Long> lineNumbers = new ArrayList<>(BATCH_SIZE);
+        private final Set<UUID> tenantProjectIds = new HashSet<>();
+        private final Set<UUID> foreignProjectIds = new HashSet<>();
+        private final List<TimeEntryImportErrorDTO> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        ImportBatch(UUID tenantId, UUID userId) {
+            this.tenantId = tenantId;
+            this.userId = userId;
+        }
+
+        void add(long lineNumber, TimeEntryCreateRequestDTO row) {
+            String error = validate(row);
+            if (error != null) {
+                reject(lineNumber, error);
+                return;
+            }
+            rows.add(row);
+            lineNumbers.add(lineNumber);
+            if (rows.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(long lineNumber, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TimeEntryImportErrorDTO(lineNumber, message));
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            resolveProjects();
+
+            List<TimeEntryCreateRequestDTO> accepted = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                TimeEntryCreateRequestDTO row = rows.get(i);
+                if (tenantProjectIds.contains(row.projectId())) {
+                    accepted.add(row);
+                } else {
+                    reject(lineNumbers.get(i), "Projeto não encontrado: " + row.projectId());
+                }
+            }
+
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, accepted, BATCH_SIZE, (ps, row) -> {
+                    ps.setObject(1, UUID.randomUUID());
+                    ps.setString(2, row.description());
+                    ps.setObject(3, OffsetDateTime.ofInstant(row.startTime(), ZoneOffset.UTC));
+                    ps.setObject(4, OffsetDateTime.ofInstant(row.endTime(), ZoneOffset.UTC));
+                    ps.setObject(5, row.projectId());
+                    ps.setObject(6, userId);
+                });
+            } catch (DataIntegrityViolationException ex) {
+                // Tenant com prevenção de sobreposição: o lote inteiro falha e a importação é desfeita
+                if (TimeEntryOverlapService.isOverlapViolation(ex)) {
+                    throw new TimeEntryOverlapException(
+                            "O arquivo tem lançamentos sobrepostos entre si ou a outros do usuário. Nada foi importado.");
+                }
+                throw ex;
+            }
+            imported += accepted.size();
+            updateRollup(accepted);
+
+            rows.clear();
+            lineNumbers.clear();
+        }
+
+        private void updateRollup(List<TimeEntryCreateRequestDTO> accepted) {
+            Map<UUID, Map<LocalDate, Long>> millisByProject = new HashMap<>();
+            for (TimeEntryCreateRequestDTO row : accepted) {
+                Map<LocalDate, Long> millisByDay = millisByProject.computeIfAbsent(row.projectId(), key -> new TreeMap<>());
+                TimeEntryRollupService.splitByUtcDay(row.startTime(), row.endTime())
+                        .forEach((day, millis) -> millisByDay.merge(day, millis, Long::sum));
+            }
+            millisByProject.forEach((projectId, millisByDay) ->
+                    rollupService.addDaily(tenantId, projectId, userId, millisByDay));
+        }
+
+        private void resolveProjects() {
+            Set<UUID> unknown = new HashSet<>();
+            for (TimeEntryCreateRequestDTO row : rows) {
+                if (!tenantProjectIds.contains(row.projectId()) && !foreignProjectIds.contains(row.projectId())) {
+                    unknown.add(row.projectId());
+                }
+            }
+            if (unknown.isEmpty()) {
+                return;
+            }
+            List<UUID> found = projectRepository.findIdsByTenantIdAndIdIn(tenantId, unknown);
+            tenantProjectIds.addAll(found);
+            unknown.removeAll(found);
+            foreignProjectIds.addAll(unknown);
+        }
+
+        TimeEntryImportResponseDTO result() {
+            return new TimeEntryImportResponseDTO(imported, rejected, List.copyOf(errors));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.qronis.modules.tracker.application;
 
+import com.qronis.modules.tracker.api.dto.TimeEntryBatchPatchResultDTO;
 import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntrySwitchResponseDTO;
 import com.qronis.modules.tracker.domain.entity.TimeEntry;
 
 import org.mapstruct.Mapper;
@@ -15,5 +17,13 @@ public interface TimeEntryMapper {
     @Mapping(target = "projectName", source = "project.name")
     TimeEntryResponseDTO toResponse(TimeEntry timeEntry);
 
+    TimeEntryResponseDTO toResponse(ActiveTimer activeTimer);
+
     List<TimeEntryResponseDTO> toResponseList(List<TimeEntry> timeEntries);
+
+    TimeEntryBatchPatchResultDTO toResponse(TimeEntryPatchResult result);
+
+    TimeEntrySwitchResponseDTO toResponse(TimeEntrySwitchResult result);
+
+    List<TimeEntryBatchPatchResultDTO> toBatchPatchResponseList(List<TimeEntryPatchResult> results);
 }
@@ -0,0 +1,138 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.api.dto.TimeEntryOverlapDTO;
+import com.qronis.modules.tracker.domain.exception.TimeEntryOverlapException;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sobreposição de lançamentos do mesmo usuário.
+ *
+ * A busca usa o índice GiST {@code (created_by, tstzrange(start_time, end_time))} de
+ * {@code time_entry}, disponível para qualquer tenant. A prevenção é opcional por tenant: a
+ * restrição {@code EXCLUDE} fica em {@code time_entry_span}, mantida por trigger só para os
+ * tenants com {@code prevent_time_entry_overlaps} (ver migration V6).
+ */
+@Service
+public class TimeEntryOverlapService {
+
+    static final int MAX_WINDOW_DAYS = 366;
+    static final int MAX_RESULTS = 500;
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    // Cada par aparece uma vez, com a entry que começa antes em entry_id
+    private static final String OVERLAPS_SQL = """
+            SELECT a.id AS entry_id, b.id AS overlapping_entry_id,
+                   lower(tstzrange(a.start_time, a.end_time) * tstzrange(b.start_time, b.end_time)) AS overlap_start,
+                   upper(tstzrange(a.start_time, a.end_time) * tstzrange(b.start_time, b.end_time)) AS overlap_end
+            FROM time_entry a
+            JOIN time_entry b
+              ON b.created_by = a.created_by
+             AND tstzrange(b.start_time, b.end_time) && tstzrange(a.start_time, a.end_time)
+             AND (b.start_time > a.start_time OR (b.start_time = a.start_time AND b.id > a.id))
+            WHERE a.created_by = :userId
+              AND tstzrange(a.start_time, a.end_time) && tstzrange(:from, :to)
+            ORDER BY a.start_time, b.start_time
+            LIMIT :limit
+            """;
+
+    private static final String ENABLE_SQL = """
+            INSERT INTO time_entry_span (time_entry_id, user_id, span)
+            SELECT te.id, te.created_by, tstzrange(te.start_time, te.end_time)
+            FROM time_entry te
+            JOIN project p ON p.id = te.project_id
+            WHERE p.tenant_id = :tenantId
+            ON CONFLICT (time_entry_id) DO NOTHING
+            """;
+
+    // O trigger de time_entry_span lê a opção com FOR SHARE nesta mesma linha
+    private static final String LOCK_TENANT_SQL = "SELECT id FROM tenant WHERE id = :tenantId FOR UPDATE";
+
+    private static final String DISABLE_SQL = """
+            DELETE FROM time_entry_span s
+            USING time_entry te, project p
+            WHERE s.time_entry_id = te.id AND p.id = te.project_id AND p.tenant_id = :tenantId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TimeEntryOverlapService(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Pares de lançamentos sobrepostos do usuário que tocam a janela {@code [from, to)}. */
+    @Transactional(readOnly = true)
+    public List<TimeEntryOverlapDTO> findOverlaps(UUID userId, Instant from, Instant to) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("Data final deve ser posterior à inicial");
+        }
+        if (Duration.between(from, to).toDays() > MAX_WINDOW_DAYS) {
+            throw new IllegalArgumentException("Janela máxima da busca é de " + MAX_WINDOW_DAYS + " dias");
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("from", from.atOffset(ZoneOffset.UTC))
+                .addValue("to", to.atOffset(ZoneOffset.UTC))
+                .addValue("limit", MAX_RESULTS);
+
+        return jdbcTemplate.query(OVERLAPS_SQL, params, (rs, rowNum) -> {
+            OffsetDateTime overlapEnd = rs.getObject("overlap_end", OffsetDateTime.class);
+            return new TimeEntryOverlapDTO(
+                    rs.getObject("entry_id", UUID.class),
+                    rs.getObject("overlapping_entry_id", UUID.class),
+                    rs.getObject("overlap_start", OffsetDateTime.class).toInstant(),
+                    overlapEnd != null ? overlapEnd.toInstant() : null);
+        });
+    }
+
+    /**
+     * Liga ou desliga a prevenção no tenant. Ao ligar, os lançamentos existentes entram em
+     * {@code time_entry_span}; se já houver sobreposição, nada é alterado.
+     *
+     * A linha do tenant fica travada até o commit: escritas concorrentes esperam e já gravam o span,
+     * e as que confirmaram antes entram na carga. Sem a trava, uma escrita que leu a opção desligada
+     * poderia confirmar depois da carga e ficar fora de {@code time_entry_span}.
+     */
+    @Transactional
+    public void setProtection(UUID tenantId, boolean enabled) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("enabled", enabled);
+
+        jdbcTemplate.queryForList(LOCK_TENANT_SQL, params, UUID.class);
+        jdbcTemplate.update(
+                "UPDATE tenant SET prevent_time_entry_overlaps = :enabled, updated_at = now() WHERE id = :tenantId",
+                params);
+        if (!enabled) {
+            jdbcTemplate.update(DISABLE_SQL, params);
+            return;
+        }
+        try {
+            jdbcTemplate.update(ENABLE_SQL, params);
+        } catch (DataIntegrityViolationException ex) {
+            if (isOverlapViolation(ex)) {
+                throw new TimeEntryOverlapException(
+                        "Existem lançamentos sobrepostos no tenant. Corrija-os antes de ativar a proteção.");
+            }
+            throw ex;
+        }
+    }
+
+    /** Violação de {@code time_entry_span_no_overlap}: única restrição de exclusão do schema. */
+    public static boolean isOverlapViolation(DataIntegrityViolationException ex) {
+        return ex.getMostSpecificCause() instanceof SQLException sql && EXCLUSION_VIOLATION.equals(sql.getSQLState());
+    }
+}
@@ -0,0 +1,35 @@
+package com.qronis.modules.tracker.application;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Garante que as partições mensais de {@code time_entry} existam com antecedência.
+ *
+ * A lógica fica na função {@code create_time_entry_partitions} (migration V5), que é idempotente:
+ * rodar no startup e diariamente só cria os meses que faltam. Com {@value #MONTHS_AHEAD} meses de
+ * folga, uma falha no agendamento não deixa inserts caírem na partição DEFAULT. Linhas que caem
+ * nela mesmo assim (importação de histórico antigo ou datas além da folga) ganham a partição do
+ * mês na execução seguinte e saem da DEFAULT.
+ */
+@Component
+public class TimeEntryPartitionMaintainer {
+
+    static final int MONTHS_AHEAD = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TimeEntryPartitionMaintainer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 3 * * *", zone = "UTC")
+    public void createUpcomingPartitions() {
+        jdbcTemplate.queryForObject(
+                "SELECT create_time_entry_partitions(CAST(now() AS date), ?)", Integer.class, MONTHS_AHEAD);
+    }
+}
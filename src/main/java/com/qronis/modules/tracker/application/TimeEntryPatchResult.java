@@ -0,0 +1,22 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.modules.tracker.domain.exception.TimeEntryNotFoundException;
+
+import java.util.UUID;
+
+/** Resultado de um item do patch em lote; {@code entry} só é preenchida quando aplicada. */
+public record TimeEntryPatchResult(UUID id, TimeEntryPatchStatus status, String error, TimeEntry entry) {
+
+    public static TimeEntryPatchResult updated(TimeEntry entry) {
+        return new TimeEntryPatchResult(entry.getId(), TimeEntryPatchStatus.UPDATED, null, entry);
+    }
+
+    public static TimeEntryPatchResult notFound(UUID id) {
+        return new TimeEntryPatchResult(id, TimeEntryPatchStatus.NOT_FOUND, new TimeEntryNotFoundException().getMessage(), null);
+    }
+
+    public static TimeEntryPatchResult invalid(UUID id, String error) {
+        return new TimeEntryPatchResult(id, TimeEntryPatchStatus.INVALID, error, null);
+    }
+}
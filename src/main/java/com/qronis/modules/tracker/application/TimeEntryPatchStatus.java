@@ -0,0 +1,8 @@
+package com.qronis.modules.tracker.application;
+
+/** Resultado de cada item do patch em lote. */
+public enum TimeEntryPatchStatus {
+    UPDATED,
+    NOT_FOUND,
+    INVALID
+}
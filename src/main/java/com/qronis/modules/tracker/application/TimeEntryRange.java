@@ -0,0 +1,27 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.domain.exception.InvalidTimeBoundsException;
+
+import java.time.Instant;
+
+/**
+ * Janela {@code [from, to)} sobre {@code start_time} aplicada às consultas de histórico.
+ *
+ * Limites ausentes viram sentinelas fixas, para que as queries tenham sempre os mesmos
+ * predicados (sem {@code :param IS NULL}) e o PostgreSQL use o range scan do índice.
+ */
+public record TimeEntryRange(Instant from, Instant to) {
+
+    static final Instant MIN = Instant.parse("1900-01-01T00:00:00Z");
+    static final Instant MAX = Instant.parse("9999-12-31T23:59:59Z");
+
+    public static final TimeEntryRange UNBOUNDED = new TimeEntryRange(MIN, MAX);
+
+    public static TimeEntryRange of(Instant from, Instant to) {
+        TimeEntryRange range = new TimeEntryRange(from != null ? from : MIN, to != null ? to : MAX);
+        if (!range.to().isAfter(range.from())) {
+            throw new InvalidTimeBoundsException();
+        }
+        return range;
+    }
+}
@@ -0,0 +1,176 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.identity.application.repositories.UserRepository;
+import com.qronis.modules.tracker.api.dto.TimeEntryReportResponseDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryReportRowDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Relatórios de horas por projeto × dia/semana/mês no fuso do usuário.
+ *
+ * A agregação roda inteira no PostgreSQL: cada entry encerrada é dividida nas meias-noites
+ * locais ({@code generate_series} + {@code AT TIME ZONE}, respeitando horário de verão) e somada
+ * por período com {@code date_trunc}. Só os totais trafegam.
+ *
+ * O índice {@code (created_by, start_time)} é lido com as duas pontas: do período menos
+ * {@link #LONG_ENTRY} até o fim, o que também poda as partições. Uma entry que começou antes disso
+ * só alcança o período se durar mais que {@link #LONG_ENTRY}; essas vêm em um segundo ramo, pelo
+ * índice parcial de entries longas (V12).
+ *
+ * Entries do arquivo frio que cruzam o período são divididas da mesma forma em Java e somadas aos
+ * totais do banco; o índice do arquivo só abre os meses que alcançam a janela.
+ */
+@Service
+public class TimeEntryReportService {
+
+    static final int MAX_RANGE_DAYS = 731;
+    static final ZoneId UTC = ZoneId.of("UTC");
+    /** Mesmo intervalo do predicado do índice parcial da V12 e do segundo ramo de {@code REPORT_SQL}. */
+    static final Duration LONG_ENTRY = Duration.ofDays(1);
+
+    private static final String REPORT_SQL = """
+            SELECT CAST(date_trunc(:unit, d.day) AS date) AS period, te.project_id, p.name AS project_name,
+                   CAST(SUM(EXTRACT(EPOCH FROM (
+                       LEAST(te.end_time, (d.day + INTERVAL '1 day') AT TIME ZONE :zone)
+                       - GREATEST(te.start_time, d.day AT TIME ZONE :zone)))) AS bigint) AS duration_seconds
+            FROM (
+                SELECT project_id, start_time, end_time FROM time_entry
+                WHERE created_by = :userId AND end_time IS NOT NULL
+                  AND start_time >= :scanFrom AND start_time < :toInstant AND end_time > :fromInstant
+                UNION ALL
+                SELECT project_id, start_time, end_time FROM time_entry
+                WHERE created_by = :userId AND end_time - start_time > INTERVAL '1 day'
+                  AND start_time < :scanFrom AND end_time > :fromInstant
+            ) te
+            JOIN project p ON p.id = te.project_id
+            CROSS JOIN LATERAL generate_series(
+                date_trunc('day', te.start_time AT TIME ZONE :zone),
+                date_trunc('day', (te.end_time - INTERVAL '1 microsecond') AT TIME ZONE :zone),
+                INTERVAL '1 day') AS d(day)
+            WHERE p.tenant_id = :tenantId AND p.deleting_at IS NULL
+              AND d.day >= :fromDay AND d.day < :toDay
+            GROUP BY 1, te.project_id, p.name
+            ORDER BY 1, p.name
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final TimeEntryArchive archive;
+
+    public TimeEntryReportService(NamedParameterJdbcTemplate jdbcTemplate, UserRepository userRepository,
+            TimeEntryArchive archive) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.archive = archive;
+    }
+
+    /** Relatório do período local {@code [from, to)} do usuário autenticado. */
+    @Transactional(readOnly = true)
+    public TimeEntryReportResponseDTO report(UUID tenantId, UUID userId, ReportGranularity granularity,
+            LocalDate from, LocalDate to) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("Data final deve ser posterior à inicial");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Período máximo do relatório é de " + MAX_RANGE_DAYS + " dias");
+        }
+
+        ZoneId zone = resolveZone(userRepository.findTimezoneById(userId).orElse(null));
+        Instant fromInstant = from.atStartOfDay(zone).toInstant();
+        Instant toInstant = to.atStartOfDay(zone).toInstant();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("unit", granularity.sqlUnit())
+                .addValue("zone", zone.getId())
+                .addValue("userId", userId)
+                .addValue("tenantId", tenantId)
+                .addValue("fromInstant", fromInstant.atOffset(ZoneOffset.UTC))
+                .addValue("toInstant", toInstant.atOffset(ZoneOffset.UTC))
+                .addValue("scanFrom", fromInstant.minus(LONG_ENTRY).atOffset(ZoneOffset.UTC))
+                .addValue("fromDay", from.atStartOfDay())
+                .addValue("toDay", to.atStartOfDay());
+
+        List<TimeEntryReportRowDTO> rows = jdbcTemplate.query(REPORT_SQL, params, (rs, rowNum) ->
+                new TimeEntryReportRowDTO(
+                        rs.getObject("period", LocalDate.class),
+                        rs.getObject("project_id", UUID.class),
+                        rs.getString("project_name"),
+                        rs.getLong("duration_seconds")));
+
+        List<TimeEntryResponseDTO> archived = archive.findOverlapping(tenantId, userId, fromInstant, toInstant);
+        if (!archived.isEmpty()) {
+            rows = mergeArchived(rows, archived, zone, granularity, from, to);
+        }
+        return new TimeEntryReportResponseDTO(zone.getId(), granularity, from, to, rows);
+    }
+
+    /** Soma as entries arquivadas aos totais do banco, divididas nas meias-noites locais como na query. */
+    private static List<TimeEntryReportRowDTO> mergeArchived(List<TimeEntryReportRowDTO> rows,
+            List<TimeEntryResponseDTO> archived, ZoneId zone, ReportGranularity granularity,
+            LocalDate from, LocalDate to) {
+        Map<RowKey, Long> secondsByRow = new HashMap<>();
+        Map<UUID, String> projectNames = new HashMap<>();
+        for (TimeEntryReportRowDTO row : rows) {
+            secondsByRow.merge(new RowKey(row.period(), row.projectId()), row.durationSeconds(), Long::sum);
+            projectNames.put(row.projectId(), row.projectName());
+        }
+        for (TimeEntryResponseDTO entry : archived) {
+            projectNames.putIfAbsent(entry.projectId(), entry.projectName());
+            LocalDate startDay = LocalDate.ofInstant(entry.startTime(), zone);
+            for (LocalDate day = startDay.isBefore(from) ? from : startDay; day.isBefore(to); day = day.plusDays(1)) {
+                Instant dayStart = day.atStartOfDay(zone).toInstant();
+                if (!dayStart.isBefore(entry.endTime())) {
+                    break;
+                }
+                Instant dayEnd = day.plusDays(1).atStartOfDay(zone).toInstant();
+                Instant start = entry.startTime().isAfter(dayStart) ? entry.startTime() : dayStart;
+                Instant end = entry.endTime().isBefore(dayEnd) ? entry.endTime() : dayEnd;
+                secondsByRow.merge(new RowKey(granularity.truncate(day), entry.projectId()),
+                        Duration.between(start, end).toSeconds(), Long::sum);
+            }
+        }
+        return secondsByRow.entrySet().stream()
+                .map(total -> new TimeEntryReportRowDTO(total.getKey().period(), total.getKey().projectId(),
+                        projectNames.get(total.getKey().projectId()), total.getValue()))
+                .sorted(Comparator.comparing(TimeEntryReportRowDTO::period)
+                        .thenComparing(TimeEntryReportRowDTO::projectName))
+                .toList();
+    }
+
+    /**
+     * Resolve o fuso salvo em {@code users.timezone}. Nomes inválidos e offsets fixos caem em UTC:
+     * o PostgreSQL interpreta offsets como {@code +03:00} com o sinal POSIX (invertido).
+     */
+    ZoneId resolveZone(String name) {
+        if (name == null || name.isBlank()) {
+            return UTC;
+        }
+        try {
+            ZoneId zone = ZoneId.of(name);
+            return zone instanceof ZoneOffset ? UTC : zone;
+        } catch (DateTimeException ex) {
+            return UTC;
+        }
+    }
+
+    private record RowKey(LocalDate period, UUID projectId) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Variações do rollup diário acumuladas em memória, para {@link TimeEntryRollupService#apply}
+ * gravar depois do flush das entries.
+ *
+ * O upsert do rollup é uma query nativa: executada no meio de uma série de patches, ela força o
+ * flush da sessão a cada item e desfaz o JDBC batch dos updates. Somar aqui também junta as
+ * variações do mesmo dia, e as que se anulam (horário movido dentro do dia) não viram escrita.
+ */
+public final class TimeEntryRollupDelta {
+
+    public record Key(UUID tenantId, UUID projectId, UUID userId, LocalDate day) {
+    }
+
+    private final Map<Key, Long> millisByKey = new HashMap<>();
+
+    public void add(TimeEntry entry) {
+        add(entry.getProject(), entry.getCreatedBy().getId(), entry.getStartTime(), entry.getEndTime());
+    }
+
+    public void add(Project project, UUID userId, Instant startTime, Instant endTime) {
+        merge(project, userId, startTime, endTime, 1);
+    }
+
+    public void subtract(Project project, UUID userId, Instant startTime, Instant endTime) {
+        merge(project, userId, startTime, endTime, -1);
+    }
+
+    public boolean isEmpty() {
+        return millisByKey.isEmpty();
+    }
+
+    /** Variações diferentes de zero, por (tenant, projeto, usuário, dia). */
+    public Map<Key, Long> millisByKey() {
+        return Collections.unmodifiableMap(millisByKey);
+    }
+
+    private void merge(Project project, UUID userId, Instant startTime, Instant endTime, int sign) {
+        if (endTime == null) {
+            return;
+        }
+        UUID tenantId = project.getTenant().getId();
+        TimeEntryRollupService.splitByUtcDay(startTime, endTime).forEach((day, millis) -> {
+            Key key = new Key(tenantId, project.getId(), userId, day);
+            if (millisByKey.merge(key, sign * millis, Long::sum) == 0L) {
+                millisByKey.remove(key);
+            }
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Manutenção incremental da tabela {@code time_entry_daily_rollup}.
+ *
+ * Cada escrita de uma entry encerrada soma (ou subtrai) sua duração nos dias UTC que ela
+ * cobre, na mesma transação da escrita. Entries ativas não entram no rollup. O cálculo por
+ * dia é o mesmo do rebuild em SQL (milissegundos truncados por segmento), então somar e
+ * subtrair a mesma entry sempre se anulam.
+ *
+ * O arquivamento ({@link TimeEntryArchiveService}) não mexe no rollup: os dias arquivados
+ * continuam somados, e o rebuild os recompõe a partir dos segmentos.
+ */
+@Service
+public class TimeEntryRollupService {
+
+    private final TimeEntryRepository timeEntryRepository;
+    private final TimeEntryArchive archive;
+
+    public TimeEntryRollupService(TimeEntryRepository timeEntryRepository, TimeEntryArchive archive) {
+        this.timeEntryRepository = timeEntryRepository;
+        this.archive = archive;
+    }
+
+    public void add(TimeEntry entry) {
+        add(entry.getProject(), entry.getCreatedBy().getId(), entry.getStartTime(), entry.getEndTime());
+    }
+
+    public void add(Project project, UUID userId, Instant startTime, Instant endTime) {
+        apply(project, userId, startTime, endTime, 1);
+    }
+
+    public void subtract(Project project, UUID userId, Instant startTime, Instant endTime) {
+        apply(project, userId, startTime, endTime, -1);
+    }
+
+    /** Grava as variações acumuladas, um upsert por (projeto, usuário, dia); chamar após o flush das entries. */
+    public void apply(TimeEntryRollupDelta delta) {
+        delta.millisByKey().forEach((key, millis) -> timeEntryRepository.addToDailyRollup(
+                key.tenantId(), key.projectId(), key.userId(), key.day(), millis));
+    }
+
+    /** Soma totais já agregados por dia (usado pela importação em massa). */
+    public void addDaily(UUID tenantId, UUID projectId, UUID userId, Map<LocalDate, Long> millisByDay) {
+        millisByDay.forEach((day, millis) -> timeEntryRepository.addToDailyRollup(tenantId, projectId, userId, day, millis));
+    }
+
+    /**
+     * Recalcula o rollup do tenant a partir de {@code time_entry} e dos segmentos arquivados,
+     * corrigindo qualquer divergência. Entries arquivadas têm precisão de segundos.
+     */
+    @Transactional
+    public int rebuild(UUID tenantId) {
+        timeEntryRepository.deleteDailyRollupByTenantId(tenantId);
+        int rows = timeEntryRepository.insertDailyRollupByTenantId(tenantId);
+        archive.forEachSegment(tenantId, null, segment -> addArchived(tenantId, segment));
+        return rows;
+    }
+
+    /** Divide o intervalo [start, end) nos dias UTC que ele cobre, em milissegundos por dia. */
+    public static Map<LocalDate, Long> splitByUtcDay(Instant startTime, Instant endTime) {
+        Map<LocalDate, Long> millisByDay = new TreeMap<>();
+        Instant cursor = startTime;
+        while (cursor.isBefore(endTime)) {
+            LocalDate day = LocalDate.ofInstant(cursor, ZoneOffset.UTC);
+            Instant nextDay = day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+            Instant segmentEnd = nextDay.isBefore(endTime) ? nextDay : endTime;
+            millisByDay.merge(day, Duration.between(cursor, segmentEnd).toMillis(), Long::sum);
+            cursor = segmentEnd;
+        }
+        return millisByDay;
+    }
+
+    /** Um segmento por vez: agrega por (projeto, usuário) antes do upsert, ignorando projetos excluídos. */
+    private void addArchived(UUID tenantId, List<ArchivedTimeEntry> segment) {
+        Map<UUID, String> existing = archive.findProjectNames(
+                segment.stream().map(ArchivedTimeEntry::projectId).toList());
+        record Key(UUID projectId, UUID userId) {
+        }
+        Map<Key, Map<LocalDate, Long>> millisByKey = new HashMap<>();
+        for (ArchivedTimeEntry row : segment) {
+            if (!existing.containsKey(row.projectId())) {
+                continue;
+            }
+            Map<LocalDate, Long> days = millisByKey.computeIfAbsent(
+                    new Key(row.projectId(), row.userId()), key -> new TreeMap<>());
+            splitByUtcDay(row.startTime(), row.endTime()).forEach((day, millis) -> days.merge(day, millis, Long::sum));
+        }
+        millisByKey.forEach((key, days) -> addDaily(tenantId, key.projectId(), key.userId(), days));
+    }
+
+    private void apply(Project project, UUID userId, Instant startTime, Instant endTime, int sign) {
+        if (endTime == null) {
+            return;
+        }
+        UUID tenantId = project.getTenant().getId();
+        splitByUtcDay(startTime, endTime).forEach((day, millis) ->
+                timeEntryRepository.addToDailyRollup(tenantId, project.getId(), userId, day, sign * millis));
+    }
+}
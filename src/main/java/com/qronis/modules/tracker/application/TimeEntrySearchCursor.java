@@ -0,0 +1,45 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.domain.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição na busca textual ordenada por {@code (rank DESC, start_time DESC, id DESC)}.
+ * O rank é o {@code real} devolvido por {@code ts_rank_cd}: como {@code float} ele volta ao banco
+ * sem perda, e a comparação da próxima página bate exatamente com a linha de corte.
+ */
+public record TimeEntrySearchCursor(float rank, Instant startTime, UUID id) {
+
+    /** Sentinela que antecede qualquer resultado: usado para a primeira página. */
+    public static final TimeEntrySearchCursor FIRST = new TimeEntrySearchCursor(
+            Float.MAX_VALUE,
+            Instant.parse("9999-12-31T23:59:59Z"),
+            new UUID(-1L, -1L));
+
+    private static final String SEPARATOR = "|";
+
+    public static TimeEntrySearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            return new TimeEntrySearchCursor(
+                    Float.parseFloat(parts[0]),
+                    Instant.parse(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = rank + SEPARATOR + startTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,101 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.shared.pagination.CursorPageResponseDTO;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Busca textual nas descrições dos lançamentos do usuário no tenant.
+ *
+ * O filtro usa a coluna gerada {@code description_tsv} e o GIN {@code (created_by, description_tsv)}
+ * (ver migration V7); a janela {@code from}/{@code to} poda partições. Os resultados vêm por
+ * relevância ({@code ts_rank_cd}) e são paginados por keyset, sem {@code OFFSET} nem contagem.
+ */
+@Service
+public class TimeEntrySearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_QUERY_LENGTH = 200;
+    static final String TEXT_SEARCH_CONFIG = "portuguese";
+
+    // websearch_to_tsquery aceita texto livre do usuário ("bug login", "deploy -staging") sem erro de sintaxe
+    private static final String SEARCH_SQL = """
+            SELECT te.id, te.description, te.start_time, te.end_time, te.project_id, p.name AS project_name,
+                   te.created_at, ts_rank_cd(te.description_tsv, q.query) AS rank
+            FROM time_entry te
+            JOIN project p ON p.id = te.project_id
+            CROSS JOIN websearch_to_tsquery(CAST(:config AS regconfig), :query) AS q(query)
+            WHERE te.created_by = :userId AND p.tenant_id = :tenantId AND p.deleting_at IS NULL
+              AND te.description_tsv @@ q.query
+              AND te.start_time >= :from AND te.start_time < :to
+              AND (ts_rank_cd(te.description_tsv, q.query), te.start_time, te.id)
+                  < (CAST(:rank AS real), :startTime, :id)
+            ORDER BY rank DESC, te.start_time DESC, te.id DESC
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TimeEntrySearchService(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Página de resultados após {@code cursor}; {@code nextCursor} é null na última página. */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TimeEntryResponseDTO> search(UUID tenantId, UUID userId, String query,
+            TimeEntryRange range, TimeEntrySearchCursor cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Informe o texto da busca");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Texto da busca deve ter no máximo " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("config", TEXT_SEARCH_CONFIG)
+                .addValue("query", query.strip())
+                .addValue("userId", userId)
+                .addValue("tenantId", tenantId)
+                .addValue("from", range.from().atOffset(ZoneOffset.UTC))
+                .addValue("to", range.to().atOffset(ZoneOffset.UTC))
+                .addValue("rank", cursor.rank())
+                .addValue("startTime", cursor.startTime().atOffset(ZoneOffset.UTC))
+                .addValue("id", cursor.id())
+                // Uma linha a mais indica se existe próxima página
+                .addValue("limit", limit + 1);
+
+        List<Hit> hits = jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> {
+            OffsetDateTime endTime = rs.getObject("end_time", OffsetDateTime.class);
+            return new Hit(new TimeEntryResponseDTO(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("description"),
+                    rs.getObject("start_time", OffsetDateTime.class).toInstant(),
+                    endTime != null ? endTime.toInstant() : null,
+                    rs.getObject("project_id", UUID.class),
+                    rs.getString("project_name"),
+                    rs.getObject("created_at", OffsetDateTime.class).toInstant()),
+                    rs.getFloat("rank"));
+        });
+
+        if (hits.size() <= limit) {
+            return new CursorPageResponseDTO<>(hits.stream().map(Hit::entry).toList(), null);
+        }
+        List<Hit> page = hits.subList(0, limit);
+        Hit last = page.getLast();
+        TimeEntrySearchCursor next = new TimeEntrySearchCursor(last.rank(), last.entry().startTime(), last.entry().id());
+        return new CursorPageResponseDTO<>(page.stream().map(Hit::entry).toList(), next.encode());
+    }
+
+    private record Hit(TimeEntryResponseDTO entry, float rank) {
+    }
+}
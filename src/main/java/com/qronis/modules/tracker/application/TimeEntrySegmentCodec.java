@@ -0,0 +1,211 @@
+package com.qronis.modules.tracker.application;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Formato colunar dos segmentos do arquivo frio: um segmento por tenant e mês, comprimido com GZIP.
+ *
+ * As linhas são ordenadas por {@code (start_time, id)} e gravadas coluna a coluna:
+ * <pre>
+ * magic "QSEG" | versão | n
+ * dicionário de projetos | dicionário de usuários | tabela de descrições (strings distintas)
+ * ids (16 bytes cada)
+ * start_time: epoch em microssegundos do primeiro + deltas (varint)
+ * duração (varint) | created_at - start_time (varint zigzag), ambos em microssegundos
+ * índice do projeto | índice do usuário | índice da descrição (0 = sem descrição)
+ * </pre>
+ * Colunas de deltas e índices pequenos viram poucos bytes por linha, e o GZIP comprime bem as repetições.
+ * Microssegundos são a precisão do {@code timestamptz}: uma entry arquivada volta com os mesmos instantes.
+ */
+public final class TimeEntrySegmentCodec {
+
+    private static final int MAGIC = 0x51534547;
+    private static final byte VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Comparator<ArchivedTimeEntry> SEGMENT_ORDER =
+            Comparator.comparing(ArchivedTimeEntry::startTime).thenComparing(ArchivedTimeEntry::id);
+
+    private TimeEntrySegmentCodec() {
+    }
+
+    public static void write(List<ArchivedTimeEntry> entries, OutputStream target) throws IOException {
+        List<ArchivedTimeEntry> rows = entries.stream().sorted(SEGMENT_ORDER).toList();
+        Map<UUID, Integer> projects = new LinkedHashMap<>();
+        Map<UUID, Integer> users = new LinkedHashMap<>();
+        Map<String, Integer> descriptions = new LinkedHashMap<>();
+        for (ArchivedTimeEntry row : rows) {
+            projects.putIfAbsent(row.projectId(), projects.size());
+            users.putIfAbsent(row.userId(), users.size());
+            if (row.description() != null) {
+                descriptions.putIfAbsent(row.description(), descriptions.size());
+            }
+        }
+
+        GZIPOutputStream gzip = new GZIPOutputStream(target, BUFFER_SIZE);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(gzip, BUFFER_SIZE));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        writeVarint(out, rows.size());
+
+        writeVarint(out, projects.size());
+        writeUuids(out, projects.keySet());
+        writeVarint(out, users.size());
+        writeUuids(out, users.keySet());
+        writeVarint(out, descriptions.size());
+        for (String description : descriptions.keySet()) {
+            byte[] bytes = description.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length);
+            out.write(bytes);
+        }
+
+        writeUuids(out, rows.stream().map(ArchivedTimeEntry::id).toList());
+        long previous = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            long start = toMicros(rows.get(i).startTime());
+            writeVarint(out, i == 0 ? zigzag(start) : start - previous);
+            previous = start;
+        }
+        for (ArchivedTimeEntry row : rows) {
+            writeVarint(out, toMicros(row.endTime()) - toMicros(row.startTime()));
+        }
+        for (ArchivedTimeEntry row : rows) {
+            writeVarint(out, zigzag(toMicros(row.createdAt()) - toMicros(row.startTime())));
+        }
+        for (ArchivedTimeEntry row : rows) {
+            writeVarint(out, projects.get(row.projectId()));
+        }
+        for (ArchivedTimeEntry row : rows) {
+            writeVarint(out, users.get(row.userId()));
+        }
+        for (ArchivedTimeEntry row : rows) {
+            writeVarint(out, row.description() != null ? descriptions.get(row.description()) + 1 : 0);
+        }
+        out.flush();
+        gzip.finish();
+    }
+
+    /** Lê o segmento inteiro, já na ordem {@code (start_time, id)}. */
+    public static List<ArchivedTimeEntry> read(InputStream source) throws IOException {
+        DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(source, BUFFER_SIZE), BUFFER_SIZE));
+        if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+            throw new IOException("Segmento de arquivo inválido");
+        }
+        int n = (int) readVarint(in);
+
+        UUID[] projects = readUuids(in, (int) readVarint(in));
+        UUID[] users = readUuids(in, (int) readVarint(in));
+        String[] descriptions = new String[(int) readVarint(in)];
+        for (int i = 0; i < descriptions.length; i++) {
+            descriptions[i] = new String(in.readNBytes((int) readVarint(in)), StandardCharsets.UTF_8);
+        }
+
+        UUID[] ids = readUuids(in, n);
+        long[] starts = new long[n];
+        for (int i = 0; i < n; i++) {
+            long value = readVarint(in);
+            starts[i] = i == 0 ? unzigzag(value) : starts[i - 1] + value;
+        }
+        long[] durations = new long[n];
+        for (int i = 0; i < n; i++) {
+            durations[i] = readVarint(in);
+        }
+        long[] createdOffsets = new long[n];
+        for (int i = 0; i < n; i++) {
+            createdOffsets[i] = unzigzag(readVarint(in));
+        }
+        int[] projectIndexes = readIndexes(in, n);
+        int[] userIndexes = readIndexes(in, n);
+        int[] descriptionIndexes = readIndexes(in, n);
+
+        List<ArchivedTimeEntry> rows = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            rows.add(new ArchivedTimeEntry(
+                    ids[i],
+                    users[userIndexes[i]],
+                    projects[projectIndexes[i]],
+                    descriptionIndexes[i] == 0 ? null : descriptions[descriptionIndexes[i] - 1],
+                    fromMicros(starts[i]),
+                    fromMicros(starts[i] + durations[i]),
+                    fromMicros(starts[i] + createdOffsets[i])));
+        }
+        return rows;
+    }
+
+    private static void writeUuids(DataOutputStream out, Collection<UUID> uuids) throws IOException {
+        for (UUID uuid : uuids) {
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+    }
+
+    private static UUID[] readUuids(DataInputStream in, int count) throws IOException {
+        UUID[] uuids = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            uuids[i] = new UUID(in.readLong(), in.readLong());
+        }
+        return uuids;
+    }
+
+    private static int[] readIndexes(DataInputStream in, int count) throws IOException {
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            indexes[i] = (int) readVarint(in);
+        }
+        return indexes;
+    }
+
+    private static void writeVarint(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarint(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint inválido no segmento");
+    }
+
+    private static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
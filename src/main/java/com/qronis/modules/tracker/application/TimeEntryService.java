@@ -1,63 +1,103 @@
 package com.qronis.modules.tracker.application;
 
+import com.qronis.modules.tracker.api.dto.TimeEntryBatchPatchItemDTO;
 import com.qronis.modules.tracker.api.dto.TimeEntryPatchRequestDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
 import com.qronis.modules.tracker.domain.entity.TimeEntry;
 import com.qronis.modules.tracker.domain.exception.ActiveTimerConflictException;
 import com.qronis.modules.tracker.domain.exception.InvalidTimeBoundsException;
 import com.qronis.modules.tracker.domain.exception.TimeEntryNotFoundException;
+import com.qronis.modules.tracker.domain.exception.TimeEntryOverlapException;
 import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
 import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.project.domain.exception.ProjectNotFoundException;
 import com.qronis.modules.project.application.ProjectService;
 import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.shared.web.ScopeVersion;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TimeEntryService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_PATCH_SIZE = 100;
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String ACTIVE_TIMER_CONSTRAINT = "time_entry_active_pkey";
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "startTime");
+
     private final TimeEntryRepository timeEntryRepository;
     private final ProjectService projectService;
+    private final ActiveTimerRegistry activeTimerRegistry;
+    private final TimeEntryRollupService rollupService;
+    private final TimerEventRegistry timerEventRegistry;
+    private final DescriptionSuggestionCache suggestionCache;
+    private final TimeEntryArchive archive;
+    private final TimeEntryAnalyticsService analyticsService;
 
-    public TimeEntryService(TimeEntryRepository timeEntryRepository, ProjectService projectService) {
+    public TimeEntryService(TimeEntryRepository timeEntryRepository, ProjectService projectService,
+            ActiveTimerRegistry activeTimerRegistry, TimeEntryRollupService rollupService,
+            TimerEventRegistry timerEventRegistry, DescriptionSuggestionCache suggestionCache,
+            TimeEntryArchive archive, TimeEntryAnalyticsService analyticsService) {
         this.timeEntryRepository = timeEntryRepository;
         this.projectService = projectService;
+        this.activeTimerRegistry = activeTimerRegistry;
+        this.rollupService = rollupService;
+        this.timerEventRegistry = timerEventRegistry;
+        this.suggestionCache = suggestionCache;
+        this.archive = archive;
+        this.analyticsService = analyticsService;
     }
 
     @Transactional
     public TimeEntry start(UUID projectId, String description, UUID tenantId, UUID userId) {
         Project project = projectService.findByIdAndTenantId(projectId, tenantId);
-
-        timeEntryRepository.findActiveByUserId(userId).ifPresent(active -> {
-            throw new ActiveTimerConflictException();
-        });
-
-        User user = new User();
-        user.setId(userId);
-
-        TimeEntry entry = new TimeEntry();
-        entry.setProject(project);
-        entry.setCreatedBy(user);
-        entry.setStartTime(Instant.now());
-        entry.setDescription(description);
-
-        return timeEntryRepository.save(entry);
+        return startAt(project, description, userId, Instant.now());
     }
 
     @Transactional
     public TimeEntry stop(UUID userId) {
-        TimeEntry entry = timeEntryRepository.findActiveByUserId(userId)
+        return stopAt(userId, Instant.now())
                 .orElseThrow(() -> new TimeEntryNotFoundException("Nenhum timer ativo encontrado"));
+    }
 
-        entry.setEndTime(Instant.now());
-        return timeEntryRepository.save(entry);
+    /**
+     * Troca de timer em uma transação: encerra o ativo (se houver) e inicia outro no mesmo instante,
+     * sem intervalo entre as duas entries. São três statements: o projeto, o UPDATE ... RETURNING
+     * do timer atual e o INSERT do novo.
+     */
+    @Transactional
+    public TimeEntrySwitchResult switchTo(UUID projectId, String description, UUID tenantId, UUID userId) {
+        Project project = projectService.findByIdAndTenantId(projectId, tenantId);
+        Instant now = Instant.now();
+
+        TimeEntry stopped = stopAt(userId, now).orElse(null);
+        TimeEntry started = startAt(project, description, userId, now);
+        return new TimeEntrySwitchResult(stopped, started);
     }
 
     @Transactional
@@ -79,54 +119,375 @@ public class TimeEntryService {
         entry.setEndTime(endTime);
         entry.setDescription(description);
 
-        return timeEntryRepository.save(entry);
+        TimeEntry saved = timeEntryRepository.save(entry);
+        flushOrOverlap();
+        rollupService.add(saved);
+        analyticsService.record(saved);
+        suggestionCache.record(saved);
+        return saved;
     }
 
     @Transactional
     public TimeEntry patch(UUID id, TimeEntryPatchRequestDTO request, UUID tenantId, UUID userId) {
         TimeEntry entry = findByIdAndUserId(id, userId);
+        Project project = request.projectId() != null
+                ? projectService.findByIdAndTenantId(request.projectId(), tenantId)
+                : null;
+        TimeEntryRollupDelta rollup = new TimeEntryRollupDelta();
+        TimeEntry saved = applyPatch(entry, request, project, userId, rollup);
+        flushOrOverlap();
+        applyRollup(rollup);
+        return saved;
+    }
 
-        if (request.description() != null) {
-            entry.setDescription(request.description());
-        }
-        if (request.startTime() != null) {
-            entry.setStartTime(request.startTime());
-        }
-        if (request.endTime() != null) {
-            entry.setEndTime(request.endTime());
-        }
-        if (request.projectId() != null) {
-            Project project = projectService.findByIdAndTenantId(request.projectId(), tenantId);
-            entry.setProject(project);
+    /**
+     * Aplica vários patches em uma transação: uma query {@code IN} carrega os alvos, os projetos
+     * alterados são resolvidos de uma vez e os updates saem em JDBC batch no flush. As variações do
+     * rollup são somadas durante o laço e gravadas depois do flush, para não interromper o batch.
+     * Falhas de validação são reportadas por item sem desfazer os demais; ids repetidos são
+     * aplicados em ordem. Uma sobreposição barrada pelo banco aborta a transação e falha o lote inteiro.
+     */
+    @Transactional
+    public List<TimeEntryPatchResult> patchAll(List<TimeEntryBatchPatchItemDTO> items, UUID tenantId, UUID userId) {
+        if (items.size() > MAX_BATCH_PATCH_SIZE) {
+            throw new IllegalArgumentException("Máximo de " + MAX_BATCH_PATCH_SIZE + " alterações por lote");
         }
 
-        if (entry.getEndTime() != null && !entry.getEndTime().isAfter(entry.getStartTime())) {
-            throw new InvalidTimeBoundsException();
-        }
+        Set<UUID> ids = items.stream().map(TimeEntryBatchPatchItemDTO::id).collect(Collectors.toSet());
+        Map<UUID, TimeEntry> entries = timeEntryRepository.findAllByIdInAndCreatedByIdWithProject(ids, userId)
+                .stream()
+                .collect(Collectors.toMap(TimeEntry::getId, Function.identity()));
 
-        return timeEntryRepository.save(entry);
+        Set<UUID> projectIds = items.stream()
+                .map(item -> item.changes().projectId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, Project> projects = projectIds.isEmpty()
+                ? Map.of()
+                : projectService.findAllByIdsAndTenantId(projectIds, tenantId).stream()
+                        .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        List<TimeEntryPatchResult> results = new ArrayList<>(items.size());
+        TimeEntryRollupDelta rollup = new TimeEntryRollupDelta();
+        for (TimeEntryBatchPatchItemDTO item : items) {
+            TimeEntry entry = entries.get(item.id());
+            if (entry == null) {
+                results.add(TimeEntryPatchResult.notFound(item.id()));
+                continue;
+            }
+            UUID projectId = item.changes().projectId();
+            Project project = projectId != null ? projects.get(projectId) : null;
+            if (projectId != null && project == null) {
+                results.add(TimeEntryPatchResult.invalid(item.id(),
+                        new ProjectNotFoundException(projectId.toString()).getMessage()));
+                continue;
+            }
+            try {
+                TimeEntry saved = applyPatch(entry, item.changes(), project, userId, rollup);
+                results.add(TimeEntryPatchResult.updated(saved));
+            } catch (InvalidTimeBoundsException ex) {
+                results.add(TimeEntryPatchResult.invalid(item.id(), ex.getMessage()));
+            }
+        }
+        flushOrOverlap();
+        applyRollup(rollup);
+        return results;
     }
 
     @Transactional
     public void delete(UUID id, UUID userId) {
         TimeEntry entry = findByIdAndUserId(id, userId);
         timeEntryRepository.delete(entry);
+        rollupService.subtract(entry.getProject(), userId, entry.getStartTime(), entry.getEndTime());
+        analyticsService.remove(entry.getProject().getTenant().getId(), id);
+        activeTimerRegistry.unregister(userId, id);
+        timerEventRegistry.publish(userId, TimerEventType.DELETED, entry);
     }
 
-    public Optional<TimeEntry> findActive(UUID userId) {
-        return timeEntryRepository.findActiveByUserId(userId);
+    public Optional<ActiveTimer> findActive(UUID userId) {
+        return activeTimerRegistry.find(userId);
     }
 
-    public Page<TimeEntry> findByUserIdAndOptionalProjectId(UUID userId, UUID projectId, Pageable pageable) {
+    /** Versão do histórico do usuário na janela (e no projeto, quando filtrado), para o ETag. */
+    public ScopeVersion getHistoryVersion(UUID userId, UUID projectId, TimeEntryRange range) {
         if (projectId != null) {
-            return timeEntryRepository.findByUserIdAndProjectIdWithProject(userId, projectId, pageable);
+            return timeEntryRepository.findVersionByUserIdAndProjectId(userId, projectId, range.from(), range.to());
         }
-        return timeEntryRepository.findByUserIdWithProject(userId, pageable);
+        return timeEntryRepository.findVersionByUserId(userId, range.from(), range.to());
+    }
+
+    /**
+     * Histórico paginado por offset. O índice do arquivo diz quantas entries arquivadas há na janela
+     * e o início mais recente entre elas: enquanto a página do banco é toda mais nova que isso, ela
+     * sai como está, sem abrir segmentos. Na ordem padrão (mais recentes primeiro), só as páginas
+     * que alcançam o arquivo leem os meses necessários; outras ordenações mesclam a janela inteira.
+     */
+    @Transactional(readOnly = true)
+    public Page<TimeEntryResponseDTO> findByUserIdAndOptionalProjectId(UUID userId, UUID projectId,
+            TimeEntryRange range, Pageable pageable) {
+        Page<TimeEntryResponseDTO> live = findLiveResponses(userId, projectId, range, pageable);
+        if (pageable.isUnpaged()) {
+            return live;
+        }
+        TimeEntryArchive.Summary archived = archive.summarize(userId, projectId, range);
+        if (archived.isEmpty()) {
+            return live;
+        }
+
+        long total = live.getTotalElements() + archived.count();
+        if (!isNewestFirst(pageable.getSort())) {
+            return mergeWholeWindow(userId, projectId, range, pageable, total);
+        }
+        List<TimeEntryResponseDTO> content = live.getContent();
+        if (content.size() == pageable.getPageSize()
+                && content.getLast().startTime().isAfter(archived.newestStart())) {
+            return new PageImpl<>(content, pageable, total);
+        }
+
+        // Entries do banco mais novas que todo o arquivo abrem a ordenação; dali em diante, banco e
+        // arquivo se intercalam e só as primeiras linhas de cada lado entram na conta
+        Instant boundary = archived.newestStart();
+        List<TimeEntryResponseDTO> page = new ArrayList<>(pageable.getPageSize());
+        content.stream().filter(entry -> entry.startTime().isAfter(boundary)).forEach(page::add);
+        Instant olderTo = boundary.plus(1, ChronoUnit.MICROS);
+        TimeEntryRange older = new TimeEntryRange(range.from(), olderTo.isBefore(range.to()) ? olderTo : range.to());
+        long newer = live.getTotalElements()
+                - findLiveResponses(userId, projectId, older, PageRequest.of(0, 1)).getTotalElements();
+        int skip = Math.toIntExact(Math.max(0, pageable.getOffset() - newer));
+        int limit = skip + pageable.getPageSize() - page.size();
+
+        List<TimeEntryResponseDTO> mixed = Stream.concat(
+                        findLiveResponses(userId, projectId, older,
+                                PageRequest.of(0, limit, NEWEST_FIRST)).getContent().stream(),
+                        archive.findNewest(userId, projectId, range, limit).stream())
+                .sorted(TimeEntryArchive.NEWEST_FIRST)
+                .toList();
+        page.addAll(mixed.subList(Math.min(skip, mixed.size()), Math.min(limit, mixed.size())));
+        return new PageImpl<>(page, pageable, total);
+    }
+
+    /**
+     * Histórico por cursor. O arquivo só entra quando a página alcança entries tão antigas quanto as
+     * arquivadas: a leitura se limita às que ficam entre o cursor e a última entry do banco na página.
+     */
+    @Transactional(readOnly = true)
+    public Slice<TimeEntryResponseDTO> findByUserIdAfterCursor(UUID userId, UUID projectId, TimeEntryRange range,
+            TimeEntryCursor cursor, int size) {
+        Pageable limit = PageRequest.of(0, Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE));
+        Slice<TimeEntryResponseDTO> live = projectId != null
+                ? timeEntryRepository.findResponsesByUserIdAndProjectIdAfterCursor(
+                        userId, projectId, cursor.startTime(), cursor.id(), range.from(), range.to(), limit)
+                : timeEntryRepository.findResponsesByUserIdAfterCursor(
+                        userId, cursor.startTime(), cursor.id(), range.from(), range.to(), limit);
+
+        // O arquivo guarda segundos: a folga de 1s no topo não deixa escapar uma entry no mesmo segundo do cursor
+        Instant to = cursor.startTime().isBefore(range.to().minusSeconds(1))
+                ? cursor.startTime().plusSeconds(1)
+                : range.to();
+        Instant from = live.hasNext() ? max(range.from(), live.getContent().getLast().startTime()) : range.from();
+        if (!to.isAfter(from)) {
+            return live;
+        }
+        List<TimeEntryResponseDTO> archived = archive.findResponses(userId, projectId, new TimeEntryRange(from, to))
+                .stream()
+                .filter(entry -> isAfter(entry, cursor))
+                .toList();
+        if (archived.isEmpty()) {
+            return live;
+        }
+        List<TimeEntryResponseDTO> merged = Stream.concat(live.getContent().stream(), archived.stream())
+                .sorted(TimeEntryArchive.NEWEST_FIRST)
+                .toList();
+        int pageSize = limit.getPageSize();
+        return new SliceImpl<>(merged.subList(0, Math.min(pageSize, merged.size())), limit,
+                live.hasNext() || merged.size() > pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TimeEntryResponseDTO> findByProjectId(UUID projectId, UUID tenantId) {
+        projectService.requireInTenant(projectId, tenantId);
+        List<TimeEntryResponseDTO> live = timeEntryRepository.findResponsesByProjectId(projectId);
+        List<TimeEntryResponseDTO> archived = archive.findByProjectId(projectId);
+        if (archived.isEmpty()) {
+            return live;
+        }
+        return Stream.concat(live.stream(), archived.stream()).sorted(TimeEntryArchive.NEWEST_FIRST).toList();
+    }
+
+    private Page<TimeEntryResponseDTO> findLiveResponses(UUID userId, UUID projectId, TimeEntryRange range,
+            Pageable pageable) {
+        if (projectId != null) {
+            return timeEntryRepository.findResponsesByUserIdAndProjectId(
+                    userId, projectId, range.from(), range.to(), pageable);
+        }
+        return timeEntryRepository.findResponsesByUserId(userId, range.from(), range.to(), pageable);
+    }
+
+    /** Fallback das ordenações que não seguem o início: a janela inteira do arquivo entra na mescla. */
+    private Page<TimeEntryResponseDTO> mergeWholeWindow(UUID userId, UUID projectId, TimeEntryRange range,
+            Pageable pageable, long total) {
+        int end = Math.toIntExact(pageable.getOffset() + pageable.getPageSize());
+        List<TimeEntryResponseDTO> merged = Stream.concat(
+                        findLiveResponses(userId, projectId, range, PageRequest.of(0, end, pageable.getSort()))
+                                .getContent().stream(),
+                        archive.findResponses(userId, projectId, range).stream())
+                .sorted(historyOrder(pageable.getSort()))
+                .toList();
+        int from = Math.toIntExact(Math.min(pageable.getOffset(), merged.size()));
+        return new PageImpl<>(merged.subList(from, Math.min(end, merged.size())), pageable, total);
     }
 
-    public List<TimeEntry> findByProjectId(UUID projectId, UUID tenantId) {
-        projectService.findByIdAndTenantId(projectId, tenantId);
-        return timeEntryRepository.findByProjectIdWithProject(projectId);
+    /** Só {@code startTime DESC}, o padrão do endpoint: a ordem em que o arquivo pode ser lido aos poucos. */
+    private static boolean isNewestFirst(Sort sort) {
+        return NEWEST_FIRST.equals(sort);
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static boolean isAfter(TimeEntryResponseDTO entry, TimeEntryCursor cursor) {
+        int byStart = entry.startTime().compareTo(cursor.startTime());
+        return byStart < 0 || byStart == 0 && TimeEntryArchive.compareUuids(entry.id(), cursor.id()) < 0;
+    }
+
+    /** Ordem do {@link Pageable} aplicada em memória; só os campos do histórico que o arquivo também guarda. */
+    private static Comparator<TimeEntryResponseDTO> historyOrder(Sort sort) {
+        Comparator<TimeEntryResponseDTO> order = null;
+        for (Sort.Order property : sort) {
+            Comparator<TimeEntryResponseDTO> next = switch (property.getProperty()) {
+                case "startTime" -> Comparator.comparing(TimeEntryResponseDTO::startTime);
+                case "createdAt" -> Comparator.comparing(TimeEntryResponseDTO::createdAt);
+                // Nulos por último em ASC e primeiro em DESC, como no PostgreSQL
+                case "endTime" -> Comparator.comparing(TimeEntryResponseDTO::endTime,
+                        Comparator.nullsLast(Comparator.naturalOrder()));
+                case "description" -> Comparator.comparing(TimeEntryResponseDTO::description,
+                        Comparator.nullsLast(Comparator.naturalOrder()));
+                default -> throw new IllegalArgumentException(
+                        "Ordenação não suportada no histórico: " + property.getProperty());
+            };
+            next = property.isDescending() ? next.reversed() : next;
+            order = order == null ? next : order.thenComparing(next);
+        }
+        return order == null ? TimeEntryArchive.NEWEST_FIRST : order.thenComparing(TimeEntryArchive.NEWEST_FIRST);
+    }
+
+    private TimeEntry startAt(Project project, String description, UUID userId, Instant startTime) {
+        User user = new User();
+        user.setId(userId);
+
+        TimeEntry entry = new TimeEntry();
+        entry.setProject(project);
+        entry.setCreatedBy(user);
+        entry.setStartTime(startTime);
+        entry.setDescription(description);
+
+        // A PK de time_entry_active (mantida por trigger) é quem decide o conflito: sem pré-checagem.
+        TimeEntry saved;
+        try {
+            saved = timeEntryRepository.saveAndFlush(entry);
+        } catch (DataIntegrityViolationException ex) {
+            if (TimeEntryOverlapService.isOverlapViolation(ex)) {
+                throw new TimeEntryOverlapException();
+            }
+            if (isActiveTimerViolation(ex)) {
+                throw new ActiveTimerConflictException();
+            }
+            throw ex;
+        }
+
+        activeTimerRegistry.register(ActiveTimer.from(saved));
+        timerEventRegistry.publish(userId, TimerEventType.STARTED, saved);
+        suggestionCache.record(saved);
+        return saved;
+    }
+
+    private Optional<TimeEntry> stopAt(UUID userId, Instant endTime) {
+        // Um único UPDATE ... RETURNING: sem SELECT prévio nem janela entre leitura e escrita.
+        Optional<TimeEntry> stopped = timeEntryRepository.stopActiveByUserId(userId, endTime);
+        stopped.ifPresent(saved -> {
+            rollupService.add(saved);
+            analyticsService.record(saved);
+            activeTimerRegistry.unregister(userId, saved.getId());
+            timerEventRegistry.publish(userId, TimerEventType.STOPPED, saved);
+        });
+        return stopped;
+    }
+
+    /** Violação da PK de {@code time_entry_active}: o usuário já tem um timer rodando. */
+    private static boolean isActiveTimerViolation(DataIntegrityViolationException ex) {
+        return ex.getMostSpecificCause() instanceof SQLException sql
+                && UNIQUE_VIOLATION.equals(sql.getSQLState())
+                && sql.getMessage() != null
+                && sql.getMessage().contains(ACTIVE_TIMER_CONSTRAINT);
+    }
+
+    /** Flush imediato para que a restrição de sobreposição (tenants com a opção ativa) vire erro tipado. */
+    private void flushOrOverlap() {
+        try {
+            timeEntryRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            if (TimeEntryOverlapService.isOverlapViolation(ex)) {
+                throw new TimeEntryOverlapException();
+            }
+            throw ex;
+        }
+    }
+
+    /** Upsert nativo do rollup: só depois do flush, senão cada execução força um flush da sessão. */
+    private void applyRollup(TimeEntryRollupDelta rollup) {
+        if (!rollup.isEmpty()) {
+            rollupService.apply(rollup);
+        }
+    }
+
+    /**
+     * Valida antes de alterar a entidade gerenciada, para que um item rejeitado não seja gravado no flush.
+     * A variação do rollup vai para {@code rollup}, gravado pelo chamador após o flush.
+     */
+    private TimeEntry applyPatch(TimeEntry entry, TimeEntryPatchRequestDTO request, Project project, UUID userId,
+            TimeEntryRollupDelta rollup) {
+        Project previousProject = entry.getProject();
+        Instant previousStart = entry.getStartTime();
+        Instant previousEnd = entry.getEndTime();
+
+        Instant startTime = request.startTime() != null ? request.startTime() : previousStart;
+        Instant endTime = request.endTime() != null ? request.endTime() : previousEnd;
+        if (endTime != null && !endTime.isAfter(startTime)) {
+            throw new InvalidTimeBoundsException();
+        }
+
+        if (request.description() != null) {
+            entry.setDescription(request.description());
+        }
+        entry.setStartTime(startTime);
+        entry.setEndTime(endTime);
+        if (project != null) {
+            entry.setProject(project);
+        }
+
+        TimeEntry saved = timeEntryRepository.save(entry);
+
+        // Projetos vêm do ProjectCache como cópias: compara por id
+        boolean boundsChanged = !previousProject.getId().equals(saved.getProject().getId())
+                || !previousStart.equals(saved.getStartTime())
+                || !Objects.equals(previousEnd, saved.getEndTime());
+        if (boundsChanged) {
+            rollup.subtract(previousProject, userId, previousStart, previousEnd);
+            rollup.add(saved);
+            analyticsService.record(saved);
+        }
+
+        if (saved.isActive()) {
+            activeTimerRegistry.register(ActiveTimer.from(saved));
+        } else {
+            activeTimerRegistry.unregister(userId, saved.getId());
+        }
+        timerEventRegistry.publish(userId, TimerEventType.UPDATED, saved);
+        if (request.description() != null || project != null) {
+            suggestionCache.record(saved);
+        }
+        return saved;
     }
 
     private TimeEntry findByIdAndUserId(UUID id, UUID userId) {
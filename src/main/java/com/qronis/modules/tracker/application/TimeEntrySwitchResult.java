@@ -0,0 +1,7 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+/** Resultado da troca de timer; {@code stopped} é nulo quando não havia timer ativo. */
+public record TimeEntrySwitchResult(TimeEntry stopped, TimeEntry started) {
+}
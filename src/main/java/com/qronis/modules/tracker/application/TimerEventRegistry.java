@@ -0,0 +1,137 @@
+package com.qronis.modules.tracker.application;
+
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.api.dto.TimerEventDTO;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.shared.transaction.AfterCommit;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Assinantes SSE por usuário, para que laptop e celular recebam start/stop/patch sem polling.
+ *
+ * Uma conexão ociosa é apenas um {@link SseEmitter} no mapa: nenhuma thread fica presa a ela.
+ * Eventos são publicados pelo {@link TimeEntryService} e só enviados após o commit, como no
+ * {@link ActiveTimerRegistry}. Um heartbeat periódico detecta e descarta conexões mortas.
+ *
+ * Os envios saem do executor, nunca da thread que fez o commit ou do agendador: um cliente lento
+ * segura só a sua virtual thread. Os envios de um mesmo usuário ficam encadeados, na ordem em que
+ * foram publicados.
+ */
+@Component
+public class TimerEventRegistry {
+
+    static final Duration SUBSCRIPTION_TIMEOUT = Duration.ofMinutes(30);
+
+    private static final CompletableFuture<Void> IDLE = CompletableFuture.completedFuture(null);
+
+    private final TimeEntryMapper timeEntryMapper;
+    private final Executor executor;
+    private final ConcurrentMap<UUID, Set<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+    /** Último envio agendado por usuário; sai do mapa quando a fila do usuário esvazia. */
+    private final ConcurrentMap<UUID, CompletableFuture<Void>> pendingByUser = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TimerEventRegistry(TimeEntryMapper timeEntryMapper) {
+        this(timeEntryMapper, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public TimerEventRegistry(TimeEntryMapper timeEntryMapper, Executor executor) {
+        this.timeEntryMapper = timeEntryMapper;
+        this.executor = executor;
+    }
+
+    /** Abre uma assinatura e envia o estado atual do timer como primeiro evento. */
+    public SseEmitter subscribe(UUID userId, TimeEntryResponseDTO active) {
+        SseEmitter emitter = new SseEmitter(SUBSCRIPTION_TIMEOUT.toMillis());
+        emittersByUser.compute(userId, (key, emitters) -> {
+            Set<SseEmitter> current = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            current.add(emitter);
+            return current;
+        });
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(ex -> remove(userId, emitter));
+
+        TimerEventDTO snapshot = new TimerEventDTO(TimerEventType.SNAPSHOT, active);
+        dispatch(userId, () -> send(userId, emitter, snapshot));
+        return emitter;
+    }
+
+    public void publish(UUID userId, TimerEventType type, TimeEntry entry) {
+        // Mapeia ainda dentro da transação: o envio acontece depois do commit
+        TimerEventDTO event = new TimerEventDTO(type, timeEntryMapper.toResponse(entry));
+        AfterCommit.run(() -> dispatch(userId, () -> broadcast(userId, event)));
+    }
+
+    public int subscriberCount() {
+        return emittersByUser.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Scheduled(fixedDelayString = "PT25S")
+    public void heartbeat() {
+        emittersByUser.forEach((userId, emitters) -> dispatch(userId, () -> emitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException ex) {
+                remove(userId, emitter);
+            }
+        })));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    /** Encadeia o envio após os anteriores do usuário; uma falha não trava os seguintes. */
+    private void dispatch(UUID userId, Runnable task) {
+        CompletableFuture<Void> next = pendingByUser.compute(userId, (key, pending) ->
+                (pending != null ? pending : IDLE).exceptionally(ex -> null).thenRunAsync(task, executor));
+        next.whenComplete((ignored, ex) -> pendingByUser.remove(userId, next));
+    }
+
+    private void broadcast(UUID userId, TimerEventDTO event) {
+        Set<SseEmitter> emitters = emittersByUser.get(userId);
+        if (emitters != null) {
+            emitters.forEach(emitter -> send(userId, emitter, event));
+        }
+    }
+
+    private void send(UUID userId, SseEmitter emitter, TimerEventDTO event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(event.type().name().toLowerCase(Locale.ROOT))
+                    .data(event, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException ex) {
+            remove(userId, emitter);
+        }
+    }
+
+    private void remove(UUID userId, SseEmitter emitter) {
+        emittersByUser.computeIfPresent(userId, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
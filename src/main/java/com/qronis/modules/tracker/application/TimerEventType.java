@@ -0,0 +1,10 @@
+package com.qronis.modules.tracker.application;
+
+/** Tipos de evento enviados no stream SSE do timer (nome do evento = valor em minúsculas). */
+public enum TimerEventType {
+    SNAPSHOT,
+    STARTED,
+    STOPPED,
+    UPDATED,
+    DELETED
+}
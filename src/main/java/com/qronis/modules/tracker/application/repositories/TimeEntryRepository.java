@@ -1,37 +1,165 @@
 package com.qronis.modules.tracker.application.repositories;
 
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.application.ActiveTimer;
 import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.shared.web.ScopeVersion;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface TimeEntryRepository extends JpaRepository<TimeEntry, UUID> {
+public interface TimeEntryRepository extends JpaRepository<TimeEntry, UUID>, TimeEntryTimerRepository {
 
     @Query("SELECT te FROM TimeEntry te JOIN FETCH te.project WHERE te.createdBy.id = :userId AND te.endTime IS NULL")
     Optional<TimeEntry> findActiveByUserId(@Param("userId") UUID userId);
 
-    @Query(value = "SELECT te FROM TimeEntry te JOIN FETCH te.project WHERE te.createdBy.id = :userId ORDER BY te.startTime DESC",
-           countQuery = "SELECT count(te) FROM TimeEntry te WHERE te.createdBy.id = :userId")
-    Page<TimeEntry> findByUserIdWithProject(@Param("userId") UUID userId, Pageable pageable);
+    @Query("""
+            SELECT new com.qronis.modules.tracker.application.ActiveTimer(
+                te.id, te.createdBy.id, p.tenant.id, p.id, p.name, te.description, te.startTime, te.createdAt)
+            FROM TimeEntry te JOIN te.project p
+            WHERE te.endTime IS NULL
+            """)
+    List<ActiveTimer> findAllActive();
 
-    @Query(value = "SELECT te FROM TimeEntry te JOIN FETCH te.project WHERE te.createdBy.id = :userId AND te.project.id = :projectId",
-           countQuery = "SELECT count(te) FROM TimeEntry te WHERE te.createdBy.id = :userId AND te.project.id = :projectId")
-    Page<TimeEntry> findByUserIdAndProjectIdWithProject(@Param("userId") UUID userId,
-            @Param("projectId") UUID projectId, Pageable pageable);
+    /** Versão do histórico na janela: o nome do projeto também aparece nas respostas. */
+    @Query("""
+            SELECT new com.qronis.shared.web.ScopeVersion(count(te), max(greatest(te.updatedAt, p.updatedAt)))
+            FROM TimeEntry te JOIN te.project p
+            WHERE te.createdBy.id = :userId AND p.deletingAt IS NULL
+            AND te.startTime >= :from AND te.startTime < :to
+            """)
+    ScopeVersion findVersionByUserId(@Param("userId") UUID userId,
+            @Param("from") Instant from, @Param("to") Instant to);
 
-    @Query("SELECT te FROM TimeEntry te JOIN FETCH te.project JOIN FETCH te.createdBy WHERE te.project.id = :projectId ORDER BY te.startTime DESC")
-    List<TimeEntry> findByProjectIdWithProject(@Param("projectId") UUID projectId);
+    /** Versão do histórico filtrado por projeto: escrita em outro projeto não invalida o ETag. */
+    @Query("""
+            SELECT new com.qronis.shared.web.ScopeVersion(count(te), max(greatest(te.updatedAt, p.updatedAt)))
+            FROM TimeEntry te JOIN te.project p
+            WHERE te.createdBy.id = :userId AND p.id = :projectId AND p.deletingAt IS NULL
+            AND te.startTime >= :from AND te.startTime < :to
+            """)
+    ScopeVersion findVersionByUserIdAndProjectId(@Param("userId") UUID userId, @Param("projectId") UUID projectId,
+            @Param("from") Instant from, @Param("to") Instant to);
 
-    @Query("SELECT te FROM TimeEntry te JOIN FETCH te.project WHERE te.id = :id AND te.createdBy.id = :userId")
+    // Projeções de leitura: só as colunas do TimeEntryResponseDTO, sem entidades no persistence context.
+
+    @Query(value = """
+            SELECT new com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO(
+                te.id, te.description, te.startTime, te.endTime, p.id, p.name, te.createdAt)
+            FROM TimeEntry te JOIN te.project p
+            WHERE te.createdBy.id = :userId AND p.deletingAt IS NULL
+            AND te.startTime >= :from AND te.startTime < :to
+            ORDER BY te.startTime DESC
+            """, countQuery = """
+            SELECT count(te) FROM TimeEntry te
+            WHERE te.createdBy.id = :userId AND te.project.deletingAt IS NULL
+            AND te.startTime >= :from AND te.startTime < :to
+            """)
+    Page<TimeEntryResponseDTO> findResponsesByUserId(@Param("userId") UUID userId,
+            @Param("from") Instant from, @Param("to") Instant to, Pageable pageable);
+
+    @Query(value = """
+            SELECT new com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO(
+                te.id, te.description, te.startTime, te.endTime, p.id, p.name, te.createdAt)
+            FROM TimeEntry te JOIN te.project p
+            WHERE te.createdBy.id = :userId AND p.deletingAt IS NULL AND p.id = :projectId
+            AND te.startTime >= :from AND te.startTime < :to
+            """, countQuery = """
+            SELECT count(te) FROM TimeEntry te
+            WHERE te.createdBy.id = :userId AND te.project.deletingAt IS NULL AND te.project.id = :projectId
+            AND te.startTime >= :from AND te.startTime < :to
+            """)
+    Page<TimeEntryResponseDTO> findResponsesByUserIdAndProjectId(@Param("userId") UUID userId,
+            @Param("projectId") UUID projectId, @Param("from") Instant from, @Param("to") Instant to,
+            Pageable pageable);
+
+    @Query("""
+            SELECT new com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO(
+                te.id, te.description, te.startTime, te.endTime, p.id, p.name, te.createdAt)
+            FROM TimeEntry te JOIN te.project p
+            WHERE te.createdBy.id = :userId AND p.deletingAt IS NULL
+            AND te.startTime <= :startTime AND (te.startTime < :startTime OR te.id < :id)
+            AND te.startTime >= :from AND te.startTime < :to
+            ORDER BY te.startTime DESC, te.id DESC
+            """)
+    Slice<TimeEntryResponseDTO> findResponsesByUserIdAfterCursor(@Param("userId") UUID userId,
+            @Param("startTime") Instant startTime, @Param("id") UUID id,
+            @Param("from") Instant from, @Param("to") Instant to, Pageable pageable);
+
+    @Query("""
+            SELECT new com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO(
+                te.id, te.description, te.startTime, te.endTime, p.id, p.name, te.createdAt)
+            FROM TimeEntry te JOIN te.project p
+            WHERE te.createdBy.id = :userId AND p.deletingAt IS NULL AND p.id = :projectId
+            AND te.startTime <= :startTime AND (te.startTime < :startTime OR te.id < :id)
+            AND te.startTime >= :from AND te.startTime < :to
+            ORDER BY te.startTime DESC, te.id DESC
+            """)
+    Slice<TimeEntryResponseDTO> findResponsesByUserIdAndProjectIdAfterCursor(@Param("userId") UUID userId,
+            @Param("projectId") UUID projectId, @Param("startTime") Instant startTime, @Param("id") UUID id,
+            @Param("from") Instant from, @Param("to") Instant to, Pageable pageable);
+
+    @Query("""
+            SELECT new com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO(
+                te.id, te.description, te.startTime, te.endTime, p.id, p.name, te.createdAt)
+            FROM TimeEntry te JOIN te.project p
+            WHERE p.id = :projectId
+            ORDER BY te.startTime DESC
+            """)
+    List<TimeEntryResponseDTO> findResponsesByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT te FROM TimeEntry te JOIN FETCH te.project p WHERE te.id = :id AND te.createdBy.id = :userId AND p.deletingAt IS NULL")
     Optional<TimeEntry> findByIdAndCreatedByIdWithProject(@Param("id") UUID id, @Param("userId") UUID userId);
 
-    @Query(value = "SELECT COALESCE(SUM(EXTRACT(EPOCH FROM (te.end_time - te.start_time))), 0) FROM time_entry te WHERE te.project_id = CAST(:projectId AS uuid) AND te.created_by = CAST(:userId AS uuid) AND te.end_time IS NOT NULL", nativeQuery = true)
-    Long sumDurationSecondsByProjectIdAndUserId(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
+    @Query("SELECT te FROM TimeEntry te JOIN FETCH te.project p WHERE te.id IN :ids AND te.createdBy.id = :userId AND p.deletingAt IS NULL")
+    List<TimeEntry> findAllByIdInAndCreatedByIdWithProject(@Param("ids") Collection<UUID> ids,
+            @Param("userId") UUID userId);
+
+    @Query(value = "SELECT CAST(COALESCE(SUM(r.duration_millis), 0) AS bigint) / 1000 FROM time_entry_daily_rollup r WHERE r.tenant_id = CAST(:tenantId AS uuid) AND r.project_id = CAST(:projectId AS uuid) AND r.user_id = CAST(:userId AS uuid)", nativeQuery = true)
+    Long sumDurationSecondsByTenantIdAndProjectIdAndUserId(@Param("tenantId") UUID tenantId,
+            @Param("projectId") UUID projectId, @Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO time_entry_daily_rollup (tenant_id, project_id, user_id, day, duration_millis)
+            VALUES (CAST(:tenantId AS uuid), CAST(:projectId AS uuid), CAST(:userId AS uuid), :day, :millis)
+            ON CONFLICT (tenant_id, project_id, user_id, day)
+            DO UPDATE SET duration_millis = time_entry_daily_rollup.duration_millis + EXCLUDED.duration_millis
+            """, nativeQuery = true)
+    void addToDailyRollup(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId,
+            @Param("userId") UUID userId, @Param("day") LocalDate day, @Param("millis") long millis);
+
+    @Modifying
+    @Query(value = "DELETE FROM time_entry_daily_rollup WHERE tenant_id = CAST(:tenantId AS uuid)", nativeQuery = true)
+    int deleteDailyRollupByTenantId(@Param("tenantId") UUID tenantId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO time_entry_daily_rollup (tenant_id, project_id, user_id, day, duration_millis)
+            SELECT p.tenant_id, te.project_id, te.created_by, CAST(d.day AS date),
+                   CAST(SUM(FLOOR(EXTRACT(EPOCH FROM (
+                       LEAST(te.end_time, (d.day + INTERVAL '1 day') AT TIME ZONE 'UTC')
+                       - GREATEST(te.start_time, d.day AT TIME ZONE 'UTC'))) * 1000)) AS bigint)
+            FROM time_entry te
+            JOIN project p ON p.id = te.project_id
+            CROSS JOIN LATERAL generate_series(
+                date_trunc('day', te.start_time AT TIME ZONE 'UTC'),
+                date_trunc('day', (te.end_time - INTERVAL '1 microsecond') AT TIME ZONE 'UTC'),
+                INTERVAL '1 day') AS d(day)
+            WHERE p.tenant_id = CAST(:tenantId AS uuid) AND p.deleting_at IS NULL AND te.end_time IS NOT NULL
+            GROUP BY p.tenant_id, te.project_id, te.created_by, d.day
+            """, nativeQuery = true)
+    int insertDailyRollupByTenantId(@Param("tenantId") UUID tenantId);
 }
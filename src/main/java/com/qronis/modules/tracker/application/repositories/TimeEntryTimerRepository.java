@@ -0,0 +1,20 @@
+package com.qronis.modules.tracker.application.repositories;
+
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Transições do timer em um único statement, fora do ciclo load → dirty check → flush do JPA.
+ * Incorporado ao {@link TimeEntryRepository} como fragmento do Spring Data.
+ */
+public interface TimeEntryTimerRepository {
+
+    /**
+     * Encerra o timer ativo do usuário com {@code UPDATE ... RETURNING} e devolve a entry já
+     * encerrada (com id, nome e tenant do projeto). A entry devolvida não é gerenciada pelo JPA.
+     */
+    Optional<TimeEntry> stopActiveByUserId(UUID userId, Instant endTime);
+}
@@ -0,0 +1,72 @@
+package com.qronis.modules.tracker.application.repositories;
+
+import com.qronis.modules.identity.domain.entity.Tenant;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+public class TimeEntryTimerRepositoryImpl implements TimeEntryTimerRepository {
+
+    // O UPDATE usa o índice parcial idx_time_entry_active em cada partição; o trigger libera
+    // time_entry_active na mesma execução. O JOIN traz o que o rollup e o DTO precisam do projeto.
+    private static final String STOP_SQL = """
+            WITH stopped AS (
+                UPDATE time_entry SET end_time = :endTime, updated_at = :endTime
+                WHERE created_by = :userId AND end_time IS NULL
+                RETURNING id, description, start_time, end_time, project_id, created_by, created_at, updated_at
+            )
+            SELECT s.*, p.name AS project_name, p.tenant_id
+            FROM stopped s
+            JOIN project p ON p.id = s.project_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TimeEntryTimerRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<TimeEntry> stopActiveByUserId(UUID userId, Instant endTime) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("endTime", endTime.atOffset(ZoneOffset.UTC));
+
+        return jdbcTemplate.query(STOP_SQL, params, (rs, rowNum) -> toEntry(rs)).stream().findFirst();
+    }
+
+    private static TimeEntry toEntry(ResultSet rs) throws SQLException {
+        Tenant tenant = new Tenant();
+        tenant.setId(rs.getObject("tenant_id", UUID.class));
+
+        Project project = new Project();
+        project.setId(rs.getObject("project_id", UUID.class));
+        project.setName(rs.getString("project_name"));
+        project.setTenant(tenant);
+
+        User user = new User();
+        user.setId(rs.getObject("created_by", UUID.class));
+
+        TimeEntry entry = new TimeEntry();
+        entry.setId(rs.getObject("id", UUID.class));
+        entry.setDescription(rs.getString("description"));
+        entry.setStartTime(rs.getObject("start_time", OffsetDateTime.class).toInstant());
+        entry.setEndTime(rs.getObject("end_time", OffsetDateTime.class).toInstant());
+        entry.setProject(project);
+        entry.setCreatedBy(user);
+        entry.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class).toInstant());
+        entry.setUpdatedAt(rs.getObject("updated_at", OffsetDateTime.class).toInstant());
+        return entry;
+    }
+}
@@ -0,0 +1,9 @@
+package com.qronis.modules.tracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TimeEntryArchiveProperties.class)
+public class TimeEntryArchiveConfig {
+}
@@ -0,0 +1,31 @@
+package com.qronis.modules.tracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Arquivo frio de lançamentos antigos (ver {@code TimeEntryArchiveService}).
+ */
+@ConfigurationProperties(prefix = "qronis.archive")
+public class TimeEntryArchiveProperties {
+
+    private boolean enabled = false;
+    private Duration minAge = Duration.ofDays(730);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Duration minAge) {
+        this.minAge = minAge;
+    }
+}
@@ -0,0 +1,7 @@
+package com.qronis.modules.tracker.domain.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super("Cursor de paginação inválido");
+    }
+}
@@ -0,0 +1,11 @@
+package com.qronis.modules.tracker.domain.exception;
+
+public class TimeEntryOverlapException extends RuntimeException {
+    public TimeEntryOverlapException() {
+        super("O lançamento se sobrepõe a outro do mesmo usuário.");
+    }
+
+    public TimeEntryOverlapException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,175 @@
+package com.qronis.shared.cache;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Mapa concorrente com limite de entradas: acima de {@code maxSize} saem as de acesso mais antigo.
+ *
+ * O despejo só roda quando uma entrada nova passa do limite, e ordena um snapshot do último acesso
+ * (que muda durante a ordenação se houver leituras concorrentes); o custo acompanha a carga que
+ * criou a entrada. Com {@link #softValues}, os valores ficam em {@link SoftReference} e o GC pode
+ * limpá-los sob pressão de memória: um valor limpo conta como ausente.
+ */
+public final class BoundedCache<K, V> {
+
+    private static final BiConsumer<Object, Object> IGNORE = (key, value) -> {
+    };
+
+    private final ConcurrentMap<K, Node<V>> nodes = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final boolean soft;
+    private final BiConsumer<? super K, ? super V> onEviction;
+
+    private BoundedCache(int maxSize, boolean soft, BiConsumer<? super K, ? super V> onEviction) {
+        this.maxSize = maxSize;
+        this.soft = soft;
+        this.onEviction = onEviction;
+    }
+
+    /** Valores em {@link SoftReference}, para cargas grandes que podem ser refeitas do banco. */
+    public static <K, V> BoundedCache<K, V> softValues(int maxSize) {
+        return new BoundedCache<>(maxSize, true, IGNORE);
+    }
+
+    /** Valores fortes; {@code onEviction} recebe cada entrada despejada por tamanho. */
+    public static <K, V> BoundedCache<K, V> strongValues(int maxSize, BiConsumer<? super K, ? super V> onEviction) {
+        return new BoundedCache<>(maxSize, false, onEviction);
+    }
+
+    /** Valor da chave, marcando o acesso; nulo se ausente ou limpo pelo GC. */
+    public V get(K key) {
+        Node<V> node = nodes.get(key);
+        if (node == null) {
+            return null;
+        }
+        V value = node.value();
+        if (value == null) {
+            nodes.remove(key, node);
+            return null;
+        }
+        node.lastAccess = System.nanoTime();
+        return value;
+    }
+
+    /** Valor da chave, criado por {@code factory} (sob o lock do bucket) se ausente. */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> factory) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        AtomicReference<V> result = new AtomicReference<>();
+        boolean[] created = new boolean[1];
+        nodes.compute(key, (k, current) -> {
+            V value = current != null ? current.value() : null;
+            if (value == null) {
+                value = factory.apply(k);
+                created[0] = true;
+                current = new Node<>(value, soft);
+            }
+            result.set(value);
+            return current;
+        });
+        if (created[0]) {
+            evictIfFull();
+        }
+        return result.get();
+    }
+
+    /**
+     * Publica {@code value}, a não ser que já exista um valor vivo que {@code replaceable} não aceite
+     * trocar; devolve o valor que ficou no cache.
+     */
+    public V putIfAbsent(K key, V value, Predicate<? super V> replaceable) {
+        Node<V> node = new Node<>(value, soft);
+        while (true) {
+            Node<V> previous = nodes.putIfAbsent(key, node);
+            if (previous == null) {
+                evictIfFull();
+                return value;
+            }
+            V current = previous.value();
+            if (current != null && !replaceable.test(current)) {
+                previous.lastAccess = System.nanoTime();
+                return current;
+            }
+            if (nodes.replace(key, previous, node)) {
+                return value;
+            }
+        }
+    }
+
+    public V remove(K key) {
+        Node<V> removed = nodes.remove(key);
+        return removed != null ? removed.value() : null;
+    }
+
+    /** Remove a chave só se ela ainda aponta para {@code value}. */
+    public boolean remove(K key, V value) {
+        Node<V> node = nodes.get(key);
+        return node != null && node.value() == value && nodes.remove(key, node);
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        nodes.values().forEach(node -> {
+            V value = node.value();
+            if (value != null) {
+                action.accept(value);
+            }
+        });
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    private void evictIfFull() {
+        if (nodes.size() <= maxSize) {
+            return;
+        }
+        if (soft) {
+            nodes.values().removeIf(node -> node.value() == null);
+        }
+        int excess = nodes.size() - maxSize;
+        if (excess <= 0) {
+            return;
+        }
+        List<Candidate<K, V>> candidates = new ArrayList<>(nodes.size());
+        nodes.forEach((key, node) -> candidates.add(new Candidate<>(key, node, node.lastAccess)));
+        candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+        for (Candidate<K, V> candidate : candidates.subList(0, Math.min(excess, candidates.size()))) {
+            V value = candidate.node().value();
+            if (nodes.remove(candidate.key(), candidate.node()) && value != null) {
+                onEviction.accept(candidate.key(), value);
+            }
+        }
+    }
+
+    private static final class Node<V> {
+
+        private final V strong;
+        private final SoftReference<V> softRef;
+        private volatile long lastAccess = System.nanoTime();
+
+        Node(V value, boolean soft) {
+            this.strong = soft ? null : value;
+            this.softRef = soft ? new SoftReference<>(value) : null;
+        }
+
+        V value() {
+            return softRef != null ? softRef.get() : strong;
+        }
+    }
+
+    private record Candidate<K, V>(K key, Node<V> node, long lastAccess) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.qronis.shared.config;
 
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,9 +25,11 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtDecoder jwtDecoder;
+    private final int managementPort;
 
-    SecurityConfig(JwtDecoder jwtDecoder) {
+    SecurityConfig(JwtDecoder jwtDecoder, @Value("${management.server.port:-1}") int managementPort) {
         this.jwtDecoder = jwtDecoder;
+        this.managementPort = managementPort;
     }
 
     @Bean
@@ -35,10 +39,16 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Re-despacho assíncrono (SSE, exportação em stream) já foi autorizado na requisição original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST, "/auth/register", "/auth/login").permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/error").permitAll()
                         .requestMatchers("/api/**").authenticated()
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        // Métricas são do servidor inteiro, não de um tenant: só pela porta de gestão (rede interna)
+                        .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort)
+                                .permitAll()
                         .anyRequest().denyAll())
                 .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt
                         .decoder(jwtDecoder)
@@ -51,6 +61,7 @@ public class SecurityConfig {
         corsConfig.setAllowedOrigins(List.of("http://localhost:5173", "http://127.0.0.1:5173"));
         corsConfig.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         corsConfig.setAllowedHeaders(List.of("*"));
+        corsConfig.setExposedHeaders(List.of("ETag"));
         corsConfig.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
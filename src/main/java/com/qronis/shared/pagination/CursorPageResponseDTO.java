@@ -0,0 +1,15 @@
+package com.qronis.shared.pagination;
+
+import java.util.List;
+
+/**
+ * Página de uma listagem por cursor (keyset), sem contagem total.
+ *
+ * Campos:
+ * - content:    itens da página, na ordem da listagem
+ * - nextCursor: token opaco para buscar a próxima página (null quando não há mais itens)
+ */
+public record CursorPageResponseDTO<T>(
+        List<T> content,
+        String nextCursor) {
+}
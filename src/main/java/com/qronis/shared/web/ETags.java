@@ -0,0 +1,69 @@
+package com.qronis.shared.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * GET condicional com ETag forte.
+ *
+ * O controller calcula o ETag a partir de uma {@link ScopeVersion} (ou do próprio DTO, quando
+ * ele já é barato) e só monta o corpo se o {@code If-None-Match} do cliente não bater.
+ * {@code Cache-Control: private, no-cache} substitui o {@code no-store} padrão do Spring Security
+ * para que o navegador guarde a resposta e revalide a cada uso.
+ */
+public final class ETags {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    /** ETag forte (entre aspas) com os 128 primeiros bits do SHA-256 das partes. */
+    public static String of(Object... parts) {
+        StringBuilder raw = new StringBuilder();
+        for (Object part : parts) {
+            raw.append(part).append('|');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw.toString().getBytes(StandardCharsets.UTF_8));
+            return '"' + HexFormat.of().formatHex(digest, 0, 16) + '"';
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /** Comparação fraca do {@code If-None-Match} (RFC 9110): aceita lista, {@code *} e prefixo {@code W/}. */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 304 sem executar {@code body} quando o cliente já tem a versão; senão 200 com o ETag. */
+    public static <T> ResponseEntity<T> conditional(String ifNoneMatch, String etag, Supplier<T> body) {
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body.get());
+    }
+}
@@ -0,0 +1,10 @@
+package com.qronis.shared.web;
+
+import java.time.Instant;
+
+/**
+ * Versão barata de um conjunto de linhas: quantidade e maior {@code updated_at}.
+ * Inserções e alterações avançam {@code lastUpdatedAt}; exclusões mudam {@code count}.
+ */
+public record ScopeVersion(Long count, Instant lastUpdatedAt) {
+}
@@ -0,0 +1,10 @@
+-- =============================================
+-- Qronis - Busca por nome de projeto com trigramas
+-- =============================================
+
+-- pg_trgm indexa LIKE '%termo%' (curinga à esquerda) e responde ao operador de similaridade
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- GIN por tenant + trigramas de lower(name) (tenant_id via btree_gin, ver V7).
+-- Serve à listagem filtrada (LOWER(name) LIKE) e ao typeahead (LIKE ou <% por similaridade).
+CREATE INDEX idx_project_tenant_name_trgm ON project USING gin (tenant_id, lower(name) gin_trgm_ops);
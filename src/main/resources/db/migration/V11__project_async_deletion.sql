@@ -0,0 +1,19 @@
+-- =============================================
+-- Qronis - Exclusão assíncrona de projetos
+-- =============================================
+
+-- 1. Projeto marcado some das consultas na hora; as entries saem em lotes pelo ProjectDeletionService
+ALTER TABLE project ADD COLUMN deleting_at TIMESTAMPTZ;
+
+-- 2. Progresso da exclusão. Sem FK para project: a linha sobrevive ao projeto para informar o fim.
+CREATE TABLE project_deletion (
+    project_id      UUID        PRIMARY KEY,
+    tenant_id       UUID        NOT NULL REFERENCES tenant(id) ON DELETE CASCADE,
+    total_entries   BIGINT      NOT NULL,
+    deleted_entries BIGINT      NOT NULL DEFAULT 0,
+    requested_at    TIMESTAMPTZ NOT NULL,
+    finished_at     TIMESTAMPTZ
+);
+
+-- O worker só procura exclusões em andamento
+CREATE INDEX idx_project_deletion_pending ON project_deletion(requested_at) WHERE finished_at IS NULL;
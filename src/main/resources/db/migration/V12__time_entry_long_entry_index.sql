@@ -0,0 +1,11 @@
+-- =============================================
+-- Qronis - Índice de entries longas (relatório por período)
+-- =============================================
+
+-- O relatório lê pelo (created_by, start_time) só a partir de um dia antes do período, o que poda
+-- as partições antigas. Entries de mais de um dia que começaram antes disso vêm por este índice
+-- parcial, pequeno porque quase nenhum lançamento passa de um dia. O predicado precisa ser
+-- idêntico ao da query (TimeEntryReportService.REPORT_SQL) para o planner usar o índice.
+CREATE INDEX idx_time_entry_long_user_end
+    ON time_entry (created_by, end_time)
+    WHERE end_time - start_time > INTERVAL '1 day';
@@ -0,0 +1,8 @@
+-- =============================================
+-- Qronis - Índice do histórico por usuário
+-- =============================================
+
+-- Suporta a paginação por cursor (keyset) em (start_time, id) e a ordenação
+-- padrão do histórico paginado, sem varrer as entries já vistas.
+CREATE INDEX idx_time_entry_user_start_id
+    ON time_entry(created_by, start_time DESC, id DESC);
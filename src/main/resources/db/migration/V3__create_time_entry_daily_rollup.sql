@@ -0,0 +1,30 @@
+-- =============================================
+-- Qronis - Rollup diário de duração
+-- =============================================
+
+-- Total de milissegundos lançados por (tenant, projeto, usuário, dia UTC).
+-- Mantido na mesma transação pelo TimeEntryService; entries que cruzam a
+-- meia-noite UTC são divididas entre os dias. Apenas entries encerradas contam.
+CREATE TABLE time_entry_daily_rollup (
+    tenant_id       UUID   NOT NULL REFERENCES tenant(id) ON DELETE CASCADE,
+    project_id      UUID   NOT NULL REFERENCES project(id) ON DELETE CASCADE,
+    user_id         UUID   NOT NULL REFERENCES users(id),
+    day             DATE   NOT NULL,
+    duration_millis BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (tenant_id, project_id, user_id, day)
+);
+
+-- Carga inicial a partir do histórico existente (mesma regra do rebuild)
+INSERT INTO time_entry_daily_rollup (tenant_id, project_id, user_id, day, duration_millis)
+SELECT p.tenant_id, te.project_id, te.created_by, d.day::date,
+       SUM(FLOOR(EXTRACT(EPOCH FROM (
+           LEAST(te.end_time, (d.day + INTERVAL '1 day') AT TIME ZONE 'UTC')
+           - GREATEST(te.start_time, d.day AT TIME ZONE 'UTC'))) * 1000))::bigint
+FROM time_entry te
+JOIN project p ON p.id = te.project_id
+CROSS JOIN LATERAL generate_series(
+    date_trunc('day', te.start_time AT TIME ZONE 'UTC'),
+    date_trunc('day', (te.end_time - INTERVAL '1 microsecond') AT TIME ZONE 'UTC'),
+    INTERVAL '1 day') AS d(day)
+WHERE te.end_time IS NOT NULL
+GROUP BY p.tenant_id, te.project_id, te.created_by, d.day;
@@ -0,0 +1,10 @@
+-- =============================================
+-- Qronis - Índice BRIN por período
+-- =============================================
+
+-- Filtros por usuário e período (semana/mês) usam idx_time_entry_user_start_id (V2),
+-- que já tem created_by + start_time como prefixo. Para varreduras do tenant inteiro por
+-- período, um BRIN em start_time descarta blocos fora da janela a custo quase zero:
+-- as entries chegam em ordem aproximada de start_time.
+CREATE INDEX idx_time_entry_start_brin
+    ON time_entry USING brin (start_time);
@@ -0,0 +1,146 @@
+-- =============================================
+-- Qronis - Particionamento mensal de time_entry
+-- =============================================
+
+-- time_entry passa a ser particionada por RANGE (start_time), uma partição por mês UTC.
+-- A migração copia os dados para a nova tabela; execute em janela de manutenção.
+
+-- 1. Tabela atual vira legado (liberando nomes de índices e da PK)
+ALTER TABLE time_entry RENAME TO time_entry_legacy;
+ALTER TABLE time_entry_legacy RENAME CONSTRAINT time_entry_pkey TO time_entry_legacy_pkey;
+DROP INDEX idx_time_entry_active_per_user;
+DROP INDEX idx_time_entry_user_start_id;
+-- O BRIN da V4 perde o sentido: a poda de partições já descarta os meses fora da janela
+DROP INDEX idx_time_entry_start_brin;
+
+-- 2. Tabela particionada: a PK precisa conter a chave de partição
+CREATE TABLE time_entry (
+    id          UUID NOT NULL DEFAULT gen_random_uuid(),
+    description VARCHAR(500),
+    start_time  TIMESTAMPTZ NOT NULL,
+    end_time    TIMESTAMPTZ,
+    project_id  UUID NOT NULL REFERENCES project(id) ON DELETE CASCADE,
+    created_by  UUID NOT NULL REFERENCES users(id),
+    created_at  TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at  TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, start_time)
+) PARTITION BY RANGE (start_time);
+
+-- Recebe entries fora dos meses criados (histórico muito antigo ou datas muito futuras)
+CREATE TABLE time_entry_default PARTITION OF time_entry DEFAULT;
+
+-- Índices no pai são replicados em cada partição
+CREATE INDEX idx_time_entry_user_start_id ON time_entry(created_by, start_time DESC, id DESC);
+CREATE INDEX idx_time_entry_project_start ON time_entry(project_id, start_time DESC);
+CREATE INDEX idx_time_entry_active ON time_entry(created_by) WHERE end_time IS NULL;
+
+-- 3. Criação idempotente de partições mensais, de from_month até months_ahead meses à frente.
+-- Usada aqui e pelo TimeEntryPartitionMaintainer (agendado).
+
+-- Cria a partição de um mês. Se a DEFAULT já tiver linhas dele (importação de histórico antigo,
+-- datas além dos meses criados), o PostgreSQL recusaria a criação: a DEFAULT é desanexada, as
+-- linhas do mês passam para a tabela nova e as duas são anexadas de volta. Fora do particionamento
+-- nenhuma das duas tem os triggers clonados do pai, então mover as linhas não mexe em
+-- time_entry_active nem nas demais tabelas mantidas por trigger.
+CREATE FUNCTION create_time_entry_partition(month_start DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    partition_name TEXT := format('time_entry_y%sm%s', to_char(month_start, 'YYYY'), to_char(month_start, 'MM'));
+    range_start    TIMESTAMPTZ := month_start::timestamp AT TIME ZONE 'UTC';
+    range_end      TIMESTAMPTZ := (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC';
+    columns        TEXT;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM time_entry_default WHERE start_time >= range_start AND start_time < range_end) THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF time_entry FOR VALUES FROM (%L) TO (%L)',
+                partition_name, range_start, range_end);
+        RETURN true;
+    END IF;
+
+    -- Colunas geradas ficam de fora: a tabela nova as recalcula
+    SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) INTO columns
+    FROM pg_attribute
+    WHERE attrelid = 'time_entry'::regclass AND attnum > 0 AND NOT attisdropped AND attgenerated = '';
+
+    ALTER TABLE time_entry DETACH PARTITION time_entry_default;
+    EXECUTE format('CREATE TABLE %I (LIKE time_entry INCLUDING DEFAULTS INCLUDING GENERATED)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM time_entry_default WHERE start_time >= %L AND start_time < %L '
+            'RETURNING %s) INSERT INTO %I (%s) SELECT %s FROM moved',
+            range_start, range_end, columns, partition_name, columns, columns);
+    EXECUTE format('ALTER TABLE time_entry ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+            partition_name, range_start, range_end);
+    ALTER TABLE time_entry ATTACH PARTITION time_entry_default DEFAULT;
+    RAISE NOTICE 'Linhas de % movidas da partição DEFAULT', partition_name;
+    RETURN true;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Cria os meses que faltam na janela e, antes, os meses que já têm linhas na DEFAULT: ela só
+-- guarda uma entry até a próxima execução.
+CREATE FUNCTION create_time_entry_partitions(from_month DATE, months_ahead INT) RETURNS INT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    last_month  DATE := (date_trunc('month', now() AT TIME ZONE 'UTC') + make_interval(months => months_ahead))::date;
+    -- Materializado antes do laço: a DEFAULT é desanexada no meio dele
+    stranded    DATE[] := ARRAY(
+            SELECT DISTINCT date_trunc('month', start_time AT TIME ZONE 'UTC')::date FROM time_entry_default);
+    pending     DATE;
+    created     INT := 0;
+BEGIN
+    FOREACH pending IN ARRAY stranded LOOP
+        IF create_time_entry_partition(pending) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    WHILE month_start <= last_month LOOP
+        IF create_time_entry_partition(month_start) THEN
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Meses do histórico existente (no máximo 5 anos para trás) até 3 meses à frente
+SELECT create_time_entry_partitions(
+        GREATEST(
+            COALESCE((SELECT MIN(start_time) FROM time_entry_legacy), now()),
+            now() - INTERVAL '60 months')::date,
+        3);
+
+INSERT INTO time_entry (id, description, start_time, end_time, project_id, created_by, created_at, updated_at)
+SELECT id, description, start_time, end_time, project_id, created_by, created_at, updated_at
+FROM time_entry_legacy;
+
+DROP TABLE time_entry_legacy;
+
+-- 4. Timer ativo único por usuário.
+-- Índice único em tabela particionada precisa incluir start_time, o que não garante um timer
+-- por usuário. A unicidade passa para esta tabela, mantida por trigger: a violação da PK
+-- continua chegando ao TimeEntryService como DataIntegrityViolationException.
+CREATE TABLE time_entry_active (
+    user_id       UUID PRIMARY KEY REFERENCES users(id),
+    time_entry_id UUID NOT NULL UNIQUE
+);
+
+INSERT INTO time_entry_active (user_id, time_entry_id)
+SELECT created_by, id FROM time_entry WHERE end_time IS NULL;
+
+-- Também cobre a movimentação entre partições (UPDATE de start_time vira DELETE + INSERT)
+CREATE FUNCTION time_entry_sync_active() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.end_time IS NULL THEN
+        DELETE FROM time_entry_active WHERE time_entry_id = OLD.id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.end_time IS NULL THEN
+        INSERT INTO time_entry_active (user_id, time_entry_id) VALUES (NEW.created_by, NEW.id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_time_entry_sync_active
+    AFTER INSERT OR UPDATE OF end_time, start_time, created_by OR DELETE ON time_entry
+    FOR EACH ROW EXECUTE FUNCTION time_entry_sync_active();
@@ -0,0 +1,54 @@
+-- =============================================
+-- Qronis - Prevenção de sobreposição de time entries
+-- =============================================
+
+-- btree_gist permite combinar igualdade de UUID com && de ranges no mesmo índice GiST
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- 1. Busca de sobreposições (para qualquer tenant): GiST por usuário e intervalo.
+-- Entry ativa vira range sem limite superior.
+CREATE INDEX idx_time_entry_user_span ON time_entry USING gist (created_by, tstzrange(start_time, end_time));
+
+-- 2. Opção por tenant
+ALTER TABLE tenant ADD COLUMN prevent_time_entry_overlaps BOOLEAN NOT NULL DEFAULT false;
+
+-- 3. Restrição de exclusão.
+-- Em tabela particionada (PostgreSQL 16) o EXCLUDE precisaria incluir start_time com igualdade,
+-- o que não impede sobreposição entre entries diferentes. Como em time_entry_active, a restrição
+-- fica em uma tabela auxiliar mantida por trigger, só com as entries dos tenants que ativaram a opção.
+CREATE TABLE time_entry_span (
+    time_entry_id UUID PRIMARY KEY,
+    user_id       UUID NOT NULL REFERENCES users(id),
+    span          TSTZRANGE NOT NULL,
+    CONSTRAINT time_entry_span_no_overlap EXCLUDE USING gist (user_id WITH =, span WITH &&)
+);
+
+-- O FOR SHARE no tenant serializa com o TimeEntryOverlapService.setProtection, que trava a mesma
+-- linha FOR UPDATE: uma escrita concorrente à ativação espera o commit e lê a opção já ligada, ou
+-- confirma antes e entra na carga inicial de time_entry_span.
+CREATE FUNCTION time_entry_sync_span() RETURNS trigger AS $$
+DECLARE
+    protected BOOLEAN;
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM time_entry_span WHERE time_entry_id = OLD.id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        SELECT t.prevent_time_entry_overlaps INTO protected
+        FROM project p JOIN tenant t ON t.id = p.tenant_id
+        WHERE p.id = NEW.project_id
+        FOR SHARE OF t;
+        IF protected THEN
+            INSERT INTO time_entry_span (time_entry_id, user_id, span)
+            VALUES (NEW.id, NEW.created_by, tstzrange(NEW.start_time, NEW.end_time));
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Dispara depois de trg_time_entry_sync_active (ordem alfabética): um segundo timer ativo
+-- continua sendo reportado como conflito de timer, não como sobreposição.
+CREATE TRIGGER trg_time_entry_sync_span
+    AFTER INSERT OR UPDATE OF start_time, end_time, created_by, project_id OR DELETE ON time_entry
+    FOR EACH ROW EXECUTE FUNCTION time_entry_sync_span();
@@ -0,0 +1,15 @@
+-- =============================================
+-- Qronis - Busca textual nas descrições de time entries
+-- =============================================
+
+-- btree_gin permite o UUID do usuário e o tsvector no mesmo índice GIN
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- 1. tsvector gerado pelo PostgreSQL: sempre em sincronia com description, sem trigger.
+-- Configuração explícita ('portuguese') para que a expressão seja IMMUTABLE.
+-- Em tabela particionada a coluna é propagada para todas as partições (reescreve as tabelas).
+ALTER TABLE time_entry ADD COLUMN description_tsv TSVECTOR
+    GENERATED ALWAYS AS (to_tsvector('portuguese', COALESCE(description, ''))) STORED;
+
+-- 2. GIN por usuário + termos: a busca já chega ao índice restrita às entries do usuário
+CREATE INDEX idx_time_entry_user_description_tsv ON time_entry USING gin (created_by, description_tsv);
@@ -0,0 +1,8 @@
+-- =============================================
+-- Qronis - Índice por dia no rollup diário (heatmap)
+-- =============================================
+
+-- A PK (tenant_id, project_id, user_id, day) não serve a uma janela de dias do tenant ou do usuário.
+-- Com INCLUDE, o heatmap do tenant (range em day) e o do usuário (filtro em user_id) são index-only scans.
+CREATE INDEX idx_time_entry_daily_rollup_tenant_day
+    ON time_entry_daily_rollup (tenant_id, day, user_id) INCLUDE (duration_millis);
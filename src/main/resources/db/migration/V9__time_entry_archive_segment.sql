@@ -0,0 +1,39 @@
+-- =============================================
+-- Qronis - Arquivo frio de time entries
+-- =============================================
+
+-- Lançamentos encerrados de meses antigos saem de time_entry para segmentos colunares, um por
+-- tenant e mês (TimeEntrySegmentCodec), guardados no próprio banco: o segmento e a remoção das
+-- linhas confirmam na mesma transação, e réplicas e backups enxergam o mesmo arquivo.
+CREATE TABLE time_entry_archive_month (
+    tenant_id   UUID        NOT NULL REFERENCES tenant(id) ON DELETE CASCADE,
+    month       DATE        NOT NULL,
+    data        BYTEA       NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (tenant_id, month)
+);
+
+-- O segmento já vem comprimido em GZIP: o TOAST guarda fora da linha sem tentar comprimir de novo
+ALTER TABLE time_entry_archive_month ALTER COLUMN data SET STORAGE EXTERNAL;
+
+-- Índice dos segmentos: diz quais meses de quais usuários e projetos estão arquivados, quantas
+-- entries e em que intervalo, sem ler o bytea. Não há FK para project: a linha sobrevive à
+-- exclusão do projeto, e as leituras descartam projetos ausentes ou em exclusão.
+CREATE TABLE time_entry_archive_segment (
+    tenant_id   UUID        NOT NULL REFERENCES tenant(id) ON DELETE CASCADE,
+    month       DATE        NOT NULL,
+    user_id     UUID        NOT NULL REFERENCES users(id),
+    project_id  UUID        NOT NULL,
+    entry_count INT         NOT NULL,
+    min_start   TIMESTAMPTZ NOT NULL,
+    max_start   TIMESTAMPTZ NOT NULL,
+    max_end     TIMESTAMPTZ NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (tenant_id, month, user_id, project_id)
+);
+
+-- Leituras do histórico partem do usuário (em qualquer tenant) e de uma janela de start_time
+CREATE INDEX idx_time_entry_archive_segment_user ON time_entry_archive_segment(user_id, min_start);
+
+-- Entries de um projeto (de todos os membros)
+CREATE INDEX idx_time_entry_archive_segment_project ON time_entry_archive_segment(project_id);
@@ -0,0 +1,82 @@
+package com.qronis;
+
+import com.qronis.modules.identity.application.repositories.TenantRepository;
+import com.qronis.modules.identity.application.repositories.TenantUserRepository;
+import com.qronis.modules.identity.application.repositories.UserRepository;
+import com.qronis.modules.identity.domain.entity.Tenant;
+import com.qronis.modules.identity.domain.entity.TenantUser;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.identity.domain.enums.Role;
+import com.qronis.modules.project.application.repositories.ProjectRepository;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import org.springframework.boot.test.context.TestComponent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Dados dos testes de integração gravados pelos repositories: tenant com dono e projeto, membros e
+ * entries. Os e-mails levam um sufixo aleatório, para servir também aos testes que fazem commit.
+ */
+@TestComponent
+public class TrackerFixture {
+
+    private final TenantRepository tenantRepository;
+    private final UserRepository userRepository;
+    private final TenantUserRepository tenantUserRepository;
+    private final ProjectRepository projectRepository;
+    private final TimeEntryRepository timeEntryRepository;
+
+    public TrackerFixture(TenantRepository tenantRepository, UserRepository userRepository,
+            TenantUserRepository tenantUserRepository, ProjectRepository projectRepository,
+            TimeEntryRepository timeEntryRepository) {
+        this.tenantRepository = tenantRepository;
+        this.userRepository = userRepository;
+        this.tenantUserRepository = tenantUserRepository;
+        this.projectRepository = projectRepository;
+        this.timeEntryRepository = timeEntryRepository;
+    }
+
+    /** Tenant com um OWNER ("Tester") e um projeto criado por ele. */
+    public Workspace workspace() {
+        Tenant tenant = tenantRepository.save(new Tenant("Qronis Test"));
+        User owner = member(tenant, "Tester", Role.OWNER);
+        return new Workspace(tenant, owner, project(tenant, owner, "Projeto Test"));
+    }
+
+    public User member(Tenant tenant, String name, Role role) {
+        User user = userRepository.save(new User(
+                name.toLowerCase() + "-" + UUID.randomUUID() + "@email.com", "encoded", name));
+        tenantUserRepository.save(new TenantUser(tenant, user, role));
+        return user;
+    }
+
+    public Project project(Tenant tenant, User createdBy, String name) {
+        return projectRepository.save(new Project(name, tenant, createdBy));
+    }
+
+    /** Grava com flush; {@code end} nulo deixa o timer ativo. */
+    public TimeEntry entry(Project project, User user, Instant start, Instant end) {
+        return entry(project, user, start, end, null);
+    }
+
+    public TimeEntry entry(Project project, User user, Instant start, Instant end, String description) {
+        TimeEntry entry = new TimeEntry();
+        entry.setProject(project);
+        entry.setCreatedBy(user);
+        entry.setStartTime(start);
+        entry.setEndTime(end);
+        entry.setDescription(description);
+        return timeEntryRepository.saveAndFlush(entry);
+    }
+
+    public record Workspace(Tenant tenant, User owner, Project project) {
+
+        public UUID tenantId() {
+            return tenant.getId();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.qronis.repository;
 
+import com.qronis.modules.project.application.ProjectDurationTotal;
+import com.qronis.modules.project.application.ProjectNameMatch;
+import com.qronis.modules.project.api.dto.ProjectResponseDTO;
 import com.qronis.modules.project.domain.entity.Project;
 import com.qronis.modules.project.application.repositories.ProjectRepository;
 import com.qronis.modules.identity.domain.enums.Role;
@@ -9,6 +12,7 @@ import com.qronis.modules.identity.domain.entity.User;
 import com.qronis.modules.identity.application.repositories.TenantRepository;
 import com.qronis.modules.identity.application.repositories.UserRepository;
 import com.qronis.modules.identity.application.repositories.TenantUserRepository;
+import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
 import com.qronis.AbstractIntegrationTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,6 +29,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -42,6 +47,8 @@ class ProjectRepositoryTest extends AbstractIntegrationTest {
     private UserRepository userRepository;
     @Autowired
     private TenantUserRepository tenantUserRepository;
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
 
     private Tenant tenant;
     private User user;
@@ -54,44 +61,79 @@ class ProjectRepositoryTest extends AbstractIntegrationTest {
     }
 
     @Test
-    @DisplayName("findByTenantIdWithCreator paginado: deve retornar todos sem filtro de nome")
-    void findByTenantIdWithCreator_paged_returnsAll() {
+    @DisplayName("findResponsesByTenantId: deve retornar todos sem filtro de nome")
+    void findResponsesByTenantId_returnsAll() {
         projectRepository.save(new Project("Alpha", tenant, user));
         projectRepository.save(new Project("Beta", tenant, user));
 
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Project> result = projectRepository.findByTenantIdWithCreator(tenant.getId(), null, pageable);
+        Page<ProjectResponseDTO> result = projectRepository.findResponsesByTenantId(tenant.getId(), pageable);
 
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getTotalElements()).isEqualTo(2);
-        assertThat(result.getContent().get(0).getCreatedBy().getName()).isEqualTo("Tester");
+        assertThat(result.getContent().get(0).createdByName()).isEqualTo("Tester");
     }
 
     @Test
-    @DisplayName("findByTenantIdWithCreator paginado: deve filtrar por nome parcial case-insensitive")
-    void findByTenantIdWithCreator_paged_filterByName() {
+    @DisplayName("findResponsesByTenantIdAndNameLike: deve filtrar por nome parcial case-insensitive")
+    void findResponsesByTenantIdAndNameLike_filterByName() {
         projectRepository.save(new Project("Alpha", tenant, user));
         projectRepository.save(new Project("Beta", tenant, user));
 
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Project> result = projectRepository.findByTenantIdWithCreator(tenant.getId(), "alph", pageable);
+        Page<ProjectResponseDTO> result = projectRepository.findResponsesByTenantIdAndNameLike(
+                tenant.getId(), "%alph%", pageable);
 
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getName()).isEqualTo("Alpha");
+        assertThat(result.getContent().get(0).name()).isEqualTo("Alpha");
     }
 
     @Test
-    @DisplayName("findByTenantIdWithCreator paginado: deve retornar vazio quando filtro não corresponde")
-    void findByTenantIdWithCreator_paged_filterByName_noMatch() {
+    @DisplayName("findResponsesByTenantIdAndNameLike: deve retornar vazio quando filtro não corresponde")
+    void findResponsesByTenantIdAndNameLike_noMatch() {
         projectRepository.save(new Project("Alpha", tenant, user));
 
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Project> result = projectRepository.findByTenantIdWithCreator(tenant.getId(), "xyz", pageable);
+        Page<ProjectResponseDTO> result = projectRepository.findResponsesByTenantIdAndNameLike(
+                tenant.getId(), "%xyz%", pageable);
 
         assertThat(result.getContent()).isEmpty();
         assertThat(result.getTotalElements()).isZero();
     }
 
+    @Test
+    @DisplayName("findResponsesByTenantId: deve projetar tenant e nome do criador sem carregar entidades")
+    void findResponsesByTenantId_projection() {
+        projectRepository.save(new Project("Alpha", tenant, user));
+        projectRepository.save(new Project("Beta", tenant, user));
+
+        Page<ProjectResponseDTO> result = projectRepository.findResponsesByTenantIdAndNameLike(
+                tenant.getId(), "%alph%", PageRequest.of(0, 20));
+
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().get(0).name()).isEqualTo("Alpha");
+        assertThat(result.getContent().get(0).tenantId()).isEqualTo(tenant.getId());
+        assertThat(result.getContent().get(0).createdByName()).isEqualTo("Tester");
+    }
+
+    @Test
+    @DisplayName("findNameMatchesByTenantId: deve trazer prefixos primeiro e aceitar nomes parecidos")
+    void findNameMatchesByTenantId_ranksPrefixFirst() {
+        projectRepository.save(new Project("Portal Alpha", tenant, user));
+        projectRepository.save(new Project("Alpha Mobile", tenant, user));
+        projectRepository.save(new Project("Backoffice", tenant, user));
+        Tenant other = tenantRepository.save(new Tenant("Outro Tenant"));
+        projectRepository.save(new Project("Alpha Alheio", other, user));
+
+        List<ProjectNameMatch> result = projectRepository.findNameMatchesByTenantId(
+                tenant.getId(), "alpha", "%alpha%", "alpha%", 10);
+        List<ProjectNameMatch> typo = projectRepository.findNameMatchesByTenantId(
+                tenant.getId(), "backofice", "%backofice%", "backofice%", 10);
+
+        assertThat(result).extracting(ProjectNameMatch::getName).containsExactly("Alpha Mobile", "Portal Alpha");
+        assertThat(typo).extracting(ProjectNameMatch::getName).containsExactly("Backoffice");
+    }
+
     @Test
     @DisplayName("findByTenantIdWithCreator: deve retornar projetos do tenant com criador carregado")
     void findByTenantIdWithCreator_success() {
@@ -137,4 +179,31 @@ class ProjectRepositoryTest extends AbstractIntegrationTest {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("sumDurationSecondsByTenantIdAndIdIn: deve somar o rollup e zerar projetos sem lançamentos")
+    void sumDurationSecondsByTenantIdAndIdIn_groupsAndFillsZero() {
+        Project alpha = projectRepository.save(new Project("Alpha", tenant, user));
+        Project beta = projectRepository.save(new Project("Beta", tenant, user));
+        Tenant otherTenant = tenantRepository.save(new Tenant("Outro"));
+        Project foreign = projectRepository.save(new Project("Gamma", otherTenant, user));
+
+        timeEntryRepository.addToDailyRollup(tenant.getId(), alpha.getId(), user.getId(),
+                LocalDate.parse("2026-01-10"), 3_600_000L);
+        timeEntryRepository.addToDailyRollup(tenant.getId(), alpha.getId(), user.getId(),
+                LocalDate.parse("2026-01-11"), 1_800_000L);
+
+        List<ProjectDurationTotal> result = projectRepository.sumDurationSecondsByTenantIdAndIdIn(
+                tenant.getId(), user.getId(), List.of(alpha.getId(), beta.getId(), foreign.getId()));
+
+        assertThat(result).hasSize(2);
+        assertThat(result).filteredOn(total -> total.getProjectId().equals(alpha.getId()))
+                .singleElement()
+                .extracting(ProjectDurationTotal::getTotalDurationSeconds)
+                .isEqualTo(5400L);
+        assertThat(result).filteredOn(total -> total.getProjectId().equals(beta.getId()))
+                .singleElement()
+                .extracting(ProjectDurationTotal::getTotalDurationSeconds)
+                .isEqualTo(0L);
+    }
 }
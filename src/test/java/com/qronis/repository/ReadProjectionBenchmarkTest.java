@@ -0,0 +1,222 @@
+package com.qronis.repository;
+
+import com.qronis.modules.identity.application.repositories.TenantRepository;
+import com.qronis.modules.identity.application.repositories.TenantUserRepository;
+import com.qronis.modules.identity.application.repositories.UserRepository;
+import com.qronis.modules.identity.domain.entity.Tenant;
+import com.qronis.modules.identity.domain.entity.TenantUser;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.identity.domain.enums.Role;
+import com.qronis.modules.project.api.dto.ProjectResponseDTO;
+import com.qronis.modules.project.application.ProjectMapper;
+import com.qronis.modules.project.application.repositories.ProjectRepository;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.application.TimeEntryMapper;
+import com.qronis.modules.tracker.application.TimeEntryRange;
+import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.AbstractIntegrationTest;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara o caminho de leitura antigo (entidades com JOIN FETCH + MapStruct, em JPQL aqui no
+ * teste, já que os repositories só expõem as projeções) com as projeções em DTO. Fora do
+ * {@code test} padrão: rode com {@code ./gradlew benchmark}.
+ *
+ * Mede latência mediana e bytes alocados por operação na thread do teste. O persistence context
+ * é limpo após cada iteração, fora da medição, para que as duas variantes partam do mesmo estado.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ReadProjectionBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final int ENTRIES = 5_000;
+    private static final int PROJECTS = 50;
+    private static final int WARMUP = 100;
+    private static final int ITERATIONS = 300;
+    private static final Pageable PAGE = PageRequest.of(0, 100);
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TenantUserRepository tenantUserRepository;
+
+    @Autowired
+    private TimeEntryMapper timeEntryMapper;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Tenant tenant;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tenant = tenantRepository.save(new Tenant("Qronis Bench"));
+        user = userRepository.save(new User("bench@email.com", "encoded", "Bench"));
+        tenantUserRepository.save(new TenantUser(tenant, user, Role.OWNER));
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(projectRepository.save(new Project("Projeto " + i, tenant, user)));
+        }
+        entityManager.flush();
+
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        List<Object[]> rows = new ArrayList<>(ENTRIES);
+        for (int i = 0; i < ENTRIES; i++) {
+            Instant start = now.minus(i + 1L, ChronoUnit.HOURS);
+            rows.add(new Object[] {
+                    "Entry " + i, Timestamp.from(start), Timestamp.from(start.plus(45, ChronoUnit.MINUTES)),
+                    projects.get(i % PROJECTS).getId(), user.getId() });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO time_entry (description, start_time, end_time, project_id, created_by)
+                VALUES (?, ?, ?, ?, ?)
+                """, rows);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("benchmark: histórico paginado, entidades vs projeção")
+    void history_entitiesVsProjection() {
+        TimeEntryRange range = TimeEntryRange.UNBOUNDED;
+
+        Supplier<List<TimeEntryResponseDTO>> entities = () -> timeEntryMapper.toResponseList(entityManager
+                .createQuery("""
+                        SELECT te FROM TimeEntry te JOIN FETCH te.project
+                        WHERE te.createdBy.id = :userId AND te.startTime >= :from AND te.startTime < :to
+                        ORDER BY te.startTime DESC
+                        """, TimeEntry.class)
+                .setParameter("userId", user.getId())
+                .setParameter("from", range.from())
+                .setParameter("to", range.to())
+                .setMaxResults(PAGE.getPageSize())
+                .getResultList());
+        Supplier<List<TimeEntryResponseDTO>> projection = () -> timeEntryRepository
+                .findResponsesByUserId(user.getId(), range.from(), range.to(), PAGE)
+                .getContent();
+
+        assertThat(projection.get()).isEqualTo(entities.get());
+        report("histórico (100 entries)", measure(entities), measure(projection));
+    }
+
+    @Test
+    @DisplayName("benchmark: entries de um projeto, entidades vs projeção")
+    void projectEntries_entitiesVsProjection() {
+        UUID projectId = projectRepository.findByTenantIdWithCreator(tenant.getId()).getFirst().getId();
+        entityManager.clear();
+
+        Supplier<List<TimeEntryResponseDTO>> entities = () -> timeEntryMapper.toResponseList(entityManager
+                .createQuery("""
+                        SELECT te FROM TimeEntry te JOIN FETCH te.project JOIN FETCH te.createdBy
+                        WHERE te.project.id = :projectId ORDER BY te.startTime DESC
+                        """, TimeEntry.class)
+                .setParameter("projectId", projectId)
+                .getResultList());
+        Supplier<List<TimeEntryResponseDTO>> projection = () -> timeEntryRepository
+                .findResponsesByProjectId(projectId);
+
+        assertThat(projection.get()).isEqualTo(entities.get());
+        report("entries do projeto (" + ENTRIES / PROJECTS + ")", measure(entities), measure(projection));
+    }
+
+    @Test
+    @DisplayName("benchmark: listagem de projetos, entidades vs projeção")
+    void projects_entitiesVsProjection() {
+        Supplier<List<ProjectResponseDTO>> entities = () -> entityManager
+                .createQuery("""
+                        SELECT p FROM Project p JOIN FETCH p.createdBy
+                        WHERE p.tenant.id = :tenantId AND p.deletingAt IS NULL
+                        """, Project.class)
+                .setParameter("tenantId", tenant.getId())
+                .setMaxResults(PAGE.getPageSize())
+                .getResultStream()
+                .map(projectMapper::toResponse)
+                .toList();
+        Supplier<List<ProjectResponseDTO>> projection = () -> projectRepository
+                .findResponsesByTenantId(tenant.getId(), PAGE)
+                .getContent();
+
+        assertThat(projection.get()).containsExactlyInAnyOrderElementsOf(entities.get());
+        report("projetos (" + PROJECTS + ")", measure(entities), measure(projection));
+    }
+
+    private Sample measure(Supplier<?> operation) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            operation.get();
+            entityManager.clear();
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        long allocated = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            operation.get();
+            nanos[i] = System.nanoTime() - start;
+            allocated += threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+            entityManager.clear();
+        }
+        Arrays.sort(nanos);
+        return new Sample(nanos[ITERATIONS / 2], nanos[ITERATIONS * 99 / 100], allocated / ITERATIONS);
+    }
+
+    private static void report(String name, Sample entities, Sample projection) {
+        System.out.printf("%n[benchmark] %s%n", name);
+        System.out.printf("  entidades: p50 %,d µs | p99 %,d µs | %,d bytes/op%n",
+                entities.p50Nanos() / 1_000, entities.p99Nanos() / 1_000, entities.bytesPerOp());
+        System.out.printf("  projeção:  p50 %,d µs | p99 %,d µs | %,d bytes/op%n",
+                projection.p50Nanos() / 1_000, projection.p99Nanos() / 1_000, projection.bytesPerOp());
+    }
+
+    private record Sample(long p50Nanos, long p99Nanos, long bytesPerOp) {
+    }
+}
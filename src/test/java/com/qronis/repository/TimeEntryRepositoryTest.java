@@ -1,64 +1,65 @@
 package com.qronis.repository;
 
 import com.qronis.modules.project.domain.entity.Project;
-import com.qronis.modules.project.application.repositories.ProjectRepository;
-import com.qronis.modules.identity.domain.enums.Role;
-import com.qronis.modules.identity.domain.entity.Tenant;
-import com.qronis.modules.identity.domain.entity.TenantUser;
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.application.ActiveTimer;
+import com.qronis.modules.tracker.application.TimeEntryCursor;
+import com.qronis.modules.tracker.application.TimeEntryRange;
 import com.qronis.modules.tracker.domain.entity.TimeEntry;
 import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
 import com.qronis.modules.identity.domain.entity.User;
-import com.qronis.modules.identity.application.repositories.TenantRepository;
-import com.qronis.modules.identity.application.repositories.UserRepository;
-import com.qronis.modules.identity.application.repositories.TenantUserRepository;
+import com.qronis.shared.web.ScopeVersion;
 import com.qronis.AbstractIntegrationTest;
+import com.qronis.TrackerFixture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @SpringBootTest
 @ActiveProfiles("test")
 @Transactional
+@Import(TrackerFixture.class)
 class TimeEntryRepositoryTest extends AbstractIntegrationTest {
 
     @Autowired
-    private TimeEntryRepository timeEntryRepository;
-
-    @Autowired
-    private TenantRepository tenantRepository;
-
-    @Autowired
-    private UserRepository userRepository;
+    private TrackerFixture fixture;
 
     @Autowired
-    private TenantUserRepository tenantUserRepository;
+    private TimeEntryRepository timeEntryRepository;
 
     @Autowired
-    private ProjectRepository projectRepository;
+    private JdbcTemplate jdbcTemplate;
 
     private User user;
     private Project project;
 
     @BeforeEach
     void setUp() {
-        Tenant tenant = tenantRepository.save(new Tenant("Qronis Test"));
-        user = userRepository.save(new User("test@email.com", "encoded", "Tester"));
-        tenantUserRepository.save(new TenantUser(tenant, user, Role.OWNER));
-        project = projectRepository.save(new Project("Projeto Test", tenant, user));
+        TrackerFixture.Workspace workspace = fixture.workspace();
+        user = workspace.owner();
+        project = workspace.project();
     }
 
     @Test
@@ -93,8 +94,35 @@ class TimeEntryRepositoryTest extends AbstractIntegrationTest {
     }
 
     @Test
-    @DisplayName("findByUserIdWithProject: deve retornar histórico ordenado por startTime desc")
-    void findByUserIdWithProject_ordered() {
+    @DisplayName("findAllActive: deve projetar apenas timers abertos com dados do projeto")
+    void findAllActive_projection() {
+        TimeEntry active = new TimeEntry();
+        active.setProject(project);
+        active.setCreatedBy(user);
+        active.setStartTime(Instant.now());
+        active.setDescription("Em andamento");
+        timeEntryRepository.save(active);
+
+        TimeEntry closed = new TimeEntry();
+        closed.setProject(project);
+        closed.setCreatedBy(user);
+        closed.setStartTime(Instant.now().minus(2, ChronoUnit.HOURS));
+        closed.setEndTime(Instant.now().minus(1, ChronoUnit.HOURS));
+        timeEntryRepository.save(closed);
+
+        List<ActiveTimer> result = timeEntryRepository.findAllActive().stream()
+                .filter(timer -> timer.userId().equals(user.getId()))
+                .toList();
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).id()).isEqualTo(active.getId());
+        assertThat(result.get(0).projectName()).isEqualTo("Projeto Test");
+        assertThat(result.get(0).tenantId()).isEqualTo(project.getTenant().getId());
+    }
+
+    @Test
+    @DisplayName("findResponsesByUserId: deve retornar histórico ordenado por startTime desc")
+    void findResponsesByUserId_ordered() {
         Instant now = Instant.now();
 
         TimeEntry older = new TimeEntry();
@@ -111,9 +139,214 @@ class TimeEntryRepositoryTest extends AbstractIntegrationTest {
         newer.setEndTime(now.minus(1, ChronoUnit.HOURS));
         timeEntryRepository.save(newer);
 
-        Page<TimeEntry> result = timeEntryRepository.findByUserIdWithProject(user.getId(), PageRequest.of(0, 10));
+        Page<TimeEntryResponseDTO> result = timeEntryRepository.findResponsesByUserId(
+                user.getId(), TimeEntryRange.UNBOUNDED.from(), TimeEntryRange.UNBOUNDED.to(), PageRequest.of(0, 10));
 
         assertThat(result.getContent()).hasSize(2);
-        assertThat(result.getContent().get(0).getStartTime()).isAfter(result.getContent().get(1).getStartTime());
+        assertThat(result.getContent().get(0).startTime()).isAfter(result.getContent().get(1).startTime());
+    }
+
+    @Test
+    @DisplayName("findResponsesByUserId: deve filtrar por janela [from, to) de startTime")
+    void findResponsesByUserId_range() {
+        Instant weekStart = Instant.parse("2026-03-02T00:00:00Z");
+        for (Instant start : List.of(weekStart.minus(1, ChronoUnit.HOURS), weekStart,
+                weekStart.plus(3, ChronoUnit.DAYS), weekStart.plus(7, ChronoUnit.DAYS))) {
+            TimeEntry entry = new TimeEntry();
+            entry.setProject(project);
+            entry.setCreatedBy(user);
+            entry.setStartTime(start);
+            entry.setEndTime(start.plus(30, ChronoUnit.MINUTES));
+            timeEntryRepository.save(entry);
+        }
+
+        Page<TimeEntryResponseDTO> result = timeEntryRepository.findResponsesByUserId(
+                user.getId(), weekStart, weekStart.plus(7, ChronoUnit.DAYS), PageRequest.of(0, 10));
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(TimeEntryResponseDTO::startTime)
+                .containsExactly(weekStart.plus(3, ChronoUnit.DAYS), weekStart);
+    }
+
+    @Test
+    @DisplayName("findResponsesByUserIdAfterCursor: deve projetar direto no DTO e paginar por (startTime, id)")
+    void findResponsesByUserIdAfterCursor_projection() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        for (int i = 1; i <= 3; i++) {
+            TimeEntry entry = new TimeEntry();
+            entry.setProject(project);
+            entry.setCreatedBy(user);
+            entry.setStartTime(now.minus(i, ChronoUnit.HOURS));
+            entry.setEndTime(now.minus(i, ChronoUnit.HOURS).plus(30, ChronoUnit.MINUTES));
+            entry.setDescription("Entry " + i);
+            timeEntryRepository.save(entry);
+        }
+
+        TimeEntryCursor first = TimeEntryCursor.FIRST;
+        Slice<TimeEntryResponseDTO> page1 = timeEntryRepository.findResponsesByUserIdAfterCursor(
+                user.getId(), first.startTime(), first.id(),
+                TimeEntryRange.UNBOUNDED.from(), TimeEntryRange.UNBOUNDED.to(), PageRequest.of(0, 2));
+
+        assertThat(page1.getContent()).extracting(TimeEntryResponseDTO::description)
+                .containsExactly("Entry 1", "Entry 2");
+        assertThat(page1.getContent().get(0).projectName()).isEqualTo("Projeto Test");
+        assertThat(page1.getContent().get(0).projectId()).isEqualTo(project.getId());
+
+        TimeEntryCursor next = TimeEntryCursor.after(page1.getContent().get(1));
+        Slice<TimeEntryResponseDTO> page2 = timeEntryRepository.findResponsesByUserIdAfterCursor(
+                user.getId(), next.startTime(), next.id(),
+                TimeEntryRange.UNBOUNDED.from(), TimeEntryRange.UNBOUNDED.to(), PageRequest.of(0, 2));
+
+        assertThat(page2.getContent()).extracting(TimeEntryResponseDTO::description).containsExactly("Entry 3");
+        assertThat(page2.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("findVersionByUserId: deve mudar com alteração e exclusão de entries")
+    void findVersionByUserId_changesOnWrite() {
+        TimeEntryRange range = TimeEntryRange.UNBOUNDED;
+        TimeEntry entry = new TimeEntry();
+        entry.setProject(project);
+        entry.setCreatedBy(user);
+        entry.setStartTime(Instant.now().minus(2, ChronoUnit.HOURS));
+        entry.setEndTime(Instant.now().minus(1, ChronoUnit.HOURS));
+        timeEntryRepository.saveAndFlush(entry);
+
+        ScopeVersion created = timeEntryRepository.findVersionByUserId(user.getId(), range.from(), range.to());
+        assertThat(created.count()).isEqualTo(1);
+
+        entry.setDescription("Alterada");
+        timeEntryRepository.saveAndFlush(entry);
+        ScopeVersion updated = timeEntryRepository.findVersionByUserId(user.getId(), range.from(), range.to());
+        assertThat(updated.lastUpdatedAt()).isAfter(created.lastUpdatedAt());
+
+        timeEntryRepository.delete(entry);
+        timeEntryRepository.flush();
+        ScopeVersion deleted = timeEntryRepository.findVersionByUserId(user.getId(), range.from(), range.to());
+        assertThat(deleted.count()).isZero();
+        assertThat(deleted.lastUpdatedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("findVersionByUserIdAndProjectId: não deve mudar com escrita em outro projeto")
+    void findVersionByUserIdAndProjectId_scopedToProject() {
+        TimeEntryRange range = TimeEntryRange.UNBOUNDED;
+        Project other = fixture.project(project.getTenant(), user, "Outro Projeto");
+        fixture.entry(project, user, Instant.parse("2026-03-02T09:00:00Z"), Instant.parse("2026-03-02T10:00:00Z"));
+
+        ScopeVersion before = timeEntryRepository.findVersionByUserIdAndProjectId(
+                user.getId(), other.getId(), range.from(), range.to());
+        assertThat(before.count()).isZero();
+
+        TimeEntry entry = new TimeEntry();
+        entry.setProject(other);
+        entry.setCreatedBy(user);
+        entry.setStartTime(Instant.parse("2026-03-03T09:00:00Z"));
+        entry.setEndTime(Instant.parse("2026-03-03T10:00:00Z"));
+        timeEntryRepository.saveAndFlush(entry);
+
+        assertThat(timeEntryRepository.findVersionByUserIdAndProjectId(
+                user.getId(), other.getId(), range.from(), range.to()).count()).isEqualTo(1);
+        assertThat(timeEntryRepository.findVersionByUserIdAndProjectId(
+                user.getId(), project.getId(), range.from(), range.to()).count()).isEqualTo(1);
+        assertThat(timeEntryRepository.findVersionByUserId(user.getId(), range.from(), range.to()).count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("rollup: rebuild deve dividir na meia-noite UTC e bater com os upserts incrementais")
+    void dailyRollup_rebuildMatchesIncremental() {
+        UUID tenantId = project.getTenant().getId();
+
+        TimeEntry entry = new TimeEntry();
+        entry.setProject(project);
+        entry.setCreatedBy(user);
+        entry.setStartTime(Instant.parse("2026-01-10T23:30:00Z"));
+        entry.setEndTime(Instant.parse("2026-01-11T01:00:00Z"));
+        timeEntryRepository.saveAndFlush(entry);
+
+        timeEntryRepository.addToDailyRollup(tenantId, project.getId(), user.getId(),
+                LocalDate.parse("2026-01-10"), 30 * 60 * 1000L);
+        timeEntryRepository.addToDailyRollup(tenantId, project.getId(), user.getId(),
+                LocalDate.parse("2026-01-11"), 60 * 60 * 1000L);
+
+        Long incremental = timeEntryRepository.sumDurationSecondsByTenantIdAndProjectIdAndUserId(
+                tenantId, project.getId(), user.getId());
+
+        timeEntryRepository.deleteDailyRollupByTenantId(tenantId);
+        int rows = timeEntryRepository.insertDailyRollupByTenantId(tenantId);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(incremental).isEqualTo(90 * 60L);
+        assertThat(timeEntryRepository.sumDurationSecondsByTenantIdAndProjectIdAndUserId(
+                tenantId, project.getId(), user.getId())).isEqualTo(incremental);
+    }
+
+    @Test
+    @DisplayName("time_entry_active: deve rejeitar segundo timer ativo do mesmo usuário na tabela particionada")
+    void activeTimer_uniquePerUser() {
+        TimeEntry first = new TimeEntry();
+        first.setProject(project);
+        first.setCreatedBy(user);
+        first.setStartTime(Instant.now().minus(1, ChronoUnit.HOURS));
+        timeEntryRepository.saveAndFlush(first);
+
+        TimeEntry second = new TimeEntry();
+        second.setProject(project);
+        second.setCreatedBy(user);
+        second.setStartTime(Instant.now());
+
+        assertThatThrownBy(() -> timeEntryRepository.saveAndFlush(second))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("time_entry_active: deve liberar o usuário quando o timer é encerrado")
+    void activeTimer_releasedOnStop() {
+        TimeEntry first = new TimeEntry();
+        first.setProject(project);
+        first.setCreatedBy(user);
+        first.setStartTime(Instant.now().minus(1, ChronoUnit.HOURS));
+        timeEntryRepository.saveAndFlush(first);
+
+        first.setEndTime(Instant.now());
+        timeEntryRepository.saveAndFlush(first);
+
+        TimeEntry second = new TimeEntry();
+        second.setProject(project);
+        second.setCreatedBy(user);
+        second.setStartTime(Instant.now());
+        timeEntryRepository.saveAndFlush(second);
+
+        assertThat(timeEntryRepository.findActiveByUserId(user.getId()))
+                .get()
+                .extracting(TimeEntry::getId)
+                .isEqualTo(second.getId());
+    }
+
+    @Test
+    @DisplayName("stopActiveByUserId: deve encerrar o timer em um statement e devolver o projeto")
+    void stopActiveByUserId_stopsAndReturnsProject() {
+        TimeEntry active = new TimeEntry();
+        active.setProject(project);
+        active.setCreatedBy(user);
+        active.setStartTime(Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MICROS));
+        active.setDescription("Em andamento");
+        timeEntryRepository.saveAndFlush(active);
+
+        Instant end = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Optional<TimeEntry> stopped = timeEntryRepository.stopActiveByUserId(user.getId(), end);
+
+        assertThat(stopped).get().satisfies(entry -> {
+            assertThat(entry.getId()).isEqualTo(active.getId());
+            assertThat(entry.getEndTime()).isEqualTo(end);
+            assertThat(entry.getDescription()).isEqualTo("Em andamento");
+            assertThat(entry.getProject().getName()).isEqualTo(project.getName());
+            assertThat(entry.getProject().getTenant().getId()).isEqualTo(project.getTenant().getId());
+        });
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM time_entry_active WHERE user_id = ?", Integer.class, user.getId()))
+                .isZero();
+        assertThat(timeEntryRepository.stopActiveByUserId(user.getId(), end)).isEmpty();
     }
 }
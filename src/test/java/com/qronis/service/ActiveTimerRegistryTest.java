@@ -0,0 +1,87 @@
+package com.qronis.service;
+
+import com.qronis.modules.tracker.application.ActiveTimer;
+import com.qronis.modules.tracker.application.ActiveTimerRegistry;
+import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveTimerRegistryTest {
+
+    @Mock
+    private TimeEntryRepository timeEntryRepository;
+
+    @InjectMocks
+    private ActiveTimerRegistry activeTimerRegistry;
+
+    private UUID userId;
+    private UUID projectId;
+    private ActiveTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+        timer = new ActiveTimer(UUID.randomUUID(), userId, UUID.randomUUID(), projectId,
+                "Projeto Alpha", "Feature X", Instant.now(), Instant.now());
+    }
+
+    @Test
+    @DisplayName("warmUp: deve carregar os timers ativos do banco")
+    void warmUp_loadsActiveTimers() {
+        when(timeEntryRepository.findAllActive()).thenReturn(List.of(timer));
+
+        activeTimerRegistry.warmUp();
+
+        assertThat(activeTimerRegistry.find(userId)).contains(timer);
+    }
+
+    @Test
+    @DisplayName("unregister: deve ignorar entry diferente da registrada")
+    void unregister_otherEntry() {
+        activeTimerRegistry.register(timer);
+
+        activeTimerRegistry.unregister(userId, UUID.randomUUID());
+        assertThat(activeTimerRegistry.find(userId)).isPresent();
+
+        activeTimerRegistry.unregister(userId, timer.id());
+        assertThat(activeTimerRegistry.find(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("renameProject: deve atualizar o nome do projeto nos timers ativos")
+    void renameProject_updatesSnapshot() {
+        activeTimerRegistry.register(timer);
+
+        activeTimerRegistry.renameProject(projectId, "Projeto Beta");
+
+        assertThat(activeTimerRegistry.find(userId))
+                .get()
+                .extracting(ActiveTimer::projectName)
+                .isEqualTo("Projeto Beta");
+    }
+
+    @Test
+    @DisplayName("unregisterByProjectId: deve remover timers do projeto excluído")
+    void unregisterByProjectId_removesTimers() {
+        activeTimerRegistry.register(timer);
+
+        activeTimerRegistry.unregisterByProjectId(projectId);
+
+        assertThat(activeTimerRegistry.find(userId)).isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package com.qronis.service;
+
+import com.qronis.shared.cache.BoundedCache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("computeIfAbsent: acima do limite deve despejar a chave de acesso mais antigo")
+    void computeIfAbsent_evictsLeastRecentlyUsed() {
+        List<String> evicted = new ArrayList<>();
+        BoundedCache<String, String> cache = BoundedCache.strongValues(2, (key, value) -> evicted.add(key));
+
+        cache.computeIfAbsent("a", key -> "A");
+        cache.computeIfAbsent("b", key -> "B");
+        cache.get("a");
+        cache.computeIfAbsent("c", key -> "C");
+
+        assertThat(evicted).containsExactly("b");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("b")).isNull();
+    }
+
+    @Test
+    @DisplayName("putIfAbsent: deve manter o valor vivo e trocar só o que o predicado aceita")
+    void putIfAbsent_replacesOnlyReplaceable() {
+        BoundedCache<String, String> cache = BoundedCache.softValues(4);
+
+        String first = cache.putIfAbsent("a", "v1", current -> false);
+        String kept = cache.putIfAbsent("a", "v2", current -> false);
+        String replaced = cache.putIfAbsent("a", "v3", current -> current.equals("v1"));
+
+        assertThat(first).isEqualTo("v1");
+        assertThat(kept).isEqualTo("v1");
+        assertThat(replaced).isEqualTo("v3");
+        assertThat(cache.get("a")).isEqualTo("v3");
+    }
+
+    @Test
+    @DisplayName("remove(key, value): deve remover só se a chave ainda aponta para a mesma instância")
+    void removeKeyValue_comparesIdentity() {
+        BoundedCache<String, String> cache = BoundedCache.softValues(4);
+        String value = new String("v");
+        cache.putIfAbsent("a", value, current -> false);
+
+        boolean other = cache.remove("a", new String("v"));
+        boolean same = cache.remove("a", value);
+
+        assertThat(other).isFalse();
+        assertThat(same).isTrue();
+        assertThat(cache.get("a")).isNull();
+    }
+}
@@ -0,0 +1,139 @@
+package com.qronis.service;
+
+import com.qronis.modules.identity.domain.entity.Tenant;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.api.dto.TimeEntrySuggestionDTO;
+import com.qronis.modules.tracker.application.DescriptionSuggestionCache;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DescriptionSuggestionCacheTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private DescriptionSuggestionCache suggestionCache;
+
+    private UUID tenantId;
+    private UUID userId;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+
+        Tenant tenant = new Tenant("Qronis");
+        tenant.setId(tenantId);
+
+        User user = new User();
+        user.setId(userId);
+
+        project = new Project("Projeto Alpha", tenant, user);
+        project.setId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("suggest: deve aquecer uma vez e filtrar por início de palavra e tenant")
+    void suggest_warmsOnceAndFilters() throws SQLException {
+        UUID otherTenantId = UUID.randomUUID();
+        UUID otherProjectId = UUID.randomUUID();
+        stubRecent(
+                row(tenantId, project.getId(), "Corrigir bug do login"),
+                row(otherTenantId, otherProjectId, "Bug em outro tenant"),
+                row(tenantId, project.getId(), "Reunião de planejamento"));
+
+        List<TimeEntrySuggestionDTO> first = suggestionCache.suggest(userId, tenantId, "BU", 10);
+        List<TimeEntrySuggestionDTO> second = suggestionCache.suggest(userId, tenantId, "", 10);
+
+        assertThat(first).containsExactly(new TimeEntrySuggestionDTO("Corrigir bug do login", project.getId()));
+        assertThat(second).extracting(TimeEntrySuggestionDTO::description)
+                .containsExactly("Corrigir bug do login", "Reunião de planejamento");
+        verify(jdbcTemplate, times(1)).query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    @DisplayName("record: deve mover o par usado para o topo sem consultar o banco")
+    void record_movesToTop() throws SQLException {
+        stubRecent(
+                row(tenantId, project.getId(), "Corrigir bug do login"),
+                row(tenantId, project.getId(), "Reunião de planejamento"));
+        suggestionCache.suggest(userId, tenantId, "", 10);
+
+        suggestionCache.record(entry("Reunião de planejamento"));
+        suggestionCache.record(entry("Code review"));
+
+        assertThat(suggestionCache.suggest(userId, tenantId, "", 10))
+                .extracting(TimeEntrySuggestionDTO::description)
+                .containsExactly("Code review", "Reunião de planejamento", "Corrigir bug do login");
+        verify(jdbcTemplate, times(1)).query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    @DisplayName("record: deve ignorar usuário que ainda não está no cache")
+    void record_userNotCached() {
+        suggestionCache.record(entry("Code review"));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRecent(ResultSet... rows) {
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(inv -> {
+                    RowMapper<Object> mapper = inv.getArgument(2);
+                    List<Object> result = new ArrayList<>();
+                    for (int i = 0; i < rows.length; i++) {
+                        result.add(mapper.mapRow(rows[i], i));
+                    }
+                    return result;
+                });
+    }
+
+    private static ResultSet row(UUID tenantId, UUID projectId, String description) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject("tenant_id", UUID.class)).thenReturn(tenantId);
+        when(rs.getObject("project_id", UUID.class)).thenReturn(projectId);
+        when(rs.getString("description")).thenReturn(description);
+        return rs;
+    }
+
+    private TimeEntry entry(String description) {
+        User user = new User();
+        user.setId(userId);
+
+        TimeEntry entry = new TimeEntry();
+        entry.setProject(project);
+        entry.setCreatedBy(user);
+        entry.setDescription(description);
+        return entry;
+    }
+}
@@ -0,0 +1,205 @@
+package com.qronis.service;
+
+import com.qronis.AbstractIntegrationTest;
+import com.qronis.TrackerFixture;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.project.api.dto.ProjectDeletionResponseDTO;
+import com.qronis.modules.project.application.ProjectDeletionService;
+import com.qronis.modules.project.application.ProjectService;
+import com.qronis.modules.project.application.repositories.ProjectRepository;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.project.domain.enums.ProjectDeletionStatus;
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.application.TimeEntryCursor;
+import com.qronis.modules.tracker.application.TimeEntryRange;
+import com.qronis.modules.tracker.application.TimeEntryService;
+import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TrackerFixture.class)
+class ProjectDeletionServiceIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TrackerFixture fixture;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectDeletionService deletionService;
+
+    @Autowired
+    private TimeEntryService timeEntryService;
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TrackerFixture.Workspace workspace;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        workspace = fixture.workspace();
+        user = workspace.owner();
+        project = workspace.project();
+    }
+
+    @Test
+    @DisplayName("exclusão de projeto: deve esconder na hora e apagar as entries em lotes depois")
+    void projectDeletion_hidesThenPurges() {
+        UUID tenantId = workspace.tenantId();
+        entry("2026-02-02T09:00:00Z", "2026-02-02T10:00:00Z");
+        entry("2026-02-03T09:00:00Z", "2026-02-03T11:00:00Z");
+        TimeEntry running = fixture.entry(project, user, Instant.now(), null);
+
+        ProjectDeletionResponseDTO started = projectService.delete(project.getId(), tenantId);
+        projectRepository.flush();
+
+        Integer runningLeft = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM time_entry WHERE id = ?", Integer.class, running.getId());
+        assertThat(started.status()).isEqualTo(ProjectDeletionStatus.IN_PROGRESS);
+        assertThat(started.totalEntries()).isEqualTo(2);
+        assertThat(runningLeft).isZero();
+        assertThat(projectRepository.findByTenantIdWithCreator(tenantId)).isEmpty();
+        assertThat(projectRepository.existsByIdAndTenantId(project.getId(), tenantId)).isFalse();
+
+        long purged = deletionService.purge(Instant.now());
+
+        ProjectDeletionResponseDTO done = deletionService.findStatus(project.getId(), tenantId).orElseThrow();
+        assertThat(purged).isEqualTo(2);
+        assertThat(done.status()).isEqualTo(ProjectDeletionStatus.DONE);
+        assertThat(done.deletedEntries()).isEqualTo(2);
+        assertThat(entriesLeft(project)).isZero();
+        assertThat(projectExists(project)).isFalse();
+    }
+
+    @Test
+    @DisplayName("exclusão de projeto: o histórico deve deixar de listar as entries antes do purge")
+    void projectDeletion_hidesHistory() {
+        UUID tenantId = workspace.tenantId();
+        TimeEntry entry = entry("2026-02-02T09:00:00Z", "2026-02-02T10:00:00Z");
+        TimeEntryRange range = TimeEntryRange.UNBOUNDED;
+
+        projectService.delete(project.getId(), tenantId);
+        projectRepository.flush();
+
+        Page<TimeEntryResponseDTO> history = timeEntryService.findByUserIdAndOptionalProjectId(
+                user.getId(), null, range, PageRequest.of(0, 10));
+        Slice<TimeEntryResponseDTO> keyset = timeEntryService.findByUserIdAfterCursor(
+                user.getId(), null, range, TimeEntryCursor.FIRST, 10);
+        Page<TimeEntryResponseDTO> byProject = timeEntryRepository.findResponsesByUserIdAndProjectId(
+                user.getId(), project.getId(), range.from(), range.to(), PageRequest.of(0, 10));
+        Slice<TimeEntryResponseDTO> byProjectKeyset = timeEntryRepository.findResponsesByUserIdAndProjectIdAfterCursor(
+                user.getId(), project.getId(), TimeEntryCursor.FIRST.startTime(), TimeEntryCursor.FIRST.id(),
+                range.from(), range.to(), PageRequest.of(0, 10));
+
+        assertThat(timeEntryRepository.existsById(entry.getId())).isTrue();
+        assertThat(history.getContent()).isEmpty();
+        assertThat(history.getTotalElements()).isZero();
+        assertThat(keyset.getContent()).isEmpty();
+        assertThat(byProject.getContent()).isEmpty();
+        assertThat(byProject.getTotalElements()).isZero();
+        assertThat(byProjectKeyset.getContent()).isEmpty();
+        assertThat(timeEntryRepository.findVersionByUserId(user.getId(), range.from(), range.to()).count()).isZero();
+    }
+
+    // Sem a transação do teste: o lock precisa vir de outra conexão, sobre dados já confirmados
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("exclusão de projeto: um lote vazio por linhas travadas não deve remover o projeto")
+    void projectDeletion_lockedRowDefersProject() throws SQLException {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        TrackerFixture.Workspace committed = tx.execute(status -> fixture.workspace());
+        Project target = committed.project();
+        UUID tenantId = committed.tenantId();
+        try {
+            TimeEntry locked = tx.execute(status -> fixture.entry(target, committed.owner(),
+                    Instant.parse("2026-02-02T09:00:00Z"), Instant.parse("2026-02-02T10:00:00Z")));
+            tx.execute(status -> fixture.entry(target, committed.owner(),
+                    Instant.parse("2026-02-03T09:00:00Z"), Instant.parse("2026-02-03T10:00:00Z")));
+            tx.execute(status -> projectService.delete(target.getId(), tenantId));
+
+            try (Connection writer = dataSource.getConnection()) {
+                writer.setAutoCommit(false);
+                try (PreparedStatement lock = writer.prepareStatement(
+                        "SELECT id FROM time_entry WHERE id = ? FOR UPDATE")) {
+                    lock.setObject(1, locked.getId());
+                    lock.executeQuery().close();
+                }
+
+                deletionService.purge(Instant.now());
+
+                assertThat(entriesLeft(target)).isEqualTo(1);
+                assertThat(projectExists(target)).isTrue();
+                assertThat(deletionService.findStatus(target.getId(), tenantId).orElseThrow().status())
+                        .isEqualTo(ProjectDeletionStatus.IN_PROGRESS);
+                writer.rollback();
+            }
+
+            deletionService.purge(Instant.now());
+
+            assertThat(entriesLeft(target)).isZero();
+            assertThat(projectExists(target)).isFalse();
+            assertThat(deletionService.findStatus(target.getId(), tenantId).orElseThrow().status())
+                    .isEqualTo(ProjectDeletionStatus.DONE);
+        } finally {
+            jdbcTemplate.update("DELETE FROM tenant WHERE id = ?", tenantId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", committed.owner().getId());
+        }
+    }
+
+    private TimeEntry entry(String start, String end) {
+        return fixture.entry(project, user, Instant.parse(start), Instant.parse(end));
+    }
+
+    private Integer entriesLeft(Project target) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM time_entry WHERE project_id = ?", Integer.class, target.getId());
+    }
+
+    private boolean projectExists(Project target) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM project WHERE id = ?", Integer.class, target.getId()) > 0;
+    }
+}
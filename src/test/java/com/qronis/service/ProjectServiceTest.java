@@ -1,33 +1,52 @@
 package com.qronis.service;
 
+import com.qronis.modules.project.api.dto.ProjectDeletionResponseDTO;
+import com.qronis.modules.project.api.dto.ProjectResponseDTO;
+import com.qronis.modules.project.api.dto.ProjectSuggestionDTO;
+import com.qronis.modules.project.api.dto.ProjectSummaryResponseDTO;
+import com.qronis.modules.project.application.ProjectCache;
+import com.qronis.modules.project.application.ProjectDeletionService;
+import com.qronis.modules.project.application.ProjectDurationTotal;
+import com.qronis.modules.project.application.ProjectNameMatch;
 import com.qronis.modules.project.application.ProjectService;
 import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.project.domain.enums.ProjectDeletionStatus;
 import com.qronis.modules.project.domain.exception.ProjectNotFoundException;
 import com.qronis.modules.project.application.repositories.ProjectRepository;
 import com.qronis.modules.identity.domain.entity.Tenant;
 import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.tracker.application.ActiveTimerRegistry;
+import com.qronis.modules.tracker.application.DescriptionSuggestionCache;
+import com.qronis.modules.tracker.application.TimeEntryAnalyticsService;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,6 +55,18 @@ class ProjectServiceTest {
 
     @Mock
     private ProjectRepository projectRepository;
+    @Mock
+    private ActiveTimerRegistry activeTimerRegistry;
+    @Mock
+    private DescriptionSuggestionCache suggestionCache;
+    @Mock
+    private TimeEntryAnalyticsService analyticsService;
+    @Mock
+    private ProjectDeletionService deletionService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy
+    private ProjectCache projectCache = new ProjectCache(meterRegistry);
 
     @InjectMocks
     private ProjectService projectService;
@@ -63,27 +94,61 @@ class ProjectServiceTest {
     @DisplayName("findByTenantId paginado: deve delegar ao repository sem filtro de nome")
     void findByTenantId_paged_withoutFilter() {
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Project> page = new PageImpl<>(List.of(project), pageable, 1);
-        when(projectRepository.findByTenantIdWithCreator(eq(tenantId), isNull(), eq(pageable))).thenReturn(page);
+        Page<ProjectResponseDTO> page = new PageImpl<>(List.of(response()), pageable, 1);
+        when(projectRepository.findResponsesByTenantId(tenantId, pageable)).thenReturn(page);
 
-        Page<Project> result = projectService.findByTenantId(tenantId, null, pageable);
+        Page<ProjectResponseDTO> result = projectService.findByTenantId(tenantId, null, pageable);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getTotalElements()).isEqualTo(1);
-        verify(projectRepository).findByTenantIdWithCreator(tenantId, null, pageable);
+        verify(projectRepository).findResponsesByTenantId(tenantId, pageable);
+        verify(projectRepository, never()).findResponsesByTenantIdAndNameLike(any(), any(), any());
     }
 
     @Test
     @DisplayName("findByTenantId paginado: deve delegar ao repository com filtro de nome")
     void findByTenantId_paged_withNameFilter() {
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Project> page = new PageImpl<>(List.of(project), pageable, 1);
-        when(projectRepository.findByTenantIdWithCreator(eq(tenantId), eq("alpha"), eq(pageable))).thenReturn(page);
+        Page<ProjectResponseDTO> page = new PageImpl<>(List.of(response()), pageable, 1);
+        when(projectRepository.findResponsesByTenantIdAndNameLike(eq(tenantId), eq("%alpha%"), eq(pageable)))
+                .thenReturn(page);
 
-        Page<Project> result = projectService.findByTenantId(tenantId, "alpha", pageable);
+        Page<ProjectResponseDTO> result = projectService.findByTenantId(tenantId, "Alpha", pageable);
 
         assertThat(result.getContent()).hasSize(1);
-        verify(projectRepository).findByTenantIdWithCreator(tenantId, "alpha", pageable);
+        verify(projectRepository).findResponsesByTenantIdAndNameLike(tenantId, "%alpha%", pageable);
+    }
+
+    @Test
+    @DisplayName("findByTenantId paginado: deve escapar os curingas do LIKE no filtro")
+    void findByTenantId_paged_escapesWildcards() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(projectRepository.findResponsesByTenantIdAndNameLike(tenantId, "%100\\%\\_ok%", pageable))
+                .thenReturn(Page.empty(pageable));
+
+        projectService.findByTenantId(tenantId, "100%_ok", pageable);
+
+        verify(projectRepository).findResponsesByTenantIdAndNameLike(tenantId, "%100\\%\\_ok%", pageable);
+    }
+
+    @Test
+    @DisplayName("suggest: deve limitar o número de sugestões e montar prefixo e trecho")
+    void suggest_clampsLimit() {
+        ProjectNameMatch match = new Match(project.getId(), project.getName());
+        when(projectRepository.findNameMatchesByTenantId(tenantId, "Alp", "%alp%", "alp%", 20))
+                .thenReturn(List.of(match));
+
+        List<ProjectSuggestionDTO> result = projectService.suggest(tenantId, " Alp ", 500);
+
+        assertThat(result).containsExactly(new ProjectSuggestionDTO(project.getId(), "Projeto Alpha"));
+    }
+
+    @Test
+    @DisplayName("suggest: deve rejeitar busca vazia")
+    void suggest_blankQuery() {
+        assertThatThrownBy(() -> projectService.suggest(tenantId, " ", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(projectRepository, never()).findNameMatchesByTenantId(any(), any(), any(), any(), anyInt());
     }
 
     @Test
@@ -108,6 +173,43 @@ class ProjectServiceTest {
         assertThat(result.getName()).isEqualTo("Projeto Alpha");
     }
 
+    @Test
+    @DisplayName("findByIdAndTenantId: segunda leitura deve vir do cache, como cópia")
+    void findByIdAndTenantId_cached() {
+        when(projectRepository.findByIdAndTenantIdWithCreator(project.getId(), tenantId))
+                .thenReturn(Optional.of(project));
+
+        Project first = projectService.findByIdAndTenantId(project.getId(), tenantId);
+        first.setName("Alterado pelo chamador");
+        Project second = projectService.findByIdAndTenantId(project.getId(), tenantId);
+
+        assertThat(second.getName()).isEqualTo("Projeto Alpha");
+        assertThat(second.getTenant().getId()).isEqualTo(tenantId);
+        verify(projectRepository, times(1)).findByIdAndTenantIdWithCreator(project.getId(), tenantId);
+        assertThat(meterRegistry.get("qronis.project.cache.gets").tag("result", "hit").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("qronis.project.cache.gets").tag("result", "miss").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("update: deve invalidar o cache do tenant")
+    void update_invalidatesCache() {
+        when(projectRepository.findByTenantIdWithCreator(tenantId)).thenReturn(List.of(project));
+        when(projectRepository.findByIdAndTenantIdWithCreator(project.getId(), tenantId))
+                .thenReturn(Optional.of(project));
+        when(projectRepository.save(any(Project.class))).thenReturn(project);
+
+        projectService.findByTenantId(tenantId);
+        projectService.update(project.getId(), tenantId, "Novo Nome");
+        List<Project> result = projectService.findByTenantId(tenantId);
+
+        assertThat(result.get(0).getName()).isEqualTo("Novo Nome");
+        verify(projectRepository, times(2)).findByTenantIdWithCreator(tenantId);
+        assertThat(meterRegistry.get("qronis.project.cache.evictions").tag("cause", "invalidated").counter().count())
+                .isEqualTo(2);
+    }
+
     @Test
     @DisplayName("findByIdAndTenantId: deve lançar exceção se projeto não existe no tenant")
     void findByIdAndTenantId_notFound() {
@@ -120,6 +222,27 @@ class ProjectServiceTest {
                 .hasMessageContaining("Projeto não encontrado");
     }
 
+    @Test
+    @DisplayName("findResponseByIdAndTenantId: deve lançar exceção se projeto não existe no tenant")
+    void findResponseByIdAndTenantId_notFound() {
+        UUID randomId = UUID.randomUUID();
+        when(projectRepository.findResponseByIdAndTenantId(randomId, tenantId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> projectService.findResponseByIdAndTenantId(randomId, tenantId))
+                .isInstanceOf(ProjectNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("requireInTenant: deve lançar exceção sem carregar a entidade")
+    void requireInTenant_notFound() {
+        UUID randomId = UUID.randomUUID();
+        when(projectRepository.existsByIdAndTenantId(randomId, tenantId)).thenReturn(false);
+
+        assertThatThrownBy(() -> projectService.requireInTenant(randomId, tenantId))
+                .isInstanceOf(ProjectNotFoundException.class);
+        verify(projectRepository, never()).findByIdAndTenantIdWithCreator(any(), any());
+    }
+
     @Test
     @DisplayName("create: deve criar e salvar projeto")
     void create_success() {
@@ -144,13 +267,53 @@ class ProjectServiceTest {
     }
 
     @Test
-    @DisplayName("delete: deve excluir projeto do tenant")
+    @DisplayName("delete: deve marcar o projeto e deixar as entries para o worker")
     void delete_success() {
+        ProjectDeletionResponseDTO started = new ProjectDeletionResponseDTO(project.getId(),
+                ProjectDeletionStatus.IN_PROGRESS, 3, 0, Instant.now(), null);
         when(projectRepository.findByIdAndTenantIdWithCreator(project.getId(), tenantId))
                 .thenReturn(Optional.of(project));
+        when(deletionService.start(project)).thenReturn(started);
 
-        projectService.delete(project.getId(), tenantId);
+        ProjectDeletionResponseDTO result = projectService.delete(project.getId(), tenantId);
+
+        assertThat(result).isEqualTo(started);
+        assertThat(project.getDeletingAt()).isNotNull();
+        verify(projectRepository).save(project);
+        verify(projectRepository, never()).delete(any(Project.class));
+        verify(activeTimerRegistry).unregisterByProjectId(project.getId());
+        verify(suggestionCache).removeProject(project.getId());
+        verify(analyticsService).removeProject(tenantId, project.getId());
+    }
+
+    @Test
+    @DisplayName("getProjectSummaries: deve agregar os ids informados em uma única query")
+    void getProjectSummaries_byIds() {
+        when(projectRepository.sumDurationSecondsByTenantIdAndIdIn(tenantId, userId, Set.of(project.getId())))
+                .thenReturn(List.of(new Total(project.getId(), 3600L)));
+
+        List<ProjectSummaryResponseDTO> result = projectService.getProjectSummaries(
+                tenantId, userId, List.of(project.getId(), project.getId()));
+
+        assertThat(result).containsExactly(new ProjectSummaryResponseDTO(project.getId(), 3600L));
+    }
+
+    @Test
+    @DisplayName("getProjectSummaries: deve rejeitar lotes acima do limite")
+    void getProjectSummaries_tooManyIds() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(101).toList();
+
+        assertThatThrownBy(() -> projectService.getProjectSummaries(tenantId, userId, ids))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ProjectResponseDTO response() {
+        return new ProjectResponseDTO(project.getId(), project.getName(), tenantId, "Tester", Instant.now());
+    }
+
+    private record Match(UUID getId, String getName) implements ProjectNameMatch {
+    }
 
-        verify(projectRepository).delete(project);
+    private record Total(UUID getProjectId, Long getTotalDurationSeconds) implements ProjectDurationTotal {
     }
 }
@@ -0,0 +1,106 @@
+package com.qronis.service;
+
+import com.qronis.modules.tracker.api.dto.DashboardMemberDTO;
+import com.qronis.modules.tracker.api.dto.DashboardProjectDTO;
+import com.qronis.modules.tracker.api.dto.TenantDashboardResponseDTO;
+import com.qronis.modules.tracker.application.ActiveTimer;
+import com.qronis.modules.tracker.application.ActiveTimerRegistry;
+import com.qronis.modules.tracker.application.TenantDashboardService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TenantDashboardServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ActiveTimerRegistry activeTimerRegistry;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TenantDashboardService dashboardService;
+
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        meterRegistry = new SimpleMeterRegistry();
+        dashboardService = new TenantDashboardService(jdbcTemplate, transactionManager, activeTimerRegistry,
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("dashboard: deve somar o timer em andamento ao total de hoje e medir cada seção")
+    void dashboard_mergesSectionsAndRecordsMetrics() {
+        UUID trackingUserId = UUID.randomUUID();
+        UUID idleUserId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        Instant started = Instant.now().minus(10, ChronoUnit.MINUTES);
+        ActiveTimer timer = new ActiveTimer(UUID.randomUUID(), trackingUserId, tenantId, projectId,
+                "Projeto Alpha", "Feature X", started, started);
+
+        when(jdbcTemplate.query(contains("FROM tenant_user"), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(
+                        new DashboardMemberDTO(trackingUserId, "Ana", 3_600L, false),
+                        new DashboardMemberDTO(idleUserId, "Bruno", 1_800L, false)));
+        when(jdbcTemplate.query(contains("ORDER BY seconds DESC"), any(MapSqlParameterSource.class),
+                any(RowMapper.class)))
+                .thenReturn(List.of(new DashboardProjectDTO(projectId, "Projeto Alpha", 5_400L)));
+        when(activeTimerRegistry.findByTenantId(tenantId)).thenReturn(List.of(timer));
+
+        TenantDashboardResponseDTO result = dashboardService.dashboard(tenantId);
+
+        DashboardMemberDTO tracking = result.members().getFirst();
+        assertThat(tracking.tracking()).isTrue();
+        assertThat(tracking.todaySeconds()).isGreaterThan(3_600L).isLessThanOrEqualTo(3_600L + 11 * 60);
+        assertThat(result.members().get(1)).isEqualTo(new DashboardMemberDTO(idleUserId, "Bruno", 1_800L, false));
+        assertThat(result.activeTimers()).singleElement()
+                .satisfies(active -> assertThat(active.userId()).isEqualTo(trackingUserId));
+        assertThat(result.topProjects()).extracting(DashboardProjectDTO::projectId).containsExactly(projectId);
+        assertThat(result.incomplete()).isEmpty();
+        assertThat(meterRegistry.find("qronis.dashboard.section").timers()).hasSize(3);
+        assertThat(meterRegistry.get("qronis.dashboard").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("dashboard: cada consulta deve rodar com statement_timeout acima do prazo")
+    void dashboard_setsStatementTimeout() {
+        when(jdbcTemplate.query(any(String.class), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+        when(activeTimerRegistry.findByTenantId(tenantId)).thenReturn(List.of());
+
+        dashboardService.dashboard(tenantId);
+
+        verify(jdbcTemplate, times(2)).update(eq("SET LOCAL statement_timeout = 2500"),
+                any(MapSqlParameterSource.class));
+        verify(transactionManager, times(2)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+}
@@ -0,0 +1,176 @@
+package com.qronis.service;
+
+import com.qronis.modules.identity.domain.entity.Tenant;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.api.dto.TimeEntryAnalyticsBucketDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryAnalyticsResponseDTO;
+import com.qronis.modules.tracker.application.AnalyticsDimension;
+import com.qronis.modules.tracker.application.TimeEntryAnalyticsService;
+import com.qronis.modules.tracker.application.TimeEntryArchive;
+import com.qronis.modules.tracker.application.TimeEntryRange;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimeEntryAnalyticsServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Mock
+    private TimeEntryArchive archive;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private TimeEntryAnalyticsService analyticsService;
+
+    private UUID tenantId;
+    private UUID userId;
+    private UUID projectA;
+    private UUID projectB;
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new TimeEntryAnalyticsService(jdbcTemplate, archive, clock::get);
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        projectA = UUID.randomUUID();
+        projectB = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("analyze: deve carregar o tenant uma vez e aplicar as escritas seguintes em memória")
+    void analyze_loadsOnceAndAppliesWrites() throws SQLException {
+        stubLoad(row(UUID.randomUUID(), projectA, "2026-03-02T09:00:00Z", "2026-03-02T10:00:00Z"));
+
+        long before = analyze().totalSeconds();
+        analyticsService.record(entry(projectA, "2026-03-03T09:00:00Z", "2026-03-03T09:30:00Z"));
+        long after = analyze().totalSeconds();
+
+        assertThat(before).isEqualTo(3600);
+        assertThat(after).isEqualTo(5400);
+        verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("analyze: deve recarregar do banco quando a carga passa do TTL")
+    void analyze_reloadsAfterTtl() throws SQLException {
+        stubLoad(row(UUID.randomUUID(), projectA, "2026-03-02T09:00:00Z", "2026-03-02T10:00:00Z"));
+
+        analyze();
+        clock.addAndGet(Duration.ofMinutes(9).toNanos());
+        analyze();
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+        analyze();
+
+        verify(jdbcTemplate, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("analyze: escrita confirmada durante a carga não deve deixar o resultado no cache")
+    void analyze_writeDuringLoadIsNotCached() throws SQLException {
+        UUID entryId = UUID.randomUUID();
+        ResultSet row = row(entryId, projectA, "2026-03-02T09:00:00Z", "2026-03-02T10:00:00Z");
+        AtomicLong loads = new AtomicLong();
+        doAnswer(inv -> {
+            // Exclusão confirmada depois do snapshot da query: a linha ainda vem do banco
+            if (loads.incrementAndGet() == 1) {
+                analyticsService.remove(tenantId, entryId);
+            }
+            inv.<RowCallbackHandler>getArgument(2).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        analyze();
+        analyze();
+        analyze();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("removeProject: deve retirar só as entries do projeto, sem recarregar o tenant")
+    void removeProject_keepsTenantLoaded() throws SQLException {
+        stubLoad(
+                row(UUID.randomUUID(), projectA, "2026-03-02T09:00:00Z", "2026-03-02T10:00:00Z"),
+                row(UUID.randomUUID(), projectB, "2026-03-02T11:00:00Z", "2026-03-02T11:30:00Z"));
+        analyze();
+
+        analyticsService.removeProject(tenantId, projectA);
+        TimeEntryAnalyticsResponseDTO result = analyze();
+
+        assertThat(result.buckets()).containsExactly(new TimeEntryAnalyticsBucketDTO(projectB.toString(), 1800));
+        verify(jdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    private TimeEntryAnalyticsResponseDTO analyze() {
+        return analyticsService.analyze(tenantId, AnalyticsDimension.PROJECT, TimeEntryRange.UNBOUNDED, null, null);
+    }
+
+    private void stubLoad(ResultSet... rows) {
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(2);
+            for (ResultSet rs : rows) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    private ResultSet row(UUID id, UUID projectId, String start, String end) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject("id", UUID.class)).thenReturn(id);
+        when(rs.getObject("project_id", UUID.class)).thenReturn(projectId);
+        when(rs.getObject("created_by", UUID.class)).thenReturn(userId);
+        when(rs.getObject("start_time", OffsetDateTime.class))
+                .thenReturn(Instant.parse(start).atOffset(ZoneOffset.UTC));
+        when(rs.getObject("end_time", OffsetDateTime.class)).thenReturn(Instant.parse(end).atOffset(ZoneOffset.UTC));
+        return rs;
+    }
+
+    private TimeEntry entry(UUID projectId, String start, String end) {
+        Tenant tenant = new Tenant("Qronis");
+        tenant.setId(tenantId);
+
+        User user = new User();
+        user.setId(userId);
+
+        Project project = new Project("Projeto Alpha", tenant, user);
+        project.setId(projectId);
+
+        TimeEntry entry = new TimeEntry();
+        entry.setId(UUID.randomUUID());
+        entry.setProject(project);
+        entry.setCreatedBy(user);
+        entry.setStartTime(Instant.parse(start));
+        entry.setEndTime(Instant.parse(end));
+        return entry;
+    }
+}
@@ -0,0 +1,165 @@
+package com.qronis.service;
+
+import com.qronis.AbstractIntegrationTest;
+import com.qronis.TrackerFixture;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.api.dto.TimeEntryReportResponseDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.application.ReportGranularity;
+import com.qronis.modules.tracker.application.TimeEntryArchiveService;
+import com.qronis.modules.tracker.application.TimeEntryCursor;
+import com.qronis.modules.tracker.application.TimeEntryRange;
+import com.qronis.modules.tracker.application.TimeEntryReportService;
+import com.qronis.modules.tracker.application.TimeEntryRollupService;
+import com.qronis.modules.tracker.application.TimeEntryService;
+import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.modules.tracker.domain.exception.TimeEntryNotFoundException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TrackerFixture.class)
+class TimeEntryArchiveServiceIntegrationTest extends AbstractIntegrationTest {
+
+    // Corte em 2024-01-01 com a idade mínima padrão de 730 dias
+    private static final Instant NOW = Instant.parse("2026-01-15T00:00:00Z");
+
+    @Autowired
+    private TrackerFixture fixture;
+
+    @Autowired
+    private TimeEntryArchiveService archiveService;
+
+    @Autowired
+    private TimeEntryService timeEntryService;
+
+    @Autowired
+    private TimeEntryRollupService rollupService;
+
+    @Autowired
+    private TimeEntryReportService reportService;
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TrackerFixture.Workspace workspace;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        workspace = fixture.workspace();
+        user = workspace.owner();
+        project = workspace.project();
+    }
+
+    @Test
+    @DisplayName("archive: deve mover meses antigos para o segmento sem sumir do histórico nem do rebuild")
+    void archive_readThroughHistoryAndRollup() {
+        UUID tenantId = workspace.tenantId();
+        TimeEntry old = entry("2023-03-10T10:00:00.123456Z", "2023-03-10T12:00:00.123456Z");
+        TimeEntry recent = entry("2025-06-02T09:00:00Z", "2025-06-02T10:00:00Z");
+
+        int archived = archiveService.archive(NOW);
+
+        Integer live = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM time_entry WHERE id = ?", Integer.class, old.getId());
+        Integer segments = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM time_entry_archive_month WHERE tenant_id = ?", Integer.class, tenantId);
+        Slice<TimeEntryResponseDTO> history = timeEntryService.findByUserIdAfterCursor(
+                user.getId(), null, TimeEntryRange.UNBOUNDED, TimeEntryCursor.FIRST, 10);
+        Slice<TimeEntryResponseDTO> afterRecent = timeEntryService.findByUserIdAfterCursor(
+                user.getId(), null, TimeEntryRange.UNBOUNDED, TimeEntryCursor.after(recent), 10);
+        rollupService.rebuild(tenantId);
+
+        assertThat(archived).isGreaterThanOrEqualTo(1);
+        assertThat(live).isZero();
+        assertThat(segments).isEqualTo(1);
+        assertThat(history.getContent()).extracting(TimeEntryResponseDTO::id)
+                .containsExactly(recent.getId(), old.getId());
+        assertThat(history.hasNext()).isFalse();
+        // O segmento guarda os microssegundos do banco
+        assertThat(history.getContent().get(1).startTime()).isEqualTo(old.getStartTime());
+        assertThat(history.getContent().get(1).endTime()).isEqualTo(old.getEndTime());
+        assertThat(afterRecent.getContent()).extracting(TimeEntryResponseDTO::id).containsExactly(old.getId());
+        assertThat(timeEntryRepository.sumDurationSecondsByTenantIdAndProjectIdAndUserId(
+                tenantId, project.getId(), user.getId())).isEqualTo(3 * 60 * 60L);
+    }
+
+    @Test
+    @DisplayName("archive: offset, relatório e entries do projeto devem incluir o arquivo")
+    void archive_readThroughOffsetReportAndProject() {
+        UUID tenantId = workspace.tenantId();
+        TimeEntry old = entry("2023-03-10T10:00:00Z", "2023-03-10T12:00:00Z");
+        TimeEntry recent = entry("2025-06-02T09:00:00Z", "2025-06-02T10:00:00Z");
+        archiveService.archive(NOW);
+
+        Pageable newestFirst = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "startTime"));
+        Page<TimeEntryResponseDTO> first = timeEntryService.findByUserIdAndOptionalProjectId(
+                user.getId(), null, TimeEntryRange.UNBOUNDED, newestFirst);
+        Page<TimeEntryResponseDTO> second = timeEntryService.findByUserIdAndOptionalProjectId(
+                user.getId(), project.getId(), TimeEntryRange.UNBOUNDED, newestFirst.next());
+        TimeEntryReportResponseDTO report = reportService.report(tenantId, user.getId(),
+                ReportGranularity.MONTH, LocalDate.parse("2023-01-01"), LocalDate.parse("2023-07-01"));
+        List<TimeEntryResponseDTO> projectEntries = timeEntryService.findByProjectId(project.getId(), tenantId);
+
+        assertThat(first.getContent()).extracting(TimeEntryResponseDTO::id).containsExactly(recent.getId());
+        assertThat(first.getTotalElements()).isEqualTo(2);
+        assertThat(second.getContent()).extracting(TimeEntryResponseDTO::id).containsExactly(old.getId());
+        assertThat(second.getTotalElements()).isEqualTo(2);
+        assertThat(report.rows()).singleElement().satisfies(row -> {
+            assertThat(row.period()).isEqualTo(LocalDate.parse("2023-03-01"));
+            assertThat(row.durationSeconds()).isEqualTo(2 * 60 * 60L);
+        });
+        assertThat(projectEntries).extracting(TimeEntryResponseDTO::id).containsExactly(recent.getId(), old.getId());
+    }
+
+    @Test
+    @DisplayName("archive: entry arquivada é somente leitura e um mês retroativo é mesclado ao segmento")
+    void archive_readOnlyAndMergesRetroactiveEntries() {
+        TimeEntry old = entry("2023-03-10T10:00:00Z", "2023-03-10T12:00:00Z");
+        archiveService.archive(NOW);
+        TimeEntry late = entry("2023-03-20T10:00:00Z", "2023-03-20T11:00:00Z");
+
+        int archived = archiveService.archive(NOW);
+        List<TimeEntryResponseDTO> history = timeEntryService.findByUserIdAfterCursor(
+                user.getId(), null, TimeEntryRange.UNBOUNDED, TimeEntryCursor.FIRST, 10).getContent();
+
+        assertThat(archived).isGreaterThanOrEqualTo(1);
+        assertThat(history).extracting(TimeEntryResponseDTO::id).containsExactly(late.getId(), old.getId());
+        assertThatThrownBy(() -> timeEntryService.delete(old.getId(), user.getId()))
+                .isInstanceOf(TimeEntryNotFoundException.class);
+    }
+
+    private TimeEntry entry(String start, String end) {
+        return fixture.entry(project, user, Instant.parse(start), Instant.parse(end));
+    }
+}
@@ -0,0 +1,142 @@
+package com.qronis.service;
+
+import com.qronis.modules.tracker.application.AnalyticsDimension;
+import com.qronis.modules.tracker.application.TimeEntryColumns;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeEntryColumnsTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private TimeEntryColumns columns;
+    private UUID projectA;
+    private UUID projectB;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        columns = new TimeEntryColumns();
+        projectA = UUID.randomUUID();
+        projectB = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("sum: deve totalizar por projeto e aplicar put como substituição")
+    void sum_byProjectWithReplace() {
+        UUID id = UUID.randomUUID();
+        long base = millis("2026-03-02T09:00:00Z");
+        columns.put(id, projectA, userId, base, base + HOUR);
+        columns.put(UUID.randomUUID(), projectB, userId, base + 2 * HOUR, base + 5 * HOUR);
+        columns.put(id, projectA, userId, base, base + 2 * HOUR);
+
+        long[] totals = columns.sum(AnalyticsDimension.PROJECT, Long.MIN_VALUE, Long.MAX_VALUE, null, null);
+
+        assertThat(columns.size()).isEqualTo(2);
+        assertThat(columns.projectId(0)).isEqualTo(projectA);
+        assertThat(totals).containsExactly(2 * HOUR, 3 * HOUR);
+    }
+
+    @Test
+    @DisplayName("sum: deve dividir a entry nas horas e nos dias UTC e recortar na janela")
+    void sum_splitsByHourAndWeekday() {
+        // Domingo 23:30 -> segunda 01:00
+        long start = millis("2026-03-01T23:30:00Z");
+        columns.append(UUID.randomUUID(), projectA, userId, start, start + 90 * 60_000L);
+
+        long[] hours = columns.sum(AnalyticsDimension.HOUR, Long.MIN_VALUE, Long.MAX_VALUE, null, null);
+        long[] weekdays = columns.sum(AnalyticsDimension.WEEKDAY, Long.MIN_VALUE, Long.MAX_VALUE, null, null);
+        long[] clipped = columns.sum(AnalyticsDimension.WEEKDAY, millis("2026-03-02T00:00:00Z"), Long.MAX_VALUE,
+                null, null);
+
+        assertThat(hours[23]).isEqualTo(30 * 60_000L);
+        assertThat(hours[0]).isEqualTo(HOUR);
+        assertThat(weekdays[6]).isEqualTo(30 * 60_000L);
+        assertThat(weekdays[0]).isEqualTo(HOUR);
+        assertThat(clipped[6]).isZero();
+        assertThat(clipped[0]).isEqualTo(HOUR);
+    }
+
+    @Test
+    @DisplayName("sum: filtro por membro fora do dicionário não combina com nada")
+    void sum_unknownFilter() {
+        long base = millis("2026-03-02T09:00:00Z");
+        columns.append(UUID.randomUUID(), projectA, userId, base, base + HOUR);
+
+        assertThat(columns.sum(AnalyticsDimension.PROJECT, Long.MIN_VALUE, Long.MAX_VALUE, null, UUID.randomUUID()))
+                .containsExactly(0L);
+        assertThat(columns.sum(AnalyticsDimension.PROJECT, Long.MIN_VALUE, Long.MAX_VALUE, projectA, userId))
+                .containsExactly(HOUR);
+    }
+
+    @Test
+    @DisplayName("remove/removeProject: devem compactar os arrays")
+    void remove_compacts() {
+        UUID first = UUID.randomUUID();
+        long base = millis("2026-03-02T09:00:00Z");
+        columns.append(first, projectA, userId, base, base + HOUR);
+        columns.append(UUID.randomUUID(), projectB, userId, base, base + HOUR);
+        columns.append(UUID.randomUUID(), projectA, userId, base, base + HOUR);
+
+        assertThat(columns.remove(first)).isTrue();
+        assertThat(columns.remove(first)).isFalse();
+        columns.removeProject(projectA);
+
+        assertThat(columns.size()).isEqualTo(1);
+        assertThat(columns.sum(AnalyticsDimension.PROJECT, Long.MIN_VALUE, Long.MAX_VALUE, null, null))
+                .containsExactly(0L, HOUR);
+    }
+
+    @Test
+    @DisplayName("put/remove: índice por id deve seguir as linhas movidas pelas remoções")
+    void putRemove_indexFollowsMovedRows() {
+        long base = millis("2026-03-02T09:00:00Z");
+        int rows = 10_000;
+        for (int i = 0; i < rows; i++) {
+            columns.append(new UUID(i, i), i % 2 == 0 ? projectA : projectB, userId, base, base + 60_000L);
+        }
+        for (int i = 0; i < rows; i += 3) {
+            assertThat(columns.remove(new UUID(i, i))).isTrue();
+        }
+        columns.removeProject(projectB);
+        // As que sobraram são pares fora dos múltiplos de 3; put deve achá-las, não duplicar
+        for (int i = 0; i < rows; i++) {
+            columns.put(new UUID(i, i), projectA, userId, base, base + 2 * 60_000L);
+        }
+
+        long[] totals = columns.sum(AnalyticsDimension.PROJECT, Long.MIN_VALUE, Long.MAX_VALUE, null, null);
+
+        assertThat(columns.size()).isEqualTo(rows);
+        assertThat(totals).containsExactly(rows * 2 * 60_000L, 0L);
+        for (int i = 0; i < rows; i++) {
+            assertThat(columns.remove(new UUID(i, i))).isTrue();
+        }
+        assertThat(columns.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("sum: varredura paralela deve bater com a soma esperada")
+    void sum_parallelScan() {
+        long base = millis("2026-01-05T00:00:00Z");
+        int rows = 300_000;
+        for (int i = 0; i < rows; i++) {
+            columns.append(new UUID(0, i), i % 2 == 0 ? projectA : projectB, userId, base, base + 60_000L);
+        }
+
+        long[] totals = columns.sum(AnalyticsDimension.PROJECT, Long.MIN_VALUE, Long.MAX_VALUE, null, null);
+
+        assertThat(totals).containsExactly(rows / 2 * 60_000L, rows / 2 * 60_000L);
+    }
+
+    private static long millis(String instant) {
+        return Instant.parse(instant).toEpochMilli();
+    }
+}
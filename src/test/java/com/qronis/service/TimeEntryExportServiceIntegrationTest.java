@@ -0,0 +1,111 @@
+package com.qronis.service;
+
+import com.qronis.AbstractIntegrationTest;
+import com.qronis.TrackerFixture;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.identity.domain.enums.Role;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.application.TimeEntryExportService;
+import com.qronis.modules.tracker.application.TimeEntryFileFormat;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TrackerFixture.class)
+class TimeEntryExportServiceIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TrackerFixture fixture;
+
+    @Autowired
+    private TimeEntryExportService exportService;
+
+    private TrackerFixture.Workspace workspace;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        workspace = fixture.workspace();
+        user = workspace.owner();
+        project = workspace.project();
+    }
+
+    @Test
+    @DisplayName("export: CSV deve escapar vírgulas, aspas e quebras de linha (RFC 4180)")
+    void export_csvQuoting() {
+        Project quoted = fixture.project(workspace.tenant(), user, "Cliente, Inc");
+        TimeEntry entry = fixture.entry(quoted, user, Instant.parse("2026-03-02T09:00:00Z"),
+                Instant.parse("2026-03-02T10:00:00Z"), "Disse \"oi\"\nsegunda linha");
+
+        String csv = export(null, TimeEntryFileFormat.CSV, false);
+
+        assertThat(csv).isEqualTo(
+                "id,userId,userName,userEmail,projectId,projectName,description,startTime,endTime,durationSeconds\n"
+                + entry.getId() + "," + user.getId() + ",Tester," + user.getEmail() + "," + quoted.getId()
+                + ",\"Cliente, Inc\",\"Disse \"\"oi\"\"\nsegunda linha\","
+                + "2026-03-02T09:00:00Z,2026-03-02T10:00:00Z,3600\n");
+    }
+
+    @Test
+    @DisplayName("export: gzip deve entregar o mesmo conteúdo, finalizado no stream de saída")
+    void export_gzipMatchesPlain() throws IOException {
+        fixture.entry(project, user, Instant.parse("2026-03-02T09:00:00Z"), Instant.parse("2026-03-02T10:00:00Z"));
+        fixture.entry(project, user, Instant.parse("2026-03-03T09:00:00Z"), Instant.parse("2026-03-03T10:30:00Z"));
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        exportService.export(workspace.tenantId(), null, TimeEntryFileFormat.NDJSON, true, compressed);
+        String plain = export(null, TimeEntryFileFormat.NDJSON, false);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plain);
+        }
+        assertThat(plain.lines()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("export: tenant inteiro sem usuário (OWNER), só os próprios lançamentos com usuário (MEMBER)")
+    void export_scopeByUser() {
+        User colleague = fixture.member(workspace.tenant(), "Colleague", Role.MEMBER);
+        TimeEntry mine = fixture.entry(project, user,
+                Instant.parse("2026-03-02T09:00:00Z"), Instant.parse("2026-03-02T10:00:00Z"));
+        TimeEntry theirs = fixture.entry(project, colleague,
+                Instant.parse("2026-03-02T11:00:00Z"), Instant.parse("2026-03-02T12:00:00Z"));
+
+        List<String> tenant = export(null, TimeEntryFileFormat.CSV, false).lines().skip(1).toList();
+        List<String> member = export(colleague.getId(), TimeEntryFileFormat.CSV, false).lines().skip(1).toList();
+
+        assertThat(tenant).hasSize(2);
+        assertThat(tenant.get(0)).startsWith(mine.getId().toString());
+        assertThat(tenant.get(1)).startsWith(theirs.getId().toString());
+        assertThat(member).singleElement()
+                .satisfies(line -> assertThat(line).startsWith(theirs.getId() + "," + colleague.getId()));
+    }
+
+    private String export(UUID userId, TimeEntryFileFormat format, boolean gzip) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(workspace.tenantId(), userId, format, gzip, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package com.qronis.service;
+
+import com.qronis.AbstractIntegrationTest;
+import com.qronis.TrackerFixture;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.identity.domain.enums.Role;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.api.dto.TimeEntryHeatmapResponseDTO;
+import com.qronis.modules.tracker.application.HeatmapScope;
+import com.qronis.modules.tracker.application.TimeEntryHeatmapService;
+import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TrackerFixture.class)
+class TimeEntryHeatmapServiceIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TrackerFixture fixture;
+
+    @Autowired
+    private TimeEntryHeatmapService heatmapService;
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    private TrackerFixture.Workspace workspace;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        workspace = fixture.workspace();
+        user = workspace.owner();
+        project = workspace.project();
+    }
+
+    @Test
+    @DisplayName("heatmap: deve devolver 366 dias com o total de cada dia na posição certa")
+    void heatmap_dailyTotalsByScope() {
+        UUID tenantId = workspace.tenantId();
+        User colleague = fixture.member(workspace.tenant(), "Colleague", Role.MEMBER);
+        LocalDate to = LocalDate.parse("2026-06-30");
+
+        timeEntryRepository.addToDailyRollup(tenantId, project.getId(), user.getId(), to, 90 * 60 * 1000L);
+        timeEntryRepository.addToDailyRollup(tenantId, project.getId(), colleague.getId(), to, 30 * 60 * 1000L);
+        timeEntryRepository.addToDailyRollup(tenantId, project.getId(), user.getId(),
+                to.minusDays(365), 45 * 60 * 1000L);
+        // Fora da janela
+        timeEntryRepository.addToDailyRollup(tenantId, project.getId(), user.getId(),
+                to.minusDays(366), 60 * 60 * 1000L);
+
+        TimeEntryHeatmapResponseDTO mine = heatmapService.heatmap(tenantId, user.getId(), HeatmapScope.USER, to);
+        TimeEntryHeatmapResponseDTO all = heatmapService.heatmap(tenantId, user.getId(), HeatmapScope.TENANT, to);
+
+        assertThat(mine.from()).isEqualTo(to.minusDays(365));
+        assertThat(mine.minutes()).hasSize(366);
+        assertThat(mine.minutes()[0]).isEqualTo(45);
+        assertThat(mine.minutes()[365]).isEqualTo(90);
+        assertThat(all.minutes()[365]).isEqualTo(120);
+        assertThat(all.minutes()).doesNotContain(60);
+    }
+}
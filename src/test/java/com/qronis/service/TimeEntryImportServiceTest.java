@@ -0,0 +1,153 @@
+package com.qronis.service;
+
+import com.qronis.modules.project.application.repositories.ProjectRepository;
+import com.qronis.modules.tracker.api.dto.TimeEntryImportErrorDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryImportResponseDTO;
+import com.qronis.modules.tracker.application.TimeEntryAnalyticsService;
+import com.qronis.modules.tracker.application.TimeEntryFileFormat;
+import com.qronis.modules.tracker.application.TimeEntryImportService;
+import com.qronis.modules.tracker.application.TimeEntryRollupService;
+import com.qronis.modules.tracker.domain.exception.TimeEntryOverlapException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimeEntryImportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private TimeEntryRollupService rollupService;
+    @Mock
+    private TimeEntryAnalyticsService analyticsService;
+
+    private TimeEntryImportService importService;
+
+    private UUID tenantId;
+    private UUID userId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        importService = new TimeEntryImportService(jdbcTemplate, projectRepository, rollupService,
+                analyticsService, JsonMapper.builder().build());
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("importEntries CSV: deve importar linhas válidas e rejeitar bounds e projetos inválidos")
+    void importCsv_mixedRows() {
+        UUID foreignProject = UUID.randomUUID();
+        when(projectRepository.findIdsByTenantIdAndIdIn(eq(tenantId), anyCollection())).thenReturn(List.of(projectId));
+
+        String csv = """
+                projectId,description,startTime,endTime
+                %s,"Reunião, diária",2026-01-10T10:00:00Z,2026-01-10T10:30:00Z
+                %s,Invertida,2026-01-10T12:00:00Z,2026-01-10T11:00:00Z
+                %s,Alheio,2026-01-10T13:00:00Z,2026-01-10T14:00:00Z
+                """.formatted(projectId, projectId, foreignProject);
+
+        TimeEntryImportResponseDTO result = importService.importEntries(
+                stream(csv), TimeEntryFileFormat.CSV, tenantId, userId);
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.errors()).extracting(TimeEntryImportErrorDTO::line).containsExactly(3L, 4L);
+        verify(projectRepository, times(1)).findIdsByTenantIdAndIdIn(eq(tenantId), anyCollection());
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        verify(rollupService).addDaily(tenantId, projectId, userId,
+                Map.of(LocalDate.parse("2026-01-10"), 30 * 60 * 1000L));
+    }
+
+    @Test
+    @DisplayName("importEntries NDJSON: deve rejeitar linha malformada sem interromper a importação")
+    void importNdjson_malformedLine() {
+        when(projectRepository.findIdsByTenantIdAndIdIn(eq(tenantId), anyCollection())).thenReturn(List.of(projectId));
+
+        String ndjson = """
+                {"projectId":"%s","description":"Deploy","startTime":"2026-01-10T10:00:00Z","endTime":"2026-01-10T11:00:00Z"}
+                {isto não é json}
+                """.formatted(projectId);
+
+        TimeEntryImportResponseDTO result = importService.importEntries(
+                stream(ndjson), TimeEntryFileFormat.NDJSON, tenantId, userId);
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(result.errors().get(0).message()).isEqualTo("Linha malformada");
+    }
+
+    @Test
+    @DisplayName("importEntries CSV: deve pular o cabeçalho só na primeira linha")
+    void importCsv_headerOnlyOnFirstLine() {
+        when(projectRepository.findIdsByTenantIdAndIdIn(eq(tenantId), anyCollection())).thenReturn(List.of(projectId));
+
+        String csv = """
+                projectId,description,startTime,endTime
+                %s,Deploy,2026-01-10T10:00:00Z,2026-01-10T11:00:00Z
+                projectId,description,startTime,endTime
+                """.formatted(projectId);
+
+        TimeEntryImportResponseDTO result = importService.importEntries(
+                stream(csv), TimeEntryFileFormat.CSV, tenantId, userId);
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(result.errors()).extracting(TimeEntryImportErrorDTO::line).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("importEntries: violação de sobreposição no lote deve virar TimeEntryOverlapException")
+    void importEntries_overlapViolation() {
+        when(projectRepository.findIdsByTenantIdAndIdIn(eq(tenantId), anyCollection())).thenReturn(List.of(projectId));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DataIntegrityViolationException("overlap",
+                        new SQLException("conflicting key value violates exclusion constraint", "23P01")));
+
+        String ndjson = """
+                {"projectId":"%s","description":"Deploy","startTime":"2026-01-10T10:00:00Z","endTime":"2026-01-10T11:00:00Z"}
+                """.formatted(projectId);
+
+        assertThatThrownBy(() -> importService.importEntries(
+                stream(ndjson), TimeEntryFileFormat.NDJSON, tenantId, userId))
+                .isInstanceOf(TimeEntryOverlapException.class);
+        verify(rollupService, never()).addDaily(any(), any(), any(), any());
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
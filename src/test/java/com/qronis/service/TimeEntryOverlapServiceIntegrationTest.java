@@ -0,0 +1,98 @@
+package com.qronis.service;
+
+import com.qronis.AbstractIntegrationTest;
+import com.qronis.TrackerFixture;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.api.dto.TimeEntryOverlapDTO;
+import com.qronis.modules.tracker.application.TimeEntryOverlapService;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.modules.tracker.domain.exception.TimeEntryOverlapException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TrackerFixture.class)
+class TimeEntryOverlapServiceIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Instant BASE = Instant.parse("2026-03-02T09:00:00Z");
+
+    @Autowired
+    private TrackerFixture fixture;
+
+    @Autowired
+    private TimeEntryOverlapService overlapService;
+
+    private TrackerFixture.Workspace workspace;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        workspace = fixture.workspace();
+        user = workspace.owner();
+        project = workspace.project();
+    }
+
+    @Test
+    @DisplayName("overlaps: deve listar cada par sobreposto uma vez")
+    void findOverlaps_pairsOnce() {
+        TimeEntry first = entry(0, 2);
+        TimeEntry second = entry(1, 3);
+        entry(3, 4);
+
+        List<TimeEntryOverlapDTO> overlaps = overlapService.findOverlaps(
+                user.getId(), BASE.minus(1, ChronoUnit.DAYS), BASE.plus(1, ChronoUnit.DAYS));
+
+        assertThat(overlaps).containsExactly(new TimeEntryOverlapDTO(first.getId(), second.getId(),
+                BASE.plus(1, ChronoUnit.HOURS), BASE.plus(2, ChronoUnit.HOURS)));
+    }
+
+    @Test
+    @DisplayName("overlap protection: deve barrar sobreposição no banco quando ativa no tenant")
+    void overlapProtection_rejectsOverlap() {
+        entry(0, 2);
+        overlapService.setProtection(workspace.tenantId(), true);
+
+        // Encostar no fim ([start, end)) não é sobreposição
+        entry(2, 3);
+
+        assertThatThrownBy(() -> fixture.entry(project, user,
+                BASE.plus(1, ChronoUnit.HOURS), BASE.plus(90, ChronoUnit.MINUTES)))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .satisfies(ex -> assertThat(TimeEntryOverlapService.isOverlapViolation(
+                        (DataIntegrityViolationException) ex)).isTrue());
+    }
+
+    @Test
+    @DisplayName("overlap protection: não deve ativar com sobreposições existentes")
+    void overlapProtection_existingOverlaps() {
+        entry(0, 2);
+        entry(1, 3);
+
+        assertThatThrownBy(() -> overlapService.setProtection(workspace.tenantId(), true))
+                .isInstanceOf(TimeEntryOverlapException.class);
+    }
+
+    private TimeEntry entry(int startHour, int endHour) {
+        return fixture.entry(project, user,
+                BASE.plus(startHour, ChronoUnit.HOURS), BASE.plus(endHour, ChronoUnit.HOURS));
+    }
+}
@@ -0,0 +1,89 @@
+package com.qronis.service;
+
+import com.qronis.AbstractIntegrationTest;
+import com.qronis.TrackerFixture;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.application.TimeEntryPartitionMaintainer;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TrackerFixture.class)
+class TimeEntryPartitionMaintainerIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TrackerFixture fixture;
+
+    @Autowired
+    private TimeEntryPartitionMaintainer maintainer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TrackerFixture.Workspace workspace = fixture.workspace();
+        user = workspace.owner();
+        project = workspace.project();
+    }
+
+    @Test
+    @DisplayName("create_time_entry_partitions: deve ser idempotente para os meses já criados")
+    void createPartitions_idempotent() {
+        jdbcTemplate.queryForObject("SELECT create_time_entry_partitions(CAST(now() AS date), 3)", Integer.class);
+
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT create_time_entry_partitions(CAST(now() AS date), 3)", Integer.class);
+        Integer partitions = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_inherits WHERE inhparent = CAST('time_entry' AS regclass)", Integer.class);
+
+        assertThat(created).isZero();
+        assertThat(partitions).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("createUpcomingPartitions: deve criar a partição de um mês parado na DEFAULT e mover as linhas")
+    void createUpcomingPartitions_movesDefaultRows() {
+        TimeEntry closed = fixture.entry(project, user, Instant.parse("1990-01-15T09:00:00Z"),
+                Instant.parse("1990-01-15T10:00:00Z"));
+        TimeEntry running = fixture.entry(project, user, Instant.parse("1990-01-20T09:00:00Z"), null);
+        assertThat(partitionOf(closed)).isEqualTo("time_entry_default");
+
+        maintainer.createUpcomingPartitions();
+
+        assertThat(partitionOf(closed)).isEqualTo("time_entry_y1990m01");
+        assertThat(partitionOf(running)).isEqualTo("time_entry_y1990m01");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM time_entry_default WHERE start_time < CAST('1990-02-01' AS timestamptz)",
+                Integer.class)).isZero();
+        // Nenhum trigger disparou na mudança: o timer ativo continua registrado
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT time_entry_id FROM time_entry_active WHERE user_id = ?", UUID.class, user.getId()))
+                .isEqualTo(running.getId());
+    }
+
+    private String partitionOf(TimeEntry entry) {
+        return jdbcTemplate.queryForObject(
+                "SELECT CAST(tableoid AS regclass)::text FROM time_entry WHERE id = ?", String.class, entry.getId());
+    }
+}
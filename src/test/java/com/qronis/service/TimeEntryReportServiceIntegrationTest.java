@@ -0,0 +1,78 @@
+package com.qronis.service;
+
+import com.qronis.AbstractIntegrationTest;
+import com.qronis.TrackerFixture;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.api.dto.TimeEntryReportResponseDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryReportRowDTO;
+import com.qronis.modules.tracker.application.ReportGranularity;
+import com.qronis.modules.tracker.application.TimeEntryReportService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TrackerFixture.class)
+class TimeEntryReportServiceIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TrackerFixture fixture;
+
+    @Autowired
+    private TimeEntryReportService reportService;
+
+    private TrackerFixture.Workspace workspace;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        workspace = fixture.workspace();
+        user = workspace.owner();
+        project = workspace.project();
+    }
+
+    @Test
+    @DisplayName("report: deve limitar a leitura ao período sem perder entries longas nem as da véspera")
+    void report_boundedScanKeepsLongAndBoundaryEntries() {
+        // Começa cinco dias antes do período: só o ramo de entries longas (índice da V12) a alcança
+        entry("2026-03-05T00:00:00Z", "2026-03-10T06:00:00Z");
+        entry("2026-03-11T10:00:00Z", "2026-03-11T12:00:00Z");
+        // Começa na véspera, dentro da folga de um dia; a outra termina antes do período
+        entry("2026-03-20T10:00:00Z", "2026-03-20T11:00:00Z");
+        entry("2026-03-20T23:00:00Z", "2026-03-21T01:00:00Z");
+
+        TimeEntryReportResponseDTO longEntries = reportService.report(workspace.tenantId(), user.getId(),
+                ReportGranularity.DAY, LocalDate.parse("2026-03-10"), LocalDate.parse("2026-03-12"));
+        TimeEntryReportResponseDTO boundary = reportService.report(workspace.tenantId(), user.getId(),
+                ReportGranularity.DAY, LocalDate.parse("2026-03-21"), LocalDate.parse("2026-03-22"));
+
+        assertThat(longEntries.rows())
+                .extracting(TimeEntryReportRowDTO::period, TimeEntryReportRowDTO::durationSeconds)
+                .containsExactly(
+                        tuple(LocalDate.parse("2026-03-10"), 6 * 60 * 60L),
+                        tuple(LocalDate.parse("2026-03-11"), 2 * 60 * 60L));
+        assertThat(boundary.rows())
+                .extracting(TimeEntryReportRowDTO::period, TimeEntryReportRowDTO::durationSeconds)
+                .containsExactly(tuple(LocalDate.parse("2026-03-21"), 60 * 60L));
+    }
+
+    private void entry(String start, String end) {
+        fixture.entry(project, user, Instant.parse(start), Instant.parse(end));
+    }
+}
@@ -0,0 +1,123 @@
+package com.qronis.service;
+
+import com.qronis.modules.identity.application.repositories.UserRepository;
+import com.qronis.modules.tracker.api.dto.TimeEntryReportResponseDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryReportRowDTO;
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.application.ReportGranularity;
+import com.qronis.modules.tracker.application.TimeEntryArchive;
+import com.qronis.modules.tracker.application.TimeEntryReportService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimeEntryReportServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TimeEntryArchive archive;
+
+    @InjectMocks
+    private TimeEntryReportService reportService;
+
+    private UUID tenantId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("report: deve converter o período local para instantes no fuso do usuário")
+    void report_usesUserZone() {
+        when(userRepository.findTimezoneById(userId)).thenReturn(Optional.of("America/Sao_Paulo"));
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        TimeEntryReportResponseDTO result = reportService.report(tenantId, userId, ReportGranularity.MONTH,
+                LocalDate.parse("2026-01-01"), LocalDate.parse("2027-01-01"));
+
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate).query(anyString(), params.capture(), any(RowMapper.class));
+
+        assertThat(result.timezone()).isEqualTo("America/Sao_Paulo");
+        assertThat(params.getValue().getValue("unit")).isEqualTo("month");
+        assertThat(((OffsetDateTime) params.getValue().getValue("fromInstant")).toInstant())
+                .isEqualTo(Instant.parse("2026-01-01T03:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("report: deve somar entries arquivadas, divididas na meia-noite local")
+    void report_mergesArchivedEntries() {
+        UUID projectId = UUID.randomUUID();
+        when(userRepository.findTimezoneById(userId)).thenReturn(Optional.of("America/Sao_Paulo"));
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(new TimeEntryReportRowDTO(LocalDate.parse("2023-03-10"), projectId, "Alpha", 600)));
+        // 23:00 às 01:00 em São Paulo: uma hora em cada dia
+        when(archive.findOverlapping(eq(tenantId), eq(userId), any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of(new TimeEntryResponseDTO(UUID.randomUUID(), null,
+                        Instant.parse("2023-03-11T02:00:00Z"), Instant.parse("2023-03-11T04:00:00Z"),
+                        projectId, "Alpha", Instant.parse("2023-03-11T04:00:00Z"))));
+
+        TimeEntryReportResponseDTO result = reportService.report(tenantId, userId, ReportGranularity.DAY,
+                LocalDate.parse("2023-03-10"), LocalDate.parse("2023-03-12"));
+
+        assertThat(result.rows()).containsExactly(
+                new TimeEntryReportRowDTO(LocalDate.parse("2023-03-10"), projectId, "Alpha", 600 + 3600),
+                new TimeEntryReportRowDTO(LocalDate.parse("2023-03-11"), projectId, "Alpha", 3600));
+    }
+
+    @Test
+    @DisplayName("report: deve usar UTC quando o fuso salvo é inválido")
+    void report_invalidZoneFallsBackToUtc() {
+        when(userRepository.findTimezoneById(userId)).thenReturn(Optional.of("Marte/Olympus"));
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        TimeEntryReportResponseDTO result = reportService.report(tenantId, userId, ReportGranularity.DAY,
+                LocalDate.parse("2026-03-02"), LocalDate.parse("2026-03-09"));
+
+        assertThat(result.timezone()).isEqualTo("UTC");
+    }
+
+    @Test
+    @DisplayName("report: deve rejeitar período invertido ou acima do limite")
+    void report_invalidRange() {
+        assertThatThrownBy(() -> reportService.report(tenantId, userId, ReportGranularity.DAY,
+                LocalDate.parse("2026-03-09"), LocalDate.parse("2026-03-02")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reportService.report(tenantId, userId, ReportGranularity.MONTH,
+                LocalDate.parse("2020-01-01"), LocalDate.parse("2026-01-01")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.qronis.service;
+
+import com.qronis.modules.identity.domain.entity.Tenant;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.application.TimeEntryRollupDelta;
+import com.qronis.modules.tracker.application.TimeEntryRollupService;
+import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TimeEntryRollupServiceTest {
+
+    @Mock
+    private TimeEntryRepository timeEntryRepository;
+
+    @InjectMocks
+    private TimeEntryRollupService rollupService;
+
+    private UUID tenantId;
+    private UUID userId;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+
+        Tenant tenant = new Tenant("Qronis");
+        tenant.setId(tenantId);
+
+        User user = new User();
+        user.setId(userId);
+
+        project = new Project("Projeto Alpha", tenant, user);
+        project.setId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("splitByUtcDay: deve dividir a entry na meia-noite UTC")
+    void splitByUtcDay_crossesMidnight() {
+        Map<LocalDate, Long> result = TimeEntryRollupService.splitByUtcDay(
+                Instant.parse("2026-01-10T23:30:00Z"), Instant.parse("2026-01-11T01:00:00Z"));
+
+        assertThat(result).containsExactly(
+                entry(LocalDate.parse("2026-01-10"), 30 * 60 * 1000L),
+                entry(LocalDate.parse("2026-01-11"), 60 * 60 * 1000L));
+    }
+
+    @Test
+    @DisplayName("subtract: deve aplicar delta negativo em cada dia coberto")
+    void subtract_negativeDeltaPerDay() {
+        rollupService.subtract(project, userId,
+                Instant.parse("2026-01-10T23:00:00Z"), Instant.parse("2026-01-11T00:30:00Z"));
+
+        verify(timeEntryRepository).addToDailyRollup(tenantId, project.getId(), userId,
+                LocalDate.parse("2026-01-10"), -60 * 60 * 1000L);
+        verify(timeEntryRepository).addToDailyRollup(tenantId, project.getId(), userId,
+                LocalDate.parse("2026-01-11"), -30 * 60 * 1000L);
+    }
+
+    @Test
+    @DisplayName("apply: deve gravar a variação líquida de cada dia e pular as que se anulam")
+    void apply_netDeltaPerDay() {
+        TimeEntryRollupDelta delta = new TimeEntryRollupDelta();
+        delta.subtract(project, userId, Instant.parse("2026-01-10T09:00:00Z"), Instant.parse("2026-01-10T10:00:00Z"));
+        delta.add(project, userId, Instant.parse("2026-01-10T09:30:00Z"), Instant.parse("2026-01-10T10:00:00Z"));
+        delta.add(project, userId, Instant.parse("2026-01-11T08:00:00Z"), Instant.parse("2026-01-11T09:00:00Z"));
+        delta.subtract(project, userId, Instant.parse("2026-01-11T08:00:00Z"), Instant.parse("2026-01-11T09:00:00Z"));
+
+        rollupService.apply(delta);
+
+        verify(timeEntryRepository).addToDailyRollup(tenantId, project.getId(), userId,
+                LocalDate.parse("2026-01-10"), -30 * 60 * 1000L);
+        verifyNoMoreInteractions(timeEntryRepository);
+    }
+
+    @Test
+    @DisplayName("add: deve ignorar entry ativa")
+    void add_activeEntryIgnored() {
+        rollupService.add(project, userId, Instant.now(), null);
+
+        verifyNoInteractions(timeEntryRepository);
+    }
+}
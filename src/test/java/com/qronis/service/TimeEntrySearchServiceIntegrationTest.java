@@ -0,0 +1,78 @@
+package com.qronis.service;
+
+import com.qronis.AbstractIntegrationTest;
+import com.qronis.TrackerFixture;
+import com.qronis.modules.identity.domain.entity.User;
+import com.qronis.modules.project.domain.entity.Project;
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.application.TimeEntryRange;
+import com.qronis.modules.tracker.application.TimeEntrySearchCursor;
+import com.qronis.modules.tracker.application.TimeEntrySearchService;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+import com.qronis.shared.pagination.CursorPageResponseDTO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TrackerFixture.class)
+class TimeEntrySearchServiceIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TrackerFixture fixture;
+
+    @Autowired
+    private TimeEntrySearchService searchService;
+
+    private TrackerFixture.Workspace workspace;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        workspace = fixture.workspace();
+        user = workspace.owner();
+        project = workspace.project();
+    }
+
+    @Test
+    @DisplayName("search: deve ranquear por relevância e paginar por keyset sem repetir resultados")
+    void search_rankedKeyset() {
+        Instant base = Instant.parse("2026-03-02T09:00:00Z");
+        TimeEntry both = fixture.entry(project, user, base, base.plus(1, ChronoUnit.HOURS),
+                "Bug no login: corrigir bug de sessão expirada");
+        TimeEntry single = fixture.entry(project, user, base.plus(2, ChronoUnit.HOURS), base.plus(3, ChronoUnit.HOURS),
+                "Investigar bug no relatório");
+        fixture.entry(project, user, base.plus(4, ChronoUnit.HOURS), base.plus(5, ChronoUnit.HOURS),
+                "Reunião de planejamento");
+
+        CursorPageResponseDTO<TimeEntryResponseDTO> first = searchService.search(
+                workspace.tenantId(), user.getId(), "login bug", TimeEntryRange.UNBOUNDED,
+                TimeEntrySearchCursor.FIRST, 1);
+        CursorPageResponseDTO<TimeEntryResponseDTO> second = searchService.search(
+                workspace.tenantId(), user.getId(), "bug", TimeEntryRange.UNBOUNDED, TimeEntrySearchCursor.FIRST, 1);
+        CursorPageResponseDTO<TimeEntryResponseDTO> last = searchService.search(
+                workspace.tenantId(), user.getId(), "bug", TimeEntryRange.UNBOUNDED,
+                TimeEntrySearchCursor.decode(second.nextCursor()), 1);
+
+        assertThat(first.content()).extracting(TimeEntryResponseDTO::id).containsExactly(both.getId());
+        assertThat(first.nextCursor()).isNull();
+        assertThat(second.content()).extracting(TimeEntryResponseDTO::id).containsExactly(both.getId());
+        assertThat(second.nextCursor()).isNotNull();
+        assertThat(last.content()).extracting(TimeEntryResponseDTO::id).containsExactly(single.getId());
+        assertThat(last.nextCursor()).isNull();
+    }
+}
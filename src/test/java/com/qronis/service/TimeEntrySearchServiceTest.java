@@ -0,0 +1,91 @@
+package com.qronis.service;
+
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.application.TimeEntryRange;
+import com.qronis.modules.tracker.application.TimeEntrySearchCursor;
+import com.qronis.modules.tracker.application.TimeEntrySearchService;
+import com.qronis.modules.tracker.domain.exception.InvalidCursorException;
+import com.qronis.shared.pagination.CursorPageResponseDTO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimeEntrySearchServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TimeEntrySearchService searchService;
+
+    private UUID tenantId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("search: deve rejeitar texto vazio sem consultar o banco")
+    void search_blankQuery() {
+        assertThatThrownBy(() -> searchService.search(tenantId, userId, "   ",
+                TimeEntryRange.UNBOUNDED, TimeEntrySearchCursor.FIRST, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("search: deve limitar o tamanho da página e pedir uma linha a mais")
+    void search_clampsSize() {
+        when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+
+        CursorPageResponseDTO<TimeEntryResponseDTO> page = searchService.search(tenantId, userId, " bug login ",
+                TimeEntryRange.UNBOUNDED, TimeEntrySearchCursor.FIRST, 5000);
+
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate).query(anyString(), params.capture(), any(RowMapper.class));
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+        assertThat(params.getValue().getValue("limit")).isEqualTo(101);
+        assertThat(params.getValue().getValue("query")).isEqualTo("bug login");
+    }
+
+    @Test
+    @DisplayName("TimeEntrySearchCursor: deve preservar o rank exato no token opaco")
+    void searchCursor_roundTrip() {
+        TimeEntrySearchCursor cursor = new TimeEntrySearchCursor(
+                0.1f / 3, Instant.parse("2026-03-01T10:15:30.123456Z"), UUID.randomUUID());
+
+        assertThat(TimeEntrySearchCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(TimeEntrySearchCursor.decode(null)).isEqualTo(TimeEntrySearchCursor.FIRST);
+        assertThatThrownBy(() -> TimeEntrySearchCursor.decode("nao-e-um-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,93 @@
+package com.qronis.service;
+
+import com.qronis.modules.tracker.application.ArchivedTimeEntry;
+import com.qronis.modules.tracker.application.TimeEntrySegmentCodec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeEntrySegmentCodecTest {
+
+    @Test
+    @DisplayName("codec: deve devolver as mesmas linhas, ordenadas por início")
+    void roundTrip_sortedByStart() throws IOException {
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        Instant base = Instant.parse("2023-03-01T08:00:00Z");
+        ArchivedTimeEntry later = new ArchivedTimeEntry(UUID.randomUUID(), userId, projectId, "Deploy, \"prod\"",
+                base.plus(2, ChronoUnit.HOURS), base.plus(3, ChronoUnit.HOURS), base.plus(4, ChronoUnit.HOURS));
+        // created_at antes do início: lançamento manual com data futura
+        ArchivedTimeEntry earlier = new ArchivedTimeEntry(UUID.randomUUID(), userId, UUID.randomUUID(), null,
+                base, base.plus(90, ChronoUnit.MINUTES), base.minus(1, ChronoUnit.DAYS));
+
+        List<ArchivedTimeEntry> read = roundTrip(List.of(later, earlier));
+
+        assertThat(read).containsExactly(earlier, later);
+    }
+
+    @Test
+    @DisplayName("codec: deve preservar os microssegundos do banco")
+    void roundTrip_microsecondPrecision() throws IOException {
+        Instant start = Instant.parse("2023-03-10T10:00:00.123456Z");
+        ArchivedTimeEntry entry = new ArchivedTimeEntry(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                "Deploy", start, start.plusNanos(654_321_000L), Instant.parse("2023-03-09T23:59:59.999999Z"));
+
+        List<ArchivedTimeEntry> read = roundTrip(List.of(entry));
+
+        assertThat(read).containsExactly(entry);
+    }
+
+    @Test
+    @DisplayName("codec: deve repetir dicionários de projeto, usuário e descrição em um mês cheio")
+    void roundTrip_dictionaries() throws IOException {
+        List<UUID> users = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> projects = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        Instant base = Instant.parse("2023-03-01T00:00:00Z");
+        List<ArchivedTimeEntry> rows = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            Instant start = base.plus(i * 7L, ChronoUnit.MINUTES);
+            rows.add(new ArchivedTimeEntry(UUID.randomUUID(), users.get(i % 2), projects.get(i % 3),
+                    i % 5 == 0 ? null : "Tarefa " + (i % 40),
+                    start, start.plus(5, ChronoUnit.MINUTES), start.plus(6, ChronoUnit.MINUTES)));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TimeEntrySegmentCodec.write(rows, out);
+        List<ArchivedTimeEntry> read = TimeEntrySegmentCodec.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(read).containsExactlyElementsOf(rows);
+        // Os ids aleatórios (16 bytes) dominam: o resto da linha cabe em poucos bytes
+        assertThat(out.size()).isLessThan(rows.size() * 24);
+    }
+
+    @Test
+    @DisplayName("codec: deve rejeitar arquivo que não é segmento")
+    void read_invalidMagic() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(new byte[] { 1, 2, 3, 4, 5 });
+        }
+
+        assertThatThrownBy(() -> TimeEntrySegmentCodec.read(new ByteArrayInputStream(out.toByteArray())))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static List<ArchivedTimeEntry> roundTrip(List<ArchivedTimeEntry> rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TimeEntrySegmentCodec.write(rows, out);
+        return TimeEntrySegmentCodec.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
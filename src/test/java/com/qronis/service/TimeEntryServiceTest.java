@@ -1,11 +1,28 @@
 package com.qronis.service;
 
+import com.qronis.modules.tracker.api.dto.TimeEntryBatchPatchItemDTO;
 import com.qronis.modules.tracker.api.dto.TimeEntryPatchRequestDTO;
+import com.qronis.modules.tracker.application.ActiveTimer;
+import com.qronis.modules.tracker.application.ActiveTimerRegistry;
+import com.qronis.modules.tracker.application.DescriptionSuggestionCache;
+import com.qronis.modules.tracker.application.TimeEntryAnalyticsService;
+import com.qronis.modules.tracker.application.TimeEntryArchive;
+import com.qronis.modules.tracker.application.TimeEntryCursor;
+import com.qronis.modules.tracker.application.TimeEntryPatchResult;
+import com.qronis.modules.tracker.application.TimeEntryPatchStatus;
+import com.qronis.modules.tracker.application.TimeEntryRange;
+import com.qronis.modules.tracker.application.TimeEntryRollupDelta;
+import com.qronis.modules.tracker.application.TimeEntryRollupService;
 import com.qronis.modules.tracker.application.TimeEntryService;
+import com.qronis.modules.tracker.application.TimeEntrySwitchResult;
+import com.qronis.modules.tracker.application.TimerEventRegistry;
+import com.qronis.modules.tracker.application.TimerEventType;
 import com.qronis.modules.tracker.domain.entity.TimeEntry;
 import com.qronis.modules.tracker.domain.exception.ActiveTimerConflictException;
+import com.qronis.modules.tracker.domain.exception.InvalidCursorException;
 import com.qronis.modules.tracker.domain.exception.InvalidTimeBoundsException;
 import com.qronis.modules.tracker.domain.exception.TimeEntryNotFoundException;
+import com.qronis.modules.tracker.domain.exception.TimeEntryOverlapException;
 import com.qronis.modules.tracker.application.repositories.TimeEntryRepository;
 import com.qronis.modules.project.domain.entity.Project;
 import com.qronis.modules.project.application.ProjectService;
@@ -16,20 +33,33 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import java.sql.SQLException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +69,18 @@ class TimeEntryServiceTest {
     private TimeEntryRepository timeEntryRepository;
     @Mock
     private ProjectService projectService;
+    @Mock
+    private ActiveTimerRegistry activeTimerRegistry;
+    @Mock
+    private TimeEntryRollupService rollupService;
+    @Mock
+    private TimerEventRegistry timerEventRegistry;
+    @Mock
+    private DescriptionSuggestionCache suggestionCache;
+    @Mock
+    private TimeEntryArchive archive;
+    @Mock
+    private TimeEntryAnalyticsService analyticsService;
 
     @InjectMocks
     private TimeEntryService timeEntryService;
@@ -71,8 +113,7 @@ class TimeEntryServiceTest {
     @DisplayName("start: deve iniciar timer com sucesso")
     void start_success() {
         when(projectService.findByIdAndTenantId(projectId, tenantId)).thenReturn(project);
-        when(timeEntryRepository.findActiveByUserId(userId)).thenReturn(Optional.empty());
-        when(timeEntryRepository.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(timeEntryRepository.saveAndFlush(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
 
         TimeEntry entry = timeEntryService.start(projectId, "Feature X", tenantId, userId);
 
@@ -80,22 +121,64 @@ class TimeEntryServiceTest {
         assertThat(entry.getEndTime()).isNull();
         assertThat(entry.getDescription()).isEqualTo("Feature X");
         assertThat(entry.getProject()).isEqualTo(project);
+        verify(activeTimerRegistry).register(any(ActiveTimer.class));
+        verify(timerEventRegistry).publish(userId, TimerEventType.STARTED, entry);
     }
 
     @Test
-    @DisplayName("start: deve rejeitar se já existe timer ativo")
+    @DisplayName("start: deve rejeitar se o índice único acusar timer ativo")
     void start_activeTimerExists() {
-        TimeEntry active = new TimeEntry();
-        active.setStartTime(Instant.now());
-
         when(projectService.findByIdAndTenantId(projectId, tenantId)).thenReturn(project);
-        when(timeEntryRepository.findActiveByUserId(userId)).thenReturn(Optional.of(active));
+        when(timeEntryRepository.saveAndFlush(any(TimeEntry.class)))
+                .thenThrow(new DataIntegrityViolationException("time_entry_active_pkey", new SQLException(
+                        "duplicate key value violates unique constraint \"time_entry_active_pkey\"", "23505")));
 
         assertThatThrownBy(() -> timeEntryService.start(projectId, "Feature X", tenantId, userId))
                 .isInstanceOf(ActiveTimerConflictException.class)
                 .hasMessageContaining("timer ativo");
 
-        verify(timeEntryRepository, never()).save(any());
+        verify(activeTimerRegistry, never()).register(any());
+        verifyNoInteractions(timerEventRegistry);
+    }
+
+    @Test
+    @DisplayName("start: outras violações de integridade não devem virar conflito de timer")
+    void start_otherIntegrityViolation() {
+        when(projectService.findByIdAndTenantId(projectId, tenantId)).thenReturn(project);
+        when(timeEntryRepository.saveAndFlush(any(TimeEntry.class))).thenThrow(new DataIntegrityViolationException(
+                "fk_time_entry_user", new SQLException("violates foreign key constraint", "23503")));
+
+        assertThatThrownBy(() -> timeEntryService.start(projectId, "Feature X", tenantId, userId))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .isNotInstanceOf(ActiveTimerConflictException.class);
+        verifyNoInteractions(activeTimerRegistry);
+    }
+
+    // --- ACTIVE ---
+
+    @Test
+    @DisplayName("findActive: deve responder a partir do registro em memória")
+    void findActive_fromRegistry() {
+        ActiveTimer timer = new ActiveTimer(UUID.randomUUID(), userId, tenantId, projectId,
+                "Projeto Alpha", "Feature X", Instant.now(), Instant.now());
+        when(activeTimerRegistry.find(userId)).thenReturn(Optional.of(timer));
+
+        Optional<ActiveTimer> result = timeEntryService.findActive(userId);
+
+        assertThat(result).contains(timer);
+        verify(timeEntryRepository, never()).findActiveByUserId(any());
+    }
+
+    @Test
+    @DisplayName("start: deve mapear violação da restrição de sobreposição para erro tipado")
+    void start_overlapViolation() {
+        when(projectService.findByIdAndTenantId(projectId, tenantId)).thenReturn(project);
+        when(timeEntryRepository.saveAndFlush(any(TimeEntry.class))).thenThrow(new DataIntegrityViolationException(
+                "time_entry_span_no_overlap", new SQLException("conflicting key value", "23P01")));
+
+        assertThatThrownBy(() -> timeEntryService.start(projectId, null, tenantId, userId))
+                .isInstanceOf(TimeEntryOverlapException.class);
+        verifyNoInteractions(activeTimerRegistry);
     }
 
     // --- STOP ---
@@ -103,29 +186,119 @@ class TimeEntryServiceTest {
     @Test
     @DisplayName("stop: deve parar timer ativo")
     void stop_success() {
-        TimeEntry active = new TimeEntry();
-        active.setStartTime(Instant.now().minus(1, ChronoUnit.HOURS));
-        active.setCreatedBy(user);
-
-        when(timeEntryRepository.findActiveByUserId(userId)).thenReturn(Optional.of(active));
-        when(timeEntryRepository.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        Instant start = Instant.now().minus(1, ChronoUnit.HOURS);
+        when(timeEntryRepository.stopActiveByUserId(eq(userId), any(Instant.class))).thenAnswer(inv -> {
+            TimeEntry stopped = new TimeEntry();
+            stopped.setStartTime(start);
+            stopped.setEndTime(inv.getArgument(1));
+            stopped.setCreatedBy(user);
+            return Optional.of(stopped);
+        });
 
         TimeEntry result = timeEntryService.stop(userId);
 
         assertThat(result.getEndTime()).isNotNull();
         assertThat(result.getEndTime()).isAfter(result.getStartTime());
+        verify(timeEntryRepository, never()).findActiveByUserId(any());
+        verify(timeEntryRepository, never()).save(any(TimeEntry.class));
+        verify(rollupService).add(result);
+        verify(activeTimerRegistry).unregister(eq(userId), any());
+        verify(timerEventRegistry).publish(userId, TimerEventType.STOPPED, result);
     }
 
     @Test
     @DisplayName("stop: deve lançar exceção se não há timer ativo")
     void stop_noActiveTimer() {
-        when(timeEntryRepository.findActiveByUserId(userId)).thenReturn(Optional.empty());
+        when(timeEntryRepository.stopActiveByUserId(eq(userId), any(Instant.class))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> timeEntryService.stop(userId))
                 .isInstanceOf(TimeEntryNotFoundException.class)
                 .hasMessageContaining("Nenhum timer ativo");
     }
 
+    // --- SWITCH ---
+
+    @Test
+    @DisplayName("switchTo: deve encerrar o timer ativo e iniciar o novo no mesmo instante")
+    void switchTo_stopsAndStarts() {
+        Instant start = Instant.now().minus(1, ChronoUnit.HOURS);
+        when(projectService.findByIdAndTenantId(projectId, tenantId)).thenReturn(project);
+        when(timeEntryRepository.stopActiveByUserId(eq(userId), any(Instant.class))).thenAnswer(inv -> {
+            TimeEntry stopped = new TimeEntry();
+            stopped.setId(UUID.randomUUID());
+            stopped.setStartTime(start);
+            stopped.setEndTime(inv.getArgument(1));
+            stopped.setCreatedBy(user);
+            return Optional.of(stopped);
+        });
+        when(timeEntryRepository.saveAndFlush(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TimeEntrySwitchResult result = timeEntryService.switchTo(projectId, "Code review", tenantId, userId);
+
+        assertThat(result.stopped().getEndTime()).isEqualTo(result.started().getStartTime());
+        assertThat(result.started().getProject()).isEqualTo(project);
+        assertThat(result.started().getEndTime()).isNull();
+        verify(rollupService).add(result.stopped());
+        verify(activeTimerRegistry).unregister(userId, result.stopped().getId());
+        verify(activeTimerRegistry).register(any(ActiveTimer.class));
+        verify(timerEventRegistry).publish(userId, TimerEventType.STOPPED, result.stopped());
+        verify(timerEventRegistry).publish(userId, TimerEventType.STARTED, result.started());
+    }
+
+    @Test
+    @DisplayName("switchTo: deve apenas iniciar quando não há timer ativo")
+    void switchTo_noActiveTimer() {
+        when(projectService.findByIdAndTenantId(projectId, tenantId)).thenReturn(project);
+        when(timeEntryRepository.stopActiveByUserId(eq(userId), any(Instant.class))).thenReturn(Optional.empty());
+        when(timeEntryRepository.saveAndFlush(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TimeEntrySwitchResult result = timeEntryService.switchTo(projectId, null, tenantId, userId);
+
+        assertThat(result.stopped()).isNull();
+        assertThat(result.started().getProject()).isEqualTo(project);
+        verifyNoInteractions(rollupService);
+    }
+
+    // --- HISTORY (CURSOR) ---
+
+    @Test
+    @DisplayName("findByUserIdAfterCursor: deve limitar o tamanho da página")
+    void findByUserIdAfterCursor_clampsSize() {
+        TimeEntryCursor cursor = TimeEntryCursor.FIRST;
+        TimeEntryRange range = TimeEntryRange.UNBOUNDED;
+        when(timeEntryRepository.findResponsesByUserIdAfterCursor(userId, cursor.startTime(), cursor.id(),
+                range.from(), range.to(), PageRequest.of(0, 100)))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        timeEntryService.findByUserIdAfterCursor(userId, null, range, cursor, 5000);
+
+        verify(timeEntryRepository).findResponsesByUserIdAfterCursor(userId, cursor.startTime(), cursor.id(),
+                range.from(), range.to(), PageRequest.of(0, 100));
+    }
+
+    @Test
+    @DisplayName("TimeEntryRange: deve preencher limites ausentes e rejeitar janela invertida")
+    void timeEntryRange_bounds() {
+        Instant from = Instant.parse("2026-03-02T00:00:00Z");
+        Instant to = Instant.parse("2026-03-09T00:00:00Z");
+
+        assertThat(TimeEntryRange.of(null, null)).isEqualTo(TimeEntryRange.UNBOUNDED);
+        assertThat(TimeEntryRange.of(from, to)).isEqualTo(new TimeEntryRange(from, to));
+        assertThatThrownBy(() -> TimeEntryRange.of(to, from))
+                .isInstanceOf(InvalidTimeBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("TimeEntryCursor: deve codificar e decodificar o token opaco e rejeitar token inválido")
+    void timeEntryCursor_roundTrip() {
+        TimeEntryCursor cursor = new TimeEntryCursor(Instant.parse("2026-03-01T10:15:30.123456Z"), UUID.randomUUID());
+
+        assertThat(TimeEntryCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(TimeEntryCursor.decode(null)).isEqualTo(TimeEntryCursor.FIRST);
+        assertThatThrownBy(() -> TimeEntryCursor.decode("nao-e-um-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
     // --- CREATE MANUAL ---
 
     @Test
@@ -141,6 +314,8 @@ class TimeEntryServiceTest {
 
         assertThat(entry.getStartTime()).isEqualTo(start);
         assertThat(entry.getEndTime()).isEqualTo(end);
+        verify(rollupService).add(entry);
+        verify(suggestionCache).record(entry);
     }
 
     @Test
@@ -174,6 +349,61 @@ class TimeEntryServiceTest {
         TimeEntry result = timeEntryService.patch(entry.getId(), request, tenantId, userId);
 
         assertThat(result.getDescription()).isEqualTo("Atualizada");
+        verifyNoInteractions(rollupService);
+    }
+
+    @Test
+    @DisplayName("patch: deve mover a duração antiga para a nova no rollup ao alterar os horários")
+    void patch_bounds_updatesRollup() {
+        Instant start = Instant.now().minus(2, ChronoUnit.HOURS);
+        Instant end = Instant.now();
+
+        TimeEntry entry = new TimeEntry();
+        entry.setId(UUID.randomUUID());
+        entry.setProject(project);
+        entry.setCreatedBy(user);
+        entry.setStartTime(start);
+        entry.setEndTime(end);
+
+        when(timeEntryRepository.findByIdAndCreatedByIdWithProject(entry.getId(), userId))
+                .thenReturn(Optional.of(entry));
+        when(timeEntryRepository.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        Instant newStart = start.minus(1, ChronoUnit.HOURS);
+        TimeEntryPatchRequestDTO request = new TimeEntryPatchRequestDTO(null, newStart, null, null);
+        TimeEntry result = timeEntryService.patch(entry.getId(), request, tenantId, userId);
+
+        TimeEntryRollupDelta expected = new TimeEntryRollupDelta();
+        expected.subtract(project, userId, start, end);
+        expected.add(result);
+        ArgumentCaptor<TimeEntryRollupDelta> rollup = ArgumentCaptor.forClass(TimeEntryRollupDelta.class);
+        InOrder order = inOrder(timeEntryRepository, rollupService);
+        order.verify(timeEntryRepository).flush();
+        order.verify(rollupService).apply(rollup.capture());
+        assertThat(rollup.getValue().millisByKey()).isEqualTo(expected.millisByKey());
+    }
+
+    @Test
+    @DisplayName("patch: deve mapear sobreposição barrada no flush para erro tipado")
+    void patch_overlapViolation() {
+        TimeEntry entry = new TimeEntry();
+        entry.setId(UUID.randomUUID());
+        entry.setCreatedBy(user);
+        entry.setStartTime(Instant.now().minus(2, ChronoUnit.HOURS));
+        entry.setEndTime(Instant.now());
+
+        when(timeEntryRepository.findByIdAndCreatedByIdWithProject(entry.getId(), userId))
+                .thenReturn(Optional.of(entry));
+        when(timeEntryRepository.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+        doThrow(new DataIntegrityViolationException(
+                "time_entry_span_no_overlap", new SQLException("conflicting key value", "23P01")))
+                .when(timeEntryRepository).flush();
+
+        TimeEntryPatchRequestDTO request = new TimeEntryPatchRequestDTO(
+                null, entry.getStartTime().minus(1, ChronoUnit.HOURS), null, null);
+
+        assertThatThrownBy(() -> timeEntryService.patch(entry.getId(), request, tenantId, userId))
+                .isInstanceOf(TimeEntryOverlapException.class);
     }
 
     @Test
@@ -196,6 +426,115 @@ class TimeEntryServiceTest {
                 .hasMessageContaining("posterior ao de início");
     }
 
+    // --- PATCH EM LOTE ---
+
+    @Test
+    @DisplayName("patchAll: deve carregar os alvos com uma query e reportar o resultado por item")
+    void patchAll_mixedResults() {
+        TimeEntry entry = new TimeEntry();
+        entry.setId(UUID.randomUUID());
+        entry.setProject(project);
+        entry.setCreatedBy(user);
+        entry.setStartTime(Instant.now().minus(2, ChronoUnit.HOURS));
+        entry.setEndTime(Instant.now());
+
+        TimeEntry other = new TimeEntry();
+        other.setId(UUID.randomUUID());
+        other.setProject(project);
+        other.setCreatedBy(user);
+        other.setStartTime(Instant.now().minus(1, ChronoUnit.HOURS));
+        other.setEndTime(Instant.now());
+
+        UUID missingId = UUID.randomUUID();
+        Instant badEnd = other.getStartTime().minus(1, ChronoUnit.HOURS);
+        List<TimeEntryBatchPatchItemDTO> items = List.of(
+                new TimeEntryBatchPatchItemDTO(entry.getId(),
+                        new TimeEntryPatchRequestDTO("Atualizada", null, null, null)),
+                new TimeEntryBatchPatchItemDTO(missingId,
+                        new TimeEntryPatchRequestDTO("Nada", null, null, null)),
+                new TimeEntryBatchPatchItemDTO(other.getId(),
+                        new TimeEntryPatchRequestDTO(null, null, badEnd, null)));
+
+        when(timeEntryRepository.findAllByIdInAndCreatedByIdWithProject(any(), eq(userId)))
+                .thenReturn(List.of(entry, other));
+        when(timeEntryRepository.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        List<TimeEntryPatchResult> results = timeEntryService.patchAll(items, tenantId, userId);
+
+        assertThat(results).extracting(TimeEntryPatchResult::status).containsExactly(
+                TimeEntryPatchStatus.UPDATED, TimeEntryPatchStatus.NOT_FOUND, TimeEntryPatchStatus.INVALID);
+        assertThat(results.get(0).entry().getDescription()).isEqualTo("Atualizada");
+        assertThat(results.get(2).error()).contains("posterior ao de início");
+        assertThat(other.getEndTime()).isNotEqualTo(badEnd);
+        verify(timeEntryRepository, never()).findByIdAndCreatedByIdWithProject(any(), any());
+        verifyNoInteractions(projectService);
+    }
+
+    @Test
+    @DisplayName("patchAll: deve resolver os projetos alterados de uma vez e rejeitar os de outro tenant")
+    void patchAll_resolvesProjectsOnce() {
+        TimeEntry entry = new TimeEntry();
+        entry.setId(UUID.randomUUID());
+        entry.setProject(project);
+        entry.setCreatedBy(user);
+        entry.setStartTime(Instant.now().minus(2, ChronoUnit.HOURS));
+        entry.setEndTime(Instant.now());
+
+        TimeEntry other = new TimeEntry();
+        other.setId(UUID.randomUUID());
+        other.setProject(project);
+        other.setCreatedBy(user);
+        other.setStartTime(Instant.now().minus(1, ChronoUnit.HOURS));
+        other.setEndTime(Instant.now());
+
+        Project target = new Project("Projeto Beta", project.getTenant(), user);
+        target.setId(UUID.randomUUID());
+        UUID foreignProjectId = UUID.randomUUID();
+
+        List<TimeEntryBatchPatchItemDTO> items = List.of(
+                new TimeEntryBatchPatchItemDTO(entry.getId(),
+                        new TimeEntryPatchRequestDTO(null, null, null, target.getId())),
+                new TimeEntryBatchPatchItemDTO(other.getId(),
+                        new TimeEntryPatchRequestDTO(null, null, null, foreignProjectId)));
+
+        when(timeEntryRepository.findAllByIdInAndCreatedByIdWithProject(any(), eq(userId)))
+                .thenReturn(List.of(entry, other));
+        when(projectService.findAllByIdsAndTenantId(any(), eq(tenantId))).thenReturn(List.of(target));
+        when(timeEntryRepository.save(any(TimeEntry.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        List<TimeEntryPatchResult> results = timeEntryService.patchAll(items, tenantId, userId);
+
+        assertThat(results).extracting(TimeEntryPatchResult::status).containsExactly(
+                TimeEntryPatchStatus.UPDATED, TimeEntryPatchStatus.INVALID);
+        assertThat(entry.getProject()).isEqualTo(target);
+        assertThat(other.getProject()).isEqualTo(project);
+
+        // Um único apply depois do flush: o upsert nativo no laço forçaria um flush por item
+        TimeEntryRollupDelta expected = new TimeEntryRollupDelta();
+        expected.subtract(project, userId, entry.getStartTime(), entry.getEndTime());
+        expected.add(entry);
+        ArgumentCaptor<TimeEntryRollupDelta> rollup = ArgumentCaptor.forClass(TimeEntryRollupDelta.class);
+        InOrder order = inOrder(timeEntryRepository, rollupService);
+        order.verify(timeEntryRepository).flush();
+        order.verify(rollupService).apply(rollup.capture());
+        assertThat(rollup.getValue().millisByKey()).isEqualTo(expected.millisByKey());
+        verify(timeEntryRepository, never()).addToDailyRollup(any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("patchAll: deve rejeitar lote acima do limite")
+    void patchAll_tooManyItems() {
+        List<TimeEntryBatchPatchItemDTO> items = Stream
+                .generate(() -> new TimeEntryBatchPatchItemDTO(UUID.randomUUID(),
+                        new TimeEntryPatchRequestDTO("x", null, null, null)))
+                .limit(101)
+                .toList();
+
+        assertThatThrownBy(() -> timeEntryService.patchAll(items, tenantId, userId))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(timeEntryRepository);
+    }
+
     // --- DELETE ---
 
     @Test
@@ -211,6 +550,8 @@ class TimeEntryServiceTest {
         timeEntryService.delete(entry.getId(), userId);
 
         verify(timeEntryRepository).delete(entry);
+        verify(rollupService).subtract(entry.getProject(), userId, entry.getStartTime(), entry.getEndTime());
+        verify(activeTimerRegistry).unregister(userId, entry.getId());
     }
 
     @Test
@@ -0,0 +1,111 @@
+package com.qronis.service;
+
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.application.TimeEntryMapper;
+import com.qronis.modules.tracker.application.TimerEventRegistry;
+import com.qronis.modules.tracker.application.TimerEventType;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimerEventRegistryTest {
+
+    @Mock
+    private TimeEntryMapper timeEntryMapper;
+
+    private TimerEventRegistry timerEventRegistry;
+
+    @BeforeEach
+    void setUp() {
+        timerEventRegistry = new TimerEventRegistry(timeEntryMapper, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("subscribe: deve manter uma assinatura por dispositivo do usuário")
+    void subscribe_multipleDevices() {
+        UUID userId = UUID.randomUUID();
+
+        timerEventRegistry.subscribe(userId, null);
+        timerEventRegistry.subscribe(userId, null);
+        timerEventRegistry.subscribe(UUID.randomUUID(), null);
+
+        assertThat(timerEventRegistry.subscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("publish: deve mapear a entry no momento da publicação")
+    void publish_mapsEntry() {
+        UUID userId = UUID.randomUUID();
+        TimeEntry entry = new TimeEntry();
+        when(timeEntryMapper.toResponse(entry)).thenReturn(response());
+        timerEventRegistry.subscribe(userId, null);
+
+        timerEventRegistry.publish(userId, TimerEventType.STARTED, entry);
+
+        verify(timeEntryMapper).toResponse(entry);
+        assertThat(timerEventRegistry.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("publish: deve remover a assinatura cujo envio falha")
+    void publish_removesFailedEmitter() {
+        UUID userId = UUID.randomUUID();
+        TimeEntry entry = new TimeEntry();
+        when(timeEntryMapper.toResponse(entry)).thenReturn(response());
+        SseEmitter failed = timerEventRegistry.subscribe(userId, null);
+        timerEventRegistry.subscribe(userId, null);
+        failed.complete();
+
+        timerEventRegistry.publish(userId, TimerEventType.STOPPED, entry);
+
+        assertThat(timerEventRegistry.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("publish: deve enviar pelo executor, um envio do usuário por vez e na ordem")
+    void publish_sendsThroughExecutorInOrder() {
+        Queue<Runnable> scheduled = new ArrayDeque<>();
+        TimerEventRegistry registry = new TimerEventRegistry(timeEntryMapper, scheduled::add);
+        UUID userId = UUID.randomUUID();
+        TimeEntry entry = new TimeEntry();
+        when(timeEntryMapper.toResponse(entry)).thenReturn(response());
+        SseEmitter failed = registry.subscribe(userId, null);
+        failed.complete();
+
+        registry.publish(userId, TimerEventType.STARTED, entry);
+        registry.publish(userId, TimerEventType.STOPPED, entry);
+
+        // Só o snapshot foi agendado: os eventos esperam o envio anterior do usuário terminar
+        assertThat(scheduled).hasSize(1);
+        assertThat(registry.subscriberCount()).isEqualTo(1);
+
+        scheduled.poll().run();
+        assertThat(registry.subscriberCount()).isZero();
+        assertThat(scheduled).hasSize(1);
+        scheduled.poll().run();
+        assertThat(scheduled).hasSize(1);
+        scheduled.poll().run();
+        assertThat(scheduled).isEmpty();
+    }
+
+    private static TimeEntryResponseDTO response() {
+        return new TimeEntryResponseDTO(UUID.randomUUID(), "Feature X", Instant.now(), null,
+                UUID.randomUUID(), "Projeto Alpha", Instant.now());
+    }
+}
@@ -0,0 +1,68 @@
+package com.qronis.web;
+
+import com.qronis.shared.web.ETags;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    private static final String ETAG = ETags.of(3L, Instant.parse("2026-03-02T09:00:00Z"));
+
+    @Test
+    @DisplayName("of: deve gerar ETag forte estável e sensível às partes")
+    void of_strongAndStable() {
+        assertThat(ETAG).startsWith("\"").endsWith("\"").hasSize(34);
+        assertThat(ETags.of(3L, Instant.parse("2026-03-02T09:00:00Z"))).isEqualTo(ETAG);
+        assertThat(ETags.of(4L, Instant.parse("2026-03-02T09:00:00Z"))).isNotEqualTo(ETAG);
+    }
+
+    @Test
+    @DisplayName("matches: deve aceitar o ETag exato, com W/ e dentro de uma lista")
+    void matches_exactWeakAndList() {
+        assertThat(ETags.matches(ETAG, ETAG)).isTrue();
+        assertThat(ETags.matches("W/" + ETAG, ETAG)).isTrue();
+        assertThat(ETags.matches("\"outro\", W/" + ETAG, ETAG)).isTrue();
+        assertThat(ETags.matches("\"outro\" ,  " + ETAG + " ", ETAG)).isTrue();
+    }
+
+    @Test
+    @DisplayName("matches: deve aceitar * como qualquer versão")
+    void matches_wildcard() {
+        assertThat(ETags.matches("*", ETAG)).isTrue();
+        assertThat(ETags.matches("\"outro\", *", ETAG)).isTrue();
+    }
+
+    @Test
+    @DisplayName("matches: não deve aceitar ausência, outro ETag ou ETag sem aspas")
+    void matches_miss() {
+        assertThat(ETags.matches(null, ETAG)).isFalse();
+        assertThat(ETags.matches(" ", ETAG)).isFalse();
+        assertThat(ETags.matches("\"outro\", W/\"mais-um\"", ETAG)).isFalse();
+        assertThat(ETags.matches(ETAG.substring(1, ETAG.length() - 1), ETAG)).isFalse();
+    }
+
+    @Test
+    @DisplayName("conditional: deve responder 304 sem montar o corpo quando o ETag bate")
+    void conditional_notModified() {
+        AtomicInteger calls = new AtomicInteger();
+
+        ResponseEntity<String> hit = ETags.conditional(ETAG, ETAG, () -> "corpo" + calls.incrementAndGet());
+        ResponseEntity<String> miss = ETags.conditional("\"outro\"", ETAG, () -> "corpo" + calls.incrementAndGet());
+
+        assertThat(hit.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(hit.getBody()).isNull();
+        assertThat(hit.getHeaders().getETag()).isEqualTo(ETAG);
+        assertThat(miss.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(miss.getBody()).isEqualTo("corpo1");
+        assertThat(miss.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+        assertThat(calls).hasValue(1);
+    }
+}
@@ -0,0 +1,154 @@
+package com.qronis.web;
+
+import com.qronis.modules.tracker.api.TimeEntryController;
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.application.TimeEntryService;
+import com.qronis.shared.web.ScopeVersion;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TimeEntryControllerETagTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final Instant UPDATED_AT = Instant.parse("2026-03-02T10:00:00Z");
+
+    @Mock
+    private TimeEntryService timeEntryService;
+
+    @InjectMocks
+    private TimeEntryController timeEntryController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(timeEntryController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver(),
+                        new PageableHandlerMethodArgumentResolver())
+                .build();
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject(USER_ID.toString())
+                .claim("tenantId", UUID.randomUUID().toString())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("history: deve responder 200 com ETag e o corpo sem If-None-Match")
+    void history_missWithoutHeader() throws Exception {
+        stubVersion(new ScopeVersion(1L, UPDATED_AT));
+        stubPage();
+
+        mockMvc.perform(get("/api/time-entries"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(jsonPath("$.content[0].description").value("Feature X"));
+    }
+
+    @Test
+    @DisplayName("history: deve responder 304 sem consultar a página quando o If-None-Match bate")
+    void history_hitReturnsNotModified() throws Exception {
+        stubVersion(new ScopeVersion(1L, UPDATED_AT));
+        stubPage();
+        String etag = mockMvc.perform(get("/api/time-entries"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/time-entries").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/time-entries").header(HttpHeaders.IF_NONE_MATCH, "\"outro\", W/" + etag))
+                .andExpect(status().isNotModified());
+
+        verify(timeEntryService, times(1))
+                .findByUserIdAndOptionalProjectId(eq(USER_ID), isNull(), any(), any());
+    }
+
+    @Test
+    @DisplayName("history: deve responder 200 quando a versão do escopo mudou")
+    void history_missAfterWrite() throws Exception {
+        when(timeEntryService.getHistoryVersion(eq(USER_ID), isNull(), any()))
+                .thenReturn(new ScopeVersion(1L, UPDATED_AT), new ScopeVersion(1L, UPDATED_AT.plusSeconds(1)));
+        stubPage();
+        String etag = mockMvc.perform(get("/api/time-entries"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/time-entries").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+
+        verify(timeEntryService, times(2))
+                .findByUserIdAndOptionalProjectId(eq(USER_ID), isNull(), any(), any());
+    }
+
+    @Test
+    @DisplayName("history: ETag deve variar com a página pedida")
+    void history_etagPerPage() throws Exception {
+        stubVersion(new ScopeVersion(1L, UPDATED_AT));
+        String etag = mockMvc.perform(get("/api/time-entries").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String nextPage = mockMvc.perform(get("/api/time-entries?page=1").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(nextPage).isNotEqualTo(etag);
+        verify(timeEntryService, never()).findByUserIdAndOptionalProjectId(any(), any(), any(), any());
+    }
+
+    private void stubVersion(ScopeVersion version) {
+        when(timeEntryService.getHistoryVersion(eq(USER_ID), isNull(), any())).thenReturn(version);
+    }
+
+    private void stubPage() {
+        TimeEntryResponseDTO entry = new TimeEntryResponseDTO(UUID.randomUUID(), "Feature X",
+                Instant.parse("2026-03-02T09:00:00Z"), UPDATED_AT, UUID.randomUUID(), "Projeto Alpha", UPDATED_AT);
+        when(timeEntryService.findByUserIdAndOptionalProjectId(eq(USER_ID), isNull(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(entry), PageRequest.of(0, 20), 1));
+    }
+}
@@ -0,0 +1,128 @@
+package com.qronis.web;
+
+import com.qronis.modules.identity.domain.enums.Role;
+import com.qronis.modules.tracker.api.TimeEntryController;
+import com.qronis.modules.tracker.application.TimeEntryExportService;
+import com.qronis.modules.tracker.application.TimeEntryFileFormat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TimeEntryExportControllerTest {
+
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private TimeEntryExportService timeEntryExportService;
+
+    @InjectMocks
+    private TimeEntryController timeEntryController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(timeEntryController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("export: OWNER deve exportar o tenant inteiro")
+    void export_ownerExportsTenant() throws Exception {
+        authenticate(Role.OWNER);
+
+        export("/api/time-entries/export");
+
+        verify(timeEntryExportService).export(eq(TENANT_ID), isNull(), eq(TimeEntryFileFormat.CSV), eq(false),
+                any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("export: MEMBER deve exportar apenas os próprios lançamentos")
+    void export_memberExportsOwnEntries() throws Exception {
+        authenticate(Role.MEMBER);
+
+        export("/api/time-entries/export?format=NDJSON&gzip=true");
+
+        verify(timeEntryExportService).export(eq(TENANT_ID), eq(USER_ID), eq(TimeEntryFileFormat.NDJSON), eq(true),
+                any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("export: deve escrever o arquivo direto na resposta, com timeout próprio")
+    void export_streamsToResponse() throws Exception {
+        authenticate(Role.MEMBER);
+        doAnswer(invocation -> {
+            invocation.getArgument(4, OutputStream.class).write("linha\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(timeEntryExportService).export(any(), any(), any(), eq(false), any());
+
+        MvcResult started = mockMvc.perform(get("/api/time-entries/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(30 * 60 * 1000L);
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"time-entries.csv\""))
+                .andExpect(content().string("linha\n"));
+    }
+
+    private void export(String url) throws Exception {
+        MvcResult started = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+    }
+
+    private static void authenticate(Role role) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject(USER_ID.toString())
+                .claim("tenantId", TENANT_ID.toString())
+                .claim("role", role.name())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+}
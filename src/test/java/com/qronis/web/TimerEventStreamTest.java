@@ -0,0 +1,90 @@
+package com.qronis.web;
+
+import com.qronis.modules.tracker.api.TimeEntryController;
+import com.qronis.modules.tracker.api.dto.TimeEntryResponseDTO;
+import com.qronis.modules.tracker.application.TimeEntryMapper;
+import com.qronis.modules.tracker.application.TimeEntryService;
+import com.qronis.modules.tracker.application.TimerEventRegistry;
+import com.qronis.modules.tracker.application.TimerEventType;
+import com.qronis.modules.tracker.domain.entity.TimeEntry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@ExtendWith(MockitoExtension.class)
+class TimerEventStreamTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private TimeEntryService timeEntryService;
+    @Mock
+    private TimeEntryMapper timeEntryMapper;
+
+    private TimerEventRegistry timerEventRegistry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        timerEventRegistry = new TimerEventRegistry(timeEntryMapper, Runnable::run);
+        TimeEntryController controller = new TimeEntryController(timeEntryService, timeEntryMapper, null, null,
+                null, timerEventRegistry, null, null, null);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject(USER_ID.toString())
+                .claim("tenantId", UUID.randomUUID().toString())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("stream: assinatura registrada deve receber o snapshot e os eventos publicados")
+    void stream_receivesPublishedEvents() throws Exception {
+        when(timeEntryService.findActive(USER_ID)).thenReturn(Optional.empty());
+        TimeEntry entry = new TimeEntry();
+        when(timeEntryMapper.toResponse(entry)).thenReturn(new TimeEntryResponseDTO(UUID.randomUUID(), "Feature X",
+                Instant.parse("2026-03-02T09:00:00Z"), null, UUID.randomUUID(), "Projeto Alpha",
+                Instant.parse("2026-03-02T09:00:00Z")));
+
+        MvcResult result = mockMvc.perform(get("/api/time-entries/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        timerEventRegistry.publish(USER_ID, TimerEventType.STARTED, entry);
+        timerEventRegistry.publish(UUID.randomUUID(), TimerEventType.STOPPED, entry);
+
+        String stream = result.getResponse().getContentAsString();
+        assertThat(stream).contains("event:snapshot", "event:started", "\"description\":\"Feature X\"");
+        assertThat(stream.indexOf("event:snapshot")).isLessThan(stream.indexOf("event:started"));
+        assertThat(stream).doesNotContain("event:stopped");
+        assertThat(timerEventRegistry.subscriberCount()).isEqualTo(1);
+    }
+}